@@ -41,6 +41,7 @@ import {
 import { Sheet, SheetContent, SheetTrigger } from "@/components/ui/sheet";
 import ThemeToggle from "@/components/theme/ThemeToggle";
 import { cn } from "@/lib/utils";
+import { useNotifications } from "@/hooks/use-notifications";
 
 // Helper component for Navigation Menu Items
 const ListItem = React.forwardRef(({ className, title, children, icon, href, ...props }, ref) => {
@@ -75,8 +76,7 @@ export default function AdminNavbar() {
   const navigate = useNavigate();
   const [query, setQuery] = useState("");
   
-  // Mock notification count based on your Notification entity
-  const unreadNotifications = 3; 
+  const { unread: unreadNotifications, items, loadInbox, markRead, markAllRead } = useNotifications();
 
   const handleSearch = (e) => {
     if (e.key === "Enter" && query.trim() !== "") {
@@ -227,7 +227,7 @@ export default function AdminNavbar() {
           <ThemeToggle />
 
           {/* Notifications */}
-          <DropdownMenu>
+          <DropdownMenu onOpenChange={(open) => open && loadInbox()}>
             <DropdownMenuTrigger asChild>
                 <Button variant="ghost" size="icon" className="relative">
                     <Bell className="h-5 w-5" />
@@ -240,16 +240,29 @@ export default function AdminNavbar() {
                 <DropdownMenuLabel>Notifications</DropdownMenuLabel>
                 <DropdownMenuSeparator />
                 <div className="max-h-[300px] overflow-y-auto">
-                    <DropdownMenuItem className="cursor-pointer flex flex-col items-start gap-1 p-3">
-                        <span className="font-medium text-xs">Leave Request: Dr. Smith</span>
-                        <span className="text-xs text-muted-foreground">Requested sick leave for Dec 12.</span>
-                        <span className="text-[10px] text-muted-foreground self-end">2 mins ago</span>
-                    </DropdownMenuItem>
-                    <DropdownMenuItem className="cursor-pointer flex flex-col items-start gap-1 p-3">
-                          <span className="font-medium text-xs">Inventory Alert</span>
-                          <span className="text-xs text-muted-foreground">MRI Machine service due.</span>
-                          <span className="text-[10px] text-muted-foreground self-end">1 hour ago</span>
-                    </DropdownMenuItem>
+                    {items.length === 0 && (
+                        <p className="p-3 text-xs text-muted-foreground">No notifications yet.</p>
+                    )}
+                    {items.map((n) => (
+                        <DropdownMenuItem
+                            key={n.id}
+                            className="cursor-pointer flex flex-col items-start gap-1 p-3"
+                            onClick={() => !n.isRead && markRead(n.id)}
+                        >
+                            <span className={cn("text-xs", !n.isRead && "font-medium")}>{n.message}</span>
+                            <span className="text-[10px] text-muted-foreground self-end">
+                                {new Date(n.createdAt).toLocaleString()}
+                            </span>
+                        </DropdownMenuItem>
+                    ))}
+                    {unreadNotifications > 0 && (
+                        <>
+                            <DropdownMenuSeparator />
+                            <DropdownMenuItem className="cursor-pointer justify-center text-xs" onClick={markAllRead}>
+                                Mark all as read
+                            </DropdownMenuItem>
+                        </>
+                    )}
                 </div>
             </DropdownMenuContent>
           </DropdownMenu>
@@ -44,6 +44,7 @@ import {
 import { Sheet, SheetContent, SheetTrigger } from "@/components/ui/sheet";
 import ThemeToggle from "@/components/theme/ThemeToggle";
 import { cn } from "@/lib/utils";
+import { useNotifications } from "@/hooks/use-notifications";
 
 // Helper component for uniform links
 const ListItem = React.forwardRef(({ className, title, children, icon, href, ...props }, ref) => {
@@ -87,8 +88,7 @@ export default function DoctorNavbar() {
     }
   };
 
-  // Mock notifications based on Notification entity
-  const unreadNotifications = 2; 
+  const { unread: unreadNotifications, items, loadInbox, markRead, markAllRead } = useNotifications();
 
   return (
     <header className="sticky top-0 z-30 flex h-16 items-center gap-4 border-b bg-background/95 backdrop-blur px-6 shadow-sm">
@@ -221,7 +221,7 @@ export default function DoctorNavbar() {
         <ThemeToggle />
 
         {/* 5. Notifications */}
-        <DropdownMenu>
+        <DropdownMenu onOpenChange={(open) => open && loadInbox()}>
             <DropdownMenuTrigger asChild>
                 <Button variant="ghost" size="icon" className="relative text-muted-foreground">
                     <Bell className="h-5 w-5" />
@@ -233,14 +233,29 @@ export default function DoctorNavbar() {
             <DropdownMenuContent align="end" className="w-80">
                 <DropdownMenuLabel>Notifications</DropdownMenuLabel>
                 <DropdownMenuSeparator />
-                <DropdownMenuItem className="cursor-pointer flex flex-col items-start gap-1 p-3">
-                    <span className="font-medium text-xs">New Appointment</span>
-                    <span className="text-xs text-muted-foreground">Patient John Doe booked for 10:00 AM.</span>
-                </DropdownMenuItem>
-                 <DropdownMenuItem className="cursor-pointer flex flex-col items-start gap-1 p-3">
-                    <span className="font-medium text-xs">Shift Change Approved</span>
-                    <span className="text-xs text-muted-foreground">Your request for Friday off was approved.</span>
-                </DropdownMenuItem>
+                {items.length === 0 && (
+                    <p className="p-3 text-xs text-muted-foreground">No notifications yet.</p>
+                )}
+                {items.map((n) => (
+                    <DropdownMenuItem
+                        key={n.id}
+                        className="cursor-pointer flex flex-col items-start gap-1 p-3"
+                        onClick={() => !n.isRead && markRead(n.id)}
+                    >
+                        <span className={cn("text-xs", !n.isRead && "font-medium")}>{n.message}</span>
+                        <span className="text-[10px] text-muted-foreground self-end">
+                            {new Date(n.createdAt).toLocaleString()}
+                        </span>
+                    </DropdownMenuItem>
+                ))}
+                {unreadNotifications > 0 && (
+                    <>
+                        <DropdownMenuSeparator />
+                        <DropdownMenuItem className="cursor-pointer justify-center text-xs" onClick={markAllRead}>
+                            Mark all as read
+                        </DropdownMenuItem>
+                    </>
+                )}
             </DropdownMenuContent>
         </DropdownMenu>
         
@@ -0,0 +1,53 @@
+import * as React from "react"
+import api from "@/lib/axios"
+import { subscribe } from "@/lib/push"
+
+// Unread badge count plus the newest inbox page (fetched when the dropdown opens). The count
+// arrives on the push stream each time it (re)connects and new notifications are pushed as they happen.
+export function useNotifications() {
+  const [unread, setUnread] = React.useState(0)
+  const [items, setItems] = React.useState([])
+
+  const refreshCount = React.useCallback(async () => {
+    try {
+      const res = await api.get("/notification/me/unread-count")
+      setUnread(res.data.count)
+    } catch {
+      // Badge keeps its last value
+    }
+  }, [])
+
+  React.useEffect(() => {
+    const unsubscribers = [
+      subscribe("unread", (data) => setUnread(data.count)),
+      subscribe("notification", (n) => {
+        setUnread((count) => count + 1)
+        setItems((prev) => [{ id: n.id, message: n.message, isRead: false, createdAt: n.createdAt }, ...prev].slice(0, 10))
+      }),
+    ]
+    return () => unsubscribers.forEach((unsubscribe) => unsubscribe())
+  }, [])
+
+  const loadInbox = React.useCallback(async () => {
+    try {
+      const res = await api.get("/notification/me", { params: { size: 10 } })
+      setItems(res.data.items)
+    } catch {
+      setItems([])
+    }
+  }, [])
+
+  const markRead = React.useCallback(async (id) => {
+    await api.put(`/notification/me/${id}/read`)
+    setItems((prev) => prev.map((n) => (n.id === id ? { ...n, isRead: true } : n)))
+    refreshCount()
+  }, [refreshCount])
+
+  const markAllRead = React.useCallback(async () => {
+    await api.put("/notification/me/read-all")
+    setItems((prev) => prev.map((n) => ({ ...n, isRead: true })))
+    setUnread(0)
+  }, [])
+
+  return { unread, items, loadInbox, markRead, markAllRead }
+}
@@ -0,0 +1,16 @@
+import api from "@/lib/axios";
+
+// Admin CSV/XLSX exports (/api/exports/{payroll|attendance|claims}) are streamed by the server;
+// the page only saves the file under the name from Content-Disposition.
+export async function downloadExport(dataset, params = {}) {
+  const res = await api.get(`/api/exports/${dataset}`, { params, responseType: "blob" });
+  const match = /filename="?([^";]+)"?/.exec(res.headers["content-disposition"] || "");
+  const url = window.URL.createObjectURL(res.data);
+  const link = document.createElement("a");
+  link.href = url;
+  link.download = match ? match[1] : `${dataset}.${params.format || "csv"}`;
+  document.body.appendChild(link);
+  link.click();
+  link.remove();
+  setTimeout(() => window.URL.revokeObjectURL(url), 1000);
+}
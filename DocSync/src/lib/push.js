@@ -0,0 +1,39 @@
+import api from "@/lib/axios";
+
+// One shared EventSource per tab for /api/push/stream. Pages subscribe to named events
+// ("notification", "duty-roster", "appointment", "grievance-response", "unread") instead of
+// polling; the browser reconnects on its own and "reconnect" listeners refetch what they show.
+let source = null;
+let hasOpened = false;
+const listeners = new Map();
+
+function dispatch(name, data) {
+  (listeners.get(name) || []).forEach((handler) => handler(data));
+}
+
+function ensureSource() {
+  if (source) return;
+  source = new EventSource(`${api.defaults.baseURL}/api/push/stream`, { withCredentials: true });
+  source.onopen = () => {
+    if (hasOpened) dispatch("reconnect");
+    hasOpened = true;
+  };
+  ["unread", "notification", "duty-roster", "appointment", "grievance-response"].forEach((name) => {
+    source.addEventListener(name, (e) => dispatch(name, JSON.parse(e.data)));
+  });
+}
+
+export function subscribe(name, handler) {
+  ensureSource();
+  if (!listeners.has(name)) listeners.set(name, new Set());
+  listeners.get(name).add(handler);
+  return () => {
+    listeners.get(name).delete(handler);
+    const active = [...listeners.values()].some((set) => set.size > 0);
+    if (!active && source) {
+      source.close();
+      source = null;
+      hasOpened = false;
+    }
+  };
+}
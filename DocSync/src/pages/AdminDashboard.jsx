@@ -85,9 +85,10 @@ export default function AdminDashboard() {
   const [lastUpdated, setLastUpdated] = useState(new Date());
   
   // Data State
-  const [doctors, setDoctors] = useState([]);
-  const [departments, setDepartments] = useState([]);
-  const [pendingApprovals, setPendingApprovals] = useState(0);
+  const [summary, setSummary] = useState(null); // server-side aggregates
+  const [doctors, setDoctors] = useState([]);   // directory rows (first page, or everyone once searching)
+  const [allDoctorsLoaded, setAllDoctorsLoaded] = useState(false);
+  const pendingApprovals = summary?.pendingLeaveRequests ?? 0;
 
   // Filter State
   const [searchQuery, setSearchQuery] = useState("");
@@ -107,15 +108,15 @@ export default function AdminDashboard() {
     setError(null);
 
     try {
-      const [doctorsRes, pendingLeavesRes, departmentsRes] = await Promise.all([
-        api.get("/doctor"),
-        api.get("/api/leave-requests/status?val=PENDING"),
-        api.get("/departments"),
+      // One aggregate call for the KPIs and charts; the directory only needs its first page
+      const [summaryRes, doctorsRes] = await Promise.all([
+        api.get("/api/dashboard/admin"),
+        api.get("/doctor/page", { params: { size: 10 } }),
       ]);
 
-      setDoctors(doctorsRes.data);
-      setDepartments(departmentsRes.data);
-      setPendingApprovals(pendingLeavesRes.data.length);
+      setSummary(summaryRes.data);
+      setDoctors(doctorsRes.data.items || []);
+      setAllDoctorsLoaded(false);
       
       setLastUpdated(new Date()); 
 
@@ -133,6 +134,17 @@ export default function AdminDashboard() {
     fetchDashboardData();
   }, []);
 
+  // Searching needs the whole directory; fetch it only once the admin actually types
+  useEffect(() => {
+    if (!searchQuery || allDoctorsLoaded) return;
+    api.get("/doctor")
+      .then((res) => {
+        setDoctors(Array.isArray(res.data) ? res.data : []);
+        setAllDoctorsLoaded(true);
+      })
+      .catch((err) => console.error(err));
+  }, [searchQuery, allDoctorsLoaded]);
+
   // --- Filter Logic ---
   const filteredDoctors = useMemo(() => {
     if (!searchQuery) return doctors;
@@ -146,35 +158,20 @@ export default function AdminDashboard() {
   }, [doctors, searchQuery]);
 
   // --- Chart Data Preparation ---
-  const departmentChartData = useMemo(() => {
-    const counts = {};
-    filteredDoctors.forEach(doc => {
-      const name = doc.department?.name || "Unassigned";
-      counts[name] = (counts[name] || 0) + 1;
-    });
-    return Object.keys(counts).map(key => ({ name: key, value: counts[key] }));
-  }, [filteredDoctors]);
+  const departmentChartData = useMemo(() => 
+    (summary?.doctorsByDepartment || []).map(d => ({ name: d.name, value: d.count }))
+  , [summary]);
 
+  // Server sends hires per "YYYY-MM"; the chart shows the running headcount
   const growthChartData = useMemo(() => {
-    const sortedDocs = [...doctors]
-        .filter(d => d.hireDate)
-        .sort((a, b) => new Date(a.hireDate) - new Date(b.hireDate));
-
-    const timeline = {};
     let runningTotal = 0;
-
-    sortedDocs.forEach(doc => {
-        const date = new Date(doc.hireDate);
-        const key = date.toLocaleDateString('en-US', { month: 'short', year: '2-digit' });
-        runningTotal += 1;
-        timeline[key] = runningTotal;
+    return (summary?.hiresPerMonth || []).map(({ name, count }) => {
+        runningTotal += count;
+        const [year, month] = name.split("-").map(Number);
+        const date = new Date(year, month - 1, 1).toLocaleDateString('en-US', { month: 'short', year: '2-digit' });
+        return { date, total: runningTotal };
     });
-
-    return Object.keys(timeline).map(date => ({
-        date,
-        total: timeline[date]
-    }));
-  }, [doctors]);
+  }, [summary]);
 
 
   if (isLoading) return <LoadingPage />;
@@ -226,7 +223,7 @@ export default function AdminDashboard() {
       <div className="grid gap-4 grid-cols-2 lg:grid-cols-4">
         <StatsCard 
           title="Total Doctors" 
-          value={doctors.length} 
+          value={summary?.totalDoctors ?? 0} 
           sub="Registered Staff" 
           icon={Users}
           gradient="from-blue-50 to-indigo-50 dark:from-blue-950/40 dark:to-indigo-950/40"
@@ -235,7 +232,7 @@ export default function AdminDashboard() {
         />
         <StatsCard 
           title="Departments" 
-          value={departments.length} 
+          value={summary?.departmentCount ?? 0} 
           sub="Medical Units" 
           icon={Building2} 
           gradient="from-emerald-50 to-teal-50 dark:from-emerald-950/40 dark:to-teal-950/40"
@@ -253,9 +250,9 @@ export default function AdminDashboard() {
           iconColor="text-amber-600 dark:text-amber-400"
         />
         <StatsCard 
-          title="System Health" 
-          value="99.9%" 
-          sub="Operational" 
+          title="Open Grievances" 
+          value={summary?.openGrievances ?? 0} 
+          sub={`${summary?.equipmentInUse ?? 0} equipment items in use`} 
           icon={TrendingUp} 
           gradient="from-violet-50 to-fuchsia-50 dark:from-violet-950/40 dark:to-fuchsia-950/40"
           border="border-violet-500"
@@ -23,6 +23,7 @@ import {
 
 import { useAuth } from "@/context/AuthContext";
 import api from "@/lib/axios";
+import { subscribe } from "@/lib/push";
 import LoadingPage from "./LoadingPage";
 
 // UI Components
@@ -56,37 +57,19 @@ export default function DoctorDashboard() {
 
   // --- Data Fetching ---
   useEffect(() => {
-    const fetchDashboardData = async () => {
+    const fetchDashboardData = async (silent = false) => {
       if (!user?.username) return;
 
       try {
-        setIsLoading(true);
+        if (!silent) setIsLoading(true);
 
-        // 1. Get Doctor Details
-        const docRes = await api.get(`/doctor/email/${user.username}`);
-        const doctorId = docRes.data.id;
+        // Today's appointments, next duties and counts, already filtered for the signed-in doctor.
+        // The endpoint sends an ETag, so the browser revalidates polls with If-None-Match.
+        const todayRes = await api.get("/api/dashboard/doctor/today");
+        const today = todayRes.data;
 
-        // 2. Parallel Fetching
-        const [patientsRes, appointmentsRes, rosterRes] = await Promise.all([
-          api.get("/api/patients"),
-          api.get(`/appointments/doctor/${doctorId}/upcoming`),
-          api.get(`/api/duty-rosters/doctor/${doctorId}`)
-        ]);
-
-        // --- Process Appointments ---
-        const todayStr = new Date().toISOString().split('T')[0]; 
-        
-        const allUpcoming = appointmentsRes.data;
-        const todaysAppts = allUpcoming.filter(app => 
-            app.appointmentTime.startsWith(todayStr)
-        ).sort((a, b) => new Date(a.appointmentTime) - new Date(b.appointmentTime));
-
-        // --- Process Roster ---
-        const sortedRoster = rosterRes.data
-            .filter(r => r.dutyDate >= todayStr)
-            .sort((a, b) => new Date(a.dutyDate) - new Date(b.dutyDate));
-        
-        const nextShift = sortedRoster.length > 0 ? sortedRoster[0] : null;
+        const todaysAppts = today.appointmentsToday || [];
+        const nextShift = today.upcomingRosters?.length > 0 ? today.upcomingRosters[0] : null;
 
         // --- Mock Chart Data ---
         const chartMock = [
@@ -99,9 +82,9 @@ export default function DoctorDashboard() {
         ];
 
         setDashboardData({
-            totalPatients: patientsRes.data.length,
+            totalPatients: today.totalPatients,
             appointmentsToday: todaysAppts,
-            appointmentCount: allUpcoming.length,
+            appointmentCount: today.upcomingAppointmentCount,
             nextDuty: nextShift,
             pendingReports: 3, 
             activityStats: chartMock
@@ -112,11 +95,20 @@ export default function DoctorDashboard() {
       } finally {
         // Add a small delay if you want to force the loading animation to play for at least 800ms
         // otherwise it might flicker too fast on local dev
-        setTimeout(() => setIsLoading(false), 800);
+        if (!silent) setTimeout(() => setIsLoading(false), 800);
       }
     };
 
     fetchDashboardData();
+    // Refetch when the server pushes a change to this doctor's appointments or rosters
+    // (unchanged data costs a 304); the slow poll only covers a stream that is down
+    const refresh = () => fetchDashboardData(true);
+    const unsubscribers = ["appointment", "duty-roster", "reconnect"].map((name) => subscribe(name, refresh));
+    const poll = setInterval(refresh, 300000);
+    return () => {
+      clearInterval(poll);
+      unsubscribers.forEach((unsubscribe) => unsubscribe());
+    };
   }, [user]);
 
   // --- RENDER LOADING PAGE ---
@@ -2,10 +2,11 @@
 import React, { useState } from "react";
 import { format } from "date-fns";
 import { 
-  ShieldCheck, FileText, CheckCircle2, XCircle, AlertCircle 
+  ShieldCheck, FileText, CheckCircle2, XCircle, AlertCircle, Download
 } from "lucide-react";
 import { toast } from "sonner";
 import api from "@/lib/axios";
+import { downloadExport } from "@/lib/exportDownload";
 import { Button } from "@/components/ui/button";
 import {
   Table, TableBody, TableCell, TableHead, TableHeader, TableRow,
@@ -57,6 +58,14 @@ export default function ClaimsTab({ claims, loading, onRefresh }) {
     }
   };
 
+  const handleExport = async (exportFormat) => {
+    try {
+        await downloadExport("claims", { format: exportFormat });
+    } catch (error) {
+        toast.error("Failed to export claims.");
+    }
+  };
+
   return (
     <div className="space-y-4">
       {/* KPI Cards */}
@@ -95,6 +104,15 @@ export default function ClaimsTab({ claims, loading, onRefresh }) {
           </Card>
       </div>
 
+      <div className="flex justify-end gap-2">
+          <Button variant="outline" size="sm" onClick={() => handleExport("csv")}>
+              <Download className="mr-2 h-4 w-4" /> CSV
+          </Button>
+          <Button variant="outline" size="sm" onClick={() => handleExport("xlsx")}>
+              <Download className="mr-2 h-4 w-4" /> Excel
+          </Button>
+      </div>
+
       {/* Table */}
       <div className="rounded-md border bg-card">
         <Table>
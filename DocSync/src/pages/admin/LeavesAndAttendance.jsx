@@ -9,10 +9,12 @@ import {
   AlertCircle,
   Search,
   Loader2,
-  Filter
+  Filter,
+  Download
 } from "lucide-react";
 import { toast } from "sonner";
 import api from "@/lib/axios";
+import { downloadExport } from "@/lib/exportDownload";
 
 // Shadcn UI Components
 import { Button } from "@/components/ui/button";
@@ -73,6 +75,17 @@ export default function LeavesAndAttendance() {
     fetchData();
   }, []);
 
+  // Current month's attendance, streamed as a file by the server
+  const handleExportAttendance = async () => {
+    const now = new Date();
+    try {
+      await downloadExport("attendance", { format: "csv", month: now.getMonth() + 1, year: now.getFullYear() });
+    } catch (error) {
+      console.error(error);
+      toast.error("Failed to export attendance.");
+    }
+  };
+
   // Handle Leave Approval
   const handleApprove = async (id) => {
     try {
@@ -332,9 +345,14 @@ export default function LeavesAndAttendance() {
                         onChange={(e) => setSearchTerm(e.target.value)}
                     />
                 </div>
-                <Button variant="outline" onClick={fetchData}>
-                    <Clock className="mr-2 h-4 w-4" /> Refresh Logs
-                </Button>
+                <div className="flex items-center gap-2">
+                    <Button variant="outline" onClick={handleExportAttendance}>
+                        <Download className="mr-2 h-4 w-4" /> Export CSV
+                    </Button>
+                    <Button variant="outline" onClick={fetchData}>
+                        <Clock className="mr-2 h-4 w-4" /> Refresh Logs
+                    </Button>
+                </div>
             </div>
 
             <div className="rounded-md border bg-card">
@@ -197,9 +197,13 @@ export default function Patients() {
 
     setIsSaving(true);
     try {
-      // POST /api/patients/batch
-      await api.post("/api/patients/batch", csvStats.preview);
-      toast.success(`Successfully imported ${csvStats.total} patients.`);
+      // POST /api/patients/batch -> 201 all saved, 207 partially saved (report lists the failed rows)
+      const { data: report } = await api.post("/api/patients/batch", csvStats.preview);
+      if (report.rejected > 0 || !report.complete) {
+        toast.warning(`Imported ${report.inserted} of ${report.received} patients; ${report.rejected} rows were rejected.`);
+      } else {
+        toast.success(`Successfully imported ${report.inserted} patients.`);
+      }
       setIsCsvDialogOpen(false);
       fetchPatients();
     } catch (error) {
@@ -11,10 +11,13 @@ import {
   Pencil,
   Trash2,
   Calculator,
-  User
+  User,
+  PlayCircle,
+  Download
 } from "lucide-react";
 import { toast } from "sonner";
 import api from "@/lib/axios";
+import { downloadExport } from "@/lib/exportDownload";
 
 // Shadcn UI Components
 import { Button } from "@/components/ui/button";
@@ -74,6 +77,7 @@ export default function Payroll() {
   const [isPayrollDialogOpen, setIsPayrollDialogOpen] = useState(false);
   const [isSalaryDialogOpen, setIsSalaryDialogOpen] = useState(false);
   const [isSaving, setIsSaving] = useState(false);
+  const [runStatus, setRunStatus] = useState(null); // whole-month payroll run in progress
   
   // Edit Mode State
   const [currentPayrollId, setCurrentPayrollId] = useState(null); // If set, we are editing
@@ -189,6 +193,41 @@ export default function Payroll() {
     }
   };
 
+  // Computes the selected month for every doctor server-side, then polls the job until it finishes
+  const handleRunMonth = async () => {
+    if (!confirm(`Run payroll for all doctors for ${selectedMonth} ${selectedYear}? Doctors already paid are skipped.`)) return;
+    try {
+      const res = await api.post("/api/payrolls/runs", null, { params: { month: selectedMonth, year: selectedYear } });
+      let status = res.data;
+      setRunStatus(status);
+      while (status.state === "QUEUED" || status.state === "RUNNING") {
+        await new Promise((r) => setTimeout(r, 1000));
+        status = (await api.get(`/api/payrolls/runs/${status.jobId}`)).data;
+        setRunStatus(status);
+      }
+      if (status.state === "COMPLETED") {
+        toast.success(`Payroll run finished: ${status.inserted} created, ${status.skipped} already processed.`);
+      } else {
+        toast.error(status.error || "Payroll run failed.");
+      }
+      fetchData();
+    } catch (error) {
+      console.error(error);
+      toast.error("Failed to start payroll run.");
+    } finally {
+      setRunStatus(null);
+    }
+  };
+
+  const handleExport = async (exportFormat) => {
+    try {
+      await downloadExport("payroll", { format: exportFormat, month: selectedMonth, year: selectedYear });
+    } catch (error) {
+      console.error(error);
+      toast.error("Failed to export payroll.");
+    }
+  };
+
   const handleDeletePayroll = async (id) => {
     if(!confirm("Are you sure you want to delete this payroll record?")) return;
     try {
@@ -341,9 +380,24 @@ export default function Payroll() {
                          />
                     </div>
                 </div>
-                <Button onClick={() => { resetPayrollForm(); setIsPayrollDialogOpen(true); }}>
-                    <Plus className="mr-2 h-4 w-4" /> Process Payroll
-                </Button>
+                <div className="flex items-center gap-2">
+                    <Button variant="outline" onClick={() => handleExport("csv")}>
+                        <Download className="mr-2 h-4 w-4" /> CSV
+                    </Button>
+                    <Button variant="outline" onClick={() => handleExport("xlsx")}>
+                        <Download className="mr-2 h-4 w-4" /> Excel
+                    </Button>
+                    <Button variant="outline" onClick={handleRunMonth} disabled={!!runStatus}>
+                        {runStatus ? (
+                            <><Loader2 className="mr-2 h-4 w-4 animate-spin" /> {runStatus.processed}/{runStatus.totalDoctors || "…"}</>
+                        ) : (
+                            <><PlayCircle className="mr-2 h-4 w-4" /> Run Month</>
+                        )}
+                    </Button>
+                    <Button onClick={() => { resetPayrollForm(); setIsPayrollDialogOpen(true); }}>
+                        <Plus className="mr-2 h-4 w-4" /> Process Payroll
+                    </Button>
+                </div>
             </div>
 
             {/* Table */}
@@ -1,4 +1,4 @@
-import React, { useEffect, useState } from "react";
+import React, { useEffect, useRef, useState } from "react";
 import {
   Clock,
   MoreHorizontal,
@@ -44,9 +44,14 @@ export default function TimeSheet() {
   const [todayRecord, setTodayRecord] = useState(null);
   const [attendanceStatus, setAttendanceStatus] = useState("IDLE"); // IDLE, CHECKED_IN, COMPLETED
   const [currentTime, setCurrentTime] = useState(new Date());
+  const [isSubmitting, setIsSubmitting] = useState(false);
+  // One Idempotency-Key per intended check-in/out: double taps and retries resend it, success clears it
+  const pendingKeys = useRef({});
+  const keyFor = (action) => (pendingKeys.current[action] ??= crypto.randomUUID());
 
   // Overtime State
   const [overtimeRecords, setOvertimeRecords] = useState([]);
+  const [totals, setTotals] = useState(null); // server-side rollup totals
   const [isOvertimeModalOpen, setIsOvertimeModalOpen] = useState(false);
   const [formData, setFormData] = useState({});
 
@@ -94,6 +99,10 @@ export default function TimeSheet() {
       const otRes = await api.get("/overtimerecord");
       setOvertimeRecords(otRes.data.filter(rec => rec.doctor?.id === doctorData.id));
 
+      // 4. Summary totals come pre-aggregated from the attendance rollups
+      const totalsRes = await api.get(`/attendance/rollups/doctor/${doctorData.id}/totals`);
+      setTotals(totalsRes.data);
+
     } catch (error) {
       console.error("Failed to fetch timesheet data:", error);
     } finally {
@@ -109,7 +118,8 @@ export default function TimeSheet() {
   // --- Handlers: Attendance ---
 
   const handleCheckIn = async () => {
-    if (!currentDoctor) return;
+    if (!currentDoctor || isSubmitting) return;
+    setIsSubmitting(true);
     try {
         const todayStr = new Date().toISOString().split('T')[0];
         const payload = {
@@ -117,22 +127,33 @@ export default function TimeSheet() {
             date: todayStr,
             status: "Present" // Default status
         };
-        await api.post("/attendance/check-in", payload);
+        await api.post("/attendance/check-in", payload, {
+            headers: { "Idempotency-Key": keyFor("checkIn") }
+        });
+        delete pendingKeys.current.checkIn;
         fetchData(); // Refresh state
     } catch (err) {
         console.error("Check-in failed:", err);
         alert("Failed to check in. Please try again.");
+    } finally {
+        setIsSubmitting(false);
     }
   };
 
   const handleCheckOut = async () => {
-    if (!currentDoctor) return;
+    if (!currentDoctor || isSubmitting) return;
+    setIsSubmitting(true);
     try {
-        await api.put(`/attendance/check-out/${currentDoctor.id}`);
+        await api.put(`/attendance/check-out/${currentDoctor.id}`, null, {
+            headers: { "Idempotency-Key": keyFor("checkOut") }
+        });
+        delete pendingKeys.current.checkOut;
         fetchData(); // Refresh state
     } catch (err) {
         console.error("Check-out failed:", err);
         alert("Failed to check out. Please try again.");
+    } finally {
+        setIsSubmitting(false);
     }
   };
 
@@ -227,14 +248,14 @@ export default function TimeSheet() {
                 {/* Actions */}
                 <div className="flex items-center gap-4">
                     {attendanceStatus === 'IDLE' && (
-                        <Button size="lg" onClick={handleCheckIn} className="w-full sm:w-auto bg-green-600 hover:bg-green-700 text-white shadow-md transition-all hover:scale-105">
+                        <Button size="lg" onClick={handleCheckIn} disabled={isSubmitting} className="w-full sm:w-auto bg-green-600 hover:bg-green-700 text-white shadow-md transition-all hover:scale-105">
                             <PlayCircle className="mr-2 h-5 w-5" /> Check In
                         </Button>
                     )}
                     
                     {attendanceStatus === 'CHECKED_IN' && (
                         <div className="flex flex-col sm:flex-row w-full sm:w-auto gap-4 items-center">
-                            <Button size="lg" onClick={handleCheckOut} variant="destructive" className="w-full sm:w-auto shadow-md transition-all hover:scale-105">
+                            <Button size="lg" onClick={handleCheckOut} disabled={isSubmitting} variant="destructive" className="w-full sm:w-auto shadow-md transition-all hover:scale-105">
                                 <StopCircle className="mr-2 h-5 w-5" /> Check Out
                             </Button>
                             <span className="text-sm text-muted-foreground">
@@ -276,7 +297,7 @@ export default function TimeSheet() {
                         <CalendarDays className="h-5 w-5" />
                     </div>
                     <div>
-                        <p className="text-2xl font-bold">{attendanceHistory.length}</p>
+                        <p className="text-2xl font-bold">{totals?.daysPresent ?? 0}</p>
                         <p className="text-xs text-muted-foreground">Days Worked</p>
                     </div>
                 </div>
@@ -285,7 +306,7 @@ export default function TimeSheet() {
                         <Clock className="h-5 w-5" />
                     </div>
                     <div>
-                        <p className="text-2xl font-bold">{overtimeRecords.reduce((acc, curr) => acc + curr.hours, 0)}</p>
+                        <p className="text-2xl font-bold">{totals?.overtimeHours ?? 0}</p>
                         <p className="text-xs text-muted-foreground">Overtime Hours</p>
                     </div>
                 </div>
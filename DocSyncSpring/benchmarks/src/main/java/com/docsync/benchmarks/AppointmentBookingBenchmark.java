@@ -0,0 +1,98 @@
+package com.docsync.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.service.AppointmentService;
+
+/**
+ * AppointmentService.createAppointment: the doctor row lock plus the interval overlap
+ * COUNT, for a booking that is rejected and for one that succeeds, as the doctor's
+ * calendar grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppointmentBookingBenchmark {
+
+    @Param({"100", "5000"})
+    int existingAppointments;
+
+    private AppointmentService appointmentService;
+    private Long doctorId;
+    private LocalDateTime firstSlot;
+    private final AtomicLong freeSlot = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void seed() {
+        appointmentService = BenchContext.bean(AppointmentService.class);
+        Doctor doctor = BenchData.doctors(1, List.of()).get(0);
+        doctorId = doctor.getId();
+
+        // Back-to-back 30 minute bookings, 16 per day
+        firstSlot = LocalDate.now().plusDays(1).atTime(8, 0);
+        List<Appointment> calendar = new ArrayList<>();
+        for (int i = 0; i < existingAppointments; i++) {
+            LocalDateTime start = firstSlot.plusDays(i / 16).plusMinutes(30L * (i % 16));
+            Appointment appointment = new Appointment();
+            appointment.setDoctor(doctor);
+            appointment.setAppointmentTime(start);
+            appointment.setDurationMinutes(30);
+            appointment.setAppointmentEnd(start.plusMinutes(30));
+            appointment.setStatus("SCHEDULED");
+            calendar.add(appointment);
+        }
+        BenchContext.bean(AppointmentRepository.class).saveAll(calendar);
+    }
+
+    @Benchmark
+    public boolean rejectOverlappingBooking() {
+        // Starts 10 minutes into an existing booking in the middle of the calendar
+        LocalDateTime start = firstSlot.plusDays(existingAppointments / 32).plusMinutes(10);
+        try {
+            appointmentService.createAppointment(newAppointment(start));
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public Appointment bookFreeSlot() {
+        // Far past the seeded calendar, one fresh slot per invocation
+        LocalDateTime start = LocalDate.of(2100, 1, 1).atStartOfDay().plusMinutes(30 * freeSlot.getAndIncrement());
+        return appointmentService.createAppointment(newAppointment(start));
+    }
+
+    private Appointment newAppointment(LocalDateTime start) {
+        Appointment appointment = new Appointment();
+        appointment.setDoctor(BenchData.ref(doctorId));
+        appointment.setAppointmentTime(start);
+        appointment.setDurationMinutes(30);
+        appointment.setStatus("SCHEDULED");
+        return appointment;
+    }
+}
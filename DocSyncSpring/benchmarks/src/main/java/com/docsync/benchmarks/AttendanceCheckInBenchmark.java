@@ -0,0 +1,95 @@
+package com.docsync.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.service.AttendanceService;
+
+/**
+ * AttendanceService.checkIn. A doctor can check in once per day, so the morning rush is
+ * measured as one batch of SHIFT_SIZE first check-ins per iteration (today's rows are
+ * cleared between iterations); the repeat check-in rejection is measured separately.
+ */
+@Fork(1)
+public class AttendanceCheckInBenchmark {
+
+    static final int SHIFT_SIZE = 500;
+
+    @State(Scope.Benchmark)
+    public static class Shift {
+        AttendanceService attendanceService;
+        AttendanceRepository attendanceRepository;
+        List<Doctor> staff;
+        int next;
+
+        @Setup(Level.Trial)
+        public void seed() {
+            attendanceService = BenchContext.bean(AttendanceService.class);
+            attendanceRepository = BenchContext.bean(AttendanceRepository.class);
+            staff = BenchData.doctors(SHIFT_SIZE, BenchData.departments(4));
+        }
+
+        @Setup(Level.Iteration)
+        public void newDay() {
+            attendanceRepository.deleteAllInBatch();
+            next = 0;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CheckedIn {
+        AttendanceService attendanceService;
+        Long doctorId;
+
+        @Setup(Level.Trial)
+        public void seed() {
+            attendanceService = BenchContext.bean(AttendanceService.class);
+            doctorId = BenchData.doctors(1, List.of()).get(0).getId();
+            AttendanceRecord record = new AttendanceRecord();
+            record.setDoctor(BenchData.ref(doctorId));
+            attendanceService.checkIn(record, null);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = SHIFT_SIZE)
+    @Measurement(iterations = 10, batchSize = SHIFT_SIZE)
+    public AttendanceRecord morningCheckIns(Shift shift) {
+        AttendanceRecord record = new AttendanceRecord();
+        record.setDoctor(BenchData.ref(shift.staff.get(shift.next++).getId()));
+        return shift.attendanceService.checkIn(record, null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public boolean rejectRepeatCheckIn(CheckedIn state) {
+        AttendanceRecord record = new AttendanceRecord();
+        record.setDoctor(BenchData.ref(state.doctorId));
+        try {
+            state.attendanceService.checkIn(record, null);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.docsync.benchmarks;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.docsync.app.DocSyncSpringApplication;
+
+/**
+ * One application context per JMH fork, backed by an in-memory H2 database in MySQL mode.
+ * Command-line style arguments are used because they override the application.properties
+ * packaged in the main jar.
+ */
+final class BenchContext {
+
+    private static final String[] ARGS = {
+        "--spring.datasource.url=jdbc:h2:mem:docsync-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--spring.jpa.properties.hibernate.show_sql=false",
+        "--spring.jpa.properties.hibernate.format_sql=false",
+        "--db.index-advisor.enabled=false",
+        "--server.port=0",
+        "--file.upload-dir=target/bench-uploads",
+        "--logging.level.root=WARN",
+        "--logging.level.org.springframework.security=WARN",
+    };
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchContext() {
+    }
+
+    static ConfigurableApplicationContext get() {
+        return get(new String[0]);
+    }
+
+    // extraArgs only apply to the first call in a fork, which creates the context
+    static synchronized ConfigurableApplicationContext get(String... extraArgs) {
+        if (context == null) {
+            String[] args = Stream.concat(Stream.of(ARGS), Stream.of(extraArgs)).toArray(String[]::new);
+            context = new SpringApplicationBuilder(DocSyncSpringApplication.class).run(args);
+        }
+        return context;
+    }
+
+    static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+}
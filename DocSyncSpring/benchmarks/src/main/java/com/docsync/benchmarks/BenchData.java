@@ -0,0 +1,53 @@
+package com.docsync.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.docsync.app.bean.Department;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.DepartmentRepository;
+import com.docsync.app.dao.DoctorRepository;
+
+// Seed helpers shared by the benchmarks; every fork starts from an empty schema
+final class BenchData {
+
+    private BenchData() {
+    }
+
+    static List<Department> departments(int count) {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Department department = new Department();
+            department.setName("Department " + i);
+            department.setDescription("Benchmark department " + i);
+            departments.add(department);
+        }
+        return BenchContext.bean(DepartmentRepository.class).saveAll(departments);
+    }
+
+    static List<Doctor> doctors(int count, List<Department> departments) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Doctor doctor = new Doctor();
+            doctor.setFirstName("Bench" + i);
+            doctor.setLastName("Doctor");
+            doctor.setEmail("bench-" + run + "-" + i + "@docsync.test");
+            doctor.setSpecialization(i % 2 == 0 ? "Cardiology" : "Neurology");
+            doctor.setStatus("ACTIVE");
+            if (!departments.isEmpty()) {
+                doctor.setDepartment(departments.get(i % departments.size()));
+            }
+            doctors.add(doctor);
+        }
+        return BenchContext.bean(DoctorRepository.class).saveAll(doctors);
+    }
+
+    // A bare reference is all the services need; they load the managed entity themselves
+    static Doctor ref(Long doctorId) {
+        Doctor doctor = new Doctor();
+        doctor.setId(doctorId);
+        return doctor;
+    }
+}
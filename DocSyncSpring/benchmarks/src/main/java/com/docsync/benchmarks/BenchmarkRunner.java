@@ -0,0 +1,47 @@
+package com.docsync.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks, writes JMH JSON to jmh.out/results.json and, when
+ * jmh.baseline points at an earlier results.json, a Markdown comparison next to it.
+ * Exits with status 2 if any benchmark regressed by more than jmh.regression-threshold percent.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String include = System.getProperty("jmh.include", ".*");
+        Path outDir = Path.of(System.getProperty("jmh.out", "target/jmh"));
+        String baseline = System.getProperty("jmh.baseline", "");
+        double threshold = Double.parseDouble(System.getProperty("jmh.regression-threshold", "10"));
+
+        Files.createDirectories(outDir);
+        Path results = outDir.resolve("results.json");
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .shouldFailOnError(true)
+                .build();
+        new Runner(options).run();
+
+        if (!baseline.isBlank()) {
+            Path report = outDir.resolve("comparison.md");
+            int regressions = ResultComparison.write(Path.of(baseline), results, report, threshold);
+            System.out.println(Files.readString(report));
+            if (regressions > 0) {
+                System.exit(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.docsync.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.DutyRoster;
+import com.docsync.app.bean.Patient;
+import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.dao.DutyRosterRepository;
+import com.docsync.app.dao.PatientRepository;
+import com.docsync.app.service.AuthTokenService;
+
+/**
+ * HTTP load against the running app: each operation fires {@code clients} concurrent GETs at one
+ * endpoint through the real servlet stack (security filter, DB limiter, JPA, Jackson) and waits for
+ * all of them, so the score is the wall time of one burst. Compares platform threads
+ * (Tomcat pool of 50) with virtual threads on the same 10-connection Hikari pool.
+ * Requests shed by the DB concurrency limiter (503) are reported as the "rejected" counter.
+ * The forks run with -Djdk.tracePinnedThreads=short, so any carrier pinning is printed.
+ *
+ *   ./mvnw -f benchmarks/pom.xml package exec:exec -Djmh.include=EndpointLoad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class EndpointLoadBenchmark {
+
+    private static final int ROWS = 2_000;
+
+    @Param({"false", "true"})
+    boolean virtualThreads;
+
+    @Param({"100", "1000"})
+    int clients;
+
+    private HttpClient http;
+    private String baseUrl;
+    private String bearer;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long ok;
+        public long rejected;
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        ConfigurableApplicationContext context = BenchContext.get(
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--db.concurrency.limit-enabled=true",
+                "--server.tomcat.threads.max=50",
+                "--server.tomcat.accept-count=2000",
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--auth.mode=stateless");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        bearer = "Bearer " + context.getBean(AuthTokenService.class).issue("bench-admin@docsync.test", "ADMIN", 1L, null).value();
+        seed();
+        http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    private void seed() {
+        List<Doctor> doctors = BenchData.doctors(20, BenchData.departments(4));
+        List<Patient> patients = new ArrayList<>();
+        List<Appointment> appointments = new ArrayList<>();
+        List<DutyRoster> rosters = new ArrayList<>();
+        LocalDateTime firstSlot = LocalDate.now().plusDays(1).atTime(8, 0);
+        for (int i = 0; i < ROWS; i++) {
+            Patient patient = new Patient();
+            patient.setFirstName("Load" + i);
+            patient.setLastName("Patient");
+            patient.setEmail("load-" + i + "@docsync.test");
+            patient.setPhone("555-" + String.format("%04d", i));
+            patients.add(patient);
+        }
+        patients = BenchContext.bean(PatientRepository.class).saveAll(patients);
+        for (int i = 0; i < ROWS; i++) {
+            Doctor doctor = doctors.get(i % doctors.size());
+            LocalDateTime start = firstSlot.plusDays(i / 320).plusMinutes(30L * ((i / doctors.size()) % 16));
+            Appointment appointment = new Appointment();
+            appointment.setDoctor(doctor);
+            appointment.setPatient(patients.get(i));
+            appointment.setAppointmentTime(start);
+            appointment.setDurationMinutes(30);
+            appointment.setAppointmentEnd(start.plusMinutes(30));
+            appointment.setStatus("SCHEDULED");
+            appointments.add(appointment);
+
+            DutyRoster roster = new DutyRoster();
+            roster.setDoctor(doctor);
+            roster.setDutyDate(LocalDate.now().plusDays(i / doctors.size()));
+            roster.setShift(i % 2 == 0 ? "MORNING" : "EVENING");
+            roster.setDutyType("OPD");
+            rosters.add(roster);
+        }
+        BenchContext.bean(AppointmentRepository.class).saveAll(appointments);
+        BenchContext.bean(DutyRosterRepository.class).saveAll(rosters);
+    }
+
+    @Benchmark
+    public int appointmentsPage(Outcomes outcomes) {
+        return burst("/appointments/page?size=50", outcomes);
+    }
+
+    @Benchmark
+    public int patientsPage(Outcomes outcomes) {
+        return burst("/api/patients/page?size=50", outcomes);
+    }
+
+    @Benchmark
+    public int rostersPage(Outcomes outcomes) {
+        return burst("/api/duty-rosters/page?size=50", outcomes);
+    }
+
+    private int burst(String path, Outcomes outcomes) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", bearer)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        List<CompletableFuture<HttpResponse<Void>>> inFlight = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            inFlight.add(http.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : inFlight) {
+            int status = response.join().statusCode();
+            if (status == 200) {
+                ok++;
+            } else if (status == 503) {
+                outcomes.rejected++;
+            } else {
+                throw new IllegalStateException(path + " answered " + status);
+            }
+        }
+        outcomes.ok += ok;
+        return ok;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        http.close();
+    }
+}
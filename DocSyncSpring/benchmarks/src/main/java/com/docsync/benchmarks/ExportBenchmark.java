@@ -0,0 +1,155 @@
+package com.docsync.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.ExportRepository.Dataset;
+import com.docsync.app.service.ExportFormat;
+import com.docsync.app.service.ExportService;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Attendance export of {@code rows} rows through ExportService into a byte-counting sink. Next to
+ * the time, each iteration prints how far the heap grew over the pre-export baseline as seen after
+ * every GC during the export (the live set, not garbage): it should be the same few MB for 100k
+ * and 1M rows. The seeded table itself lives in the in-memory H2 heap and is part of the baseline.
+ *
+ *   ./mvnw -f benchmarks/pom.xml package exec:exec -Djmh.include=Export
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExportBenchmark {
+
+    private static final int DOCTORS = 1_000;
+
+    // H2: one INSERT ... SELECT instead of a million round trips
+    private static final String SEED_SQL =
+            "INSERT INTO attendance_records (doctor_id, date, status, check_in, check_out) " +
+            "SELECT ? + MOD(X, ?), DATEADD(DAY, -CAST(X / ? AS INT), CURRENT_DATE), " +
+            "CASE WHEN MOD(X, 17) = 0 THEN 'LATE' ELSE 'PRESENT' END, TIME '09:00:00', TIME '17:30:00' " +
+            "FROM SYSTEM_RANGE(0, ?)";
+
+    @Param({"100000", "1000000"})
+    int rows;
+
+    @Param({"csv", "xlsx"})
+    String format;
+
+    private ExportService exportService;
+    private ExportFormat exportFormat;
+
+    private final AtomicLong maxHeapAfterGc = new AtomicLong();
+    private final NotificationListener gcListener = this::onGc;
+    private long baseline;
+    private long worstGrowth;
+    private long bytes;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        BenchContext.get();
+        exportService = BenchContext.bean(ExportService.class);
+        exportFormat = ExportFormat.parse(format);
+        List<Doctor> doctors = BenchData.doctors(DOCTORS, BenchData.departments(8));
+        // saveAll on a fresh schema hands out consecutive identity values
+        long firstId = doctors.stream().mapToLong(Doctor::getId).min().orElseThrow();
+        BenchContext.bean(JdbcTemplate.class).update(SEED_SQL, firstId, DOCTORS, DOCTORS, rows - 1);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).addNotificationListener(gcListener, null, null);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        worstGrowth = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void measureBaseline() {
+        System.gc();
+        baseline = heapUsed();
+        maxHeapAfterGc.set(0);
+    }
+
+    @Benchmark
+    public long exportAttendance() throws IOException {
+        ByteCounter out = new ByteCounter();
+        exportService.export(Dataset.ATTENDANCE, exportFormat, ExportService.filter(null, null, null, null))
+                .writeTo(out);
+        worstGrowth = Math.max(worstGrowth, maxHeapAfterGc.get() - baseline);
+        bytes = out.count;
+        return out.count;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n  %s rows=%d: %.1f MB written, heap after GC at most %.1f MB above baseline%n",
+                format, rows, bytes / 1048576.0, Math.max(worstGrowth, 0) / 1048576.0);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws Exception {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).removeNotificationListener(gcListener);
+        }
+    }
+
+    private void onGc(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long used = info.getGcInfo().getMemoryUsageAfterGc().values().stream().mapToLong(MemoryUsage::getUsed).sum();
+        maxHeapAfterGc.accumulateAndGet(used, Math::max);
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static final class ByteCounter extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.docsync.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.Department;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.InsuranceClaim;
+import com.docsync.app.bean.InsuranceProvider;
+import com.docsync.app.bean.Patient;
+import com.docsync.app.bean.PatientInsurancePolicy;
+import com.docsync.app.dto.AppointmentView;
+import com.docsync.app.dto.InsuranceClaimView;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * JSON encoding of the widest list payloads with the application's own ObjectMapper:
+ * fully populated entity graphs versus the projection views the list endpoints return.
+ * Pure CPU; no database access happens inside the measured methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "500"})
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private List<InsuranceClaim> claims;
+    private List<InsuranceClaimView> claimViews;
+    private List<Appointment> appointments;
+    private List<AppointmentView> appointmentViews;
+
+    @Setup(Level.Trial)
+    public void build() {
+        objectMapper = BenchContext.bean(ObjectMapper.class);
+        claims = new ArrayList<>();
+        claimViews = new ArrayList<>();
+        appointments = new ArrayList<>();
+        appointmentViews = new ArrayList<>();
+
+        Department department = new Department();
+        department.setId(1L);
+        department.setName("Cardiology");
+        department.setDescription("Heart and vascular care, outpatient and inpatient");
+        InsuranceProvider provider = new InsuranceProvider();
+        provider.setId(1L);
+        provider.setProviderName("Star Health");
+        provider.setContactNumber("+91 44 2828 8800");
+        provider.setEmail("claims@starhealth.test");
+        provider.setWebsite("https://starhealth.test");
+        provider.setAddress("1 Valluvar Kottam High Road, Chennai");
+        provider.setSupportContactPerson("Claims Desk");
+
+        for (long i = 1; i <= rows; i++) {
+            Doctor doctor = new Doctor();
+            doctor.setId(i);
+            doctor.setFirstName("Anita");
+            doctor.setLastName("Raman " + i);
+            doctor.setEmail("anita.raman" + i + "@docsync.test");
+            doctor.setPhone("+91 98400 " + (10000 + i));
+            doctor.setSpecialization("Cardiology");
+            doctor.setDepartment(department);
+            doctor.setHireDate(LocalDate.of(2015, 6, 1));
+            doctor.setStatus("ACTIVE");
+
+            Patient patient = new Patient();
+            patient.setId(i);
+            patient.setFirstName("Ravi");
+            patient.setLastName("Kumar " + i);
+            patient.setEmail("ravi.kumar" + i + "@mail.test");
+            patient.setPhone("+91 99620 " + (20000 + i));
+            patient.setDateOfBirth(LocalDate.of(1980, 3, 14));
+            patient.setGender("Male");
+            patient.setAddress("12 Gandhi Street, Kochi, Kerala 682001");
+            patient.setBloodGroup("B+");
+            patient.setEmergencyContactName("Lakshmi Kumar");
+            patient.setEmergencyContactPhone("+91 99620 30000");
+            patient.setCreatedAt(LocalDateTime.of(2024, 1, 2, 9, 30));
+
+            Appointment appointment = new Appointment();
+            appointment.setId(i);
+            appointment.setDoctor(doctor);
+            appointment.setPatient(patient);
+            appointment.setAppointmentTime(LocalDateTime.of(2025, 3, 1, 9, 0).plusMinutes(30 * i));
+            appointment.setDurationMinutes(30);
+            appointment.setAppointmentEnd(appointment.getAppointmentTime().plusMinutes(30));
+            appointment.setStatus("SCHEDULED");
+            appointment.setNotes("Follow-up for hypertension; review ECG and lipid panel.");
+            appointments.add(appointment);
+
+            PatientInsurancePolicy policy = new PatientInsurancePolicy();
+            policy.setId(i);
+            policy.setPatient(patient);
+            policy.setProvider(provider);
+            policy.setPolicyNumber("POL-" + (100000 + i));
+            policy.setGroupNumber("GRP-42");
+            policy.setPolicyHolderName("Ravi Kumar " + i);
+            policy.setRelationshipToPatient("Self");
+            policy.setPlanName("Family Floater Gold");
+            policy.setCoPayAmount(new BigDecimal("500.00"));
+            policy.setCoInsurancePercent(new BigDecimal("10.00"));
+            policy.setValidFrom(LocalDate.of(2024, 4, 1));
+            policy.setValidUntil(LocalDate.of(2026, 3, 31));
+
+            InsuranceClaim claim = new InsuranceClaim();
+            claim.setId(i);
+            claim.setAppointment(appointment);
+            claim.setPatientInsurancePolicy(policy);
+            claim.setClaimReferenceNumber("CLM-" + (500000 + i));
+            claim.setSubmissionDate(LocalDateTime.of(2025, 3, 2, 10, 0));
+            claim.setTotalBillAmount(new BigDecimal("4200.00"));
+            claim.setClaimedAmount(new BigDecimal("3700.00"));
+            claim.setStatus("SUBMITTED");
+            claims.add(claim);
+
+            appointmentViews.add(new AppointmentView(appointment.getId(), appointment.getAppointmentTime(),
+                    appointment.getDurationMinutes(), appointment.getAppointmentEnd(), appointment.getStatus(),
+                    appointment.getNotes(), doctor.getId(), doctor.getFirstName(), doctor.getLastName(),
+                    doctor.getSpecialization(), department.getId(), department.getName(), patient.getId(),
+                    patient.getFirstName(), patient.getLastName(), patient.getEmail(), patient.getPhone()));
+            claimViews.add(new InsuranceClaimView(claim.getId(), claim.getClaimReferenceNumber(),
+                    claim.getSubmissionDate(), null, claim.getTotalBillAmount(), claim.getClaimedAmount(), null, null,
+                    claim.getStatus(), null, appointment.getId(), appointment.getAppointmentTime(),
+                    appointment.getStatus(), doctor.getId(), doctor.getFirstName(), doctor.getLastName(),
+                    doctor.getSpecialization(), department.getId(), department.getName(), patient.getId(),
+                    patient.getFirstName(), patient.getLastName(), policy.getId(), policy.getPolicyNumber(),
+                    policy.getPlanName(), patient.getId(), patient.getFirstName(), patient.getLastName(),
+                    provider.getId(), provider.getProviderName()));
+        }
+    }
+
+    @Benchmark
+    public byte[] claimEntities() {
+        return objectMapper.writeValueAsBytes(claims);
+    }
+
+    @Benchmark
+    public byte[] claimViews() {
+        return objectMapper.writeValueAsBytes(claimViews);
+    }
+
+    @Benchmark
+    public byte[] appointmentEntities() {
+        return objectMapper.writeValueAsBytes(appointments);
+    }
+
+    @Benchmark
+    public byte[] appointmentViews() {
+        return objectMapper.writeValueAsBytes(appointmentViews);
+    }
+}
@@ -0,0 +1,91 @@
+package com.docsync.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.OrgChart;
+import com.docsync.app.bean.Promotion;
+import com.docsync.app.dao.OrgChartRepository;
+import com.docsync.app.dao.PromotionRepository;
+import com.docsync.app.dto.OrgChartGraph;
+import com.docsync.app.service.OrgChartGraphEngine;
+import com.docsync.app.service.OrgChartService;
+
+/**
+ * OrgChartService.getRawGraphData, served from the cache and rebuilt from the
+ * set-based queries after an invalidation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrgChartBenchmark {
+
+    @Param({"200", "2000"})
+    int doctors;
+
+    private OrgChartService orgChartService;
+    private OrgChartGraphEngine graphEngine;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        orgChartService = BenchContext.bean(OrgChartService.class);
+        graphEngine = BenchContext.bean(OrgChartGraphEngine.class);
+
+        List<Doctor> staff = BenchData.doctors(doctors, BenchData.departments(12));
+
+        // Five direct reports per manager; every other doctor has two promotions
+        List<OrgChart> edges = new ArrayList<>();
+        List<Promotion> promotions = new ArrayList<>();
+        for (int i = 0; i < staff.size(); i++) {
+            OrgChart edge = new OrgChart();
+            edge.setDoctor(staff.get(i));
+            edge.setManager(i == 0 ? null : staff.get((i - 1) / 5));
+            edges.add(edge);
+            if (i % 2 == 0) {
+                promotions.add(promotion(staff.get(i), "Resident", "Senior Resident", LocalDate.now().minusYears(2)));
+                promotions.add(promotion(staff.get(i), "Senior Resident", "Consultant", LocalDate.now().minusMonths(3)));
+            }
+        }
+        BenchContext.bean(OrgChartRepository.class).saveAll(edges);
+        BenchContext.bean(PromotionRepository.class).saveAll(promotions);
+    }
+
+    @Benchmark
+    public OrgChartGraph cachedGraph() {
+        return orgChartService.getRawGraphData();
+    }
+
+    @Benchmark
+    public OrgChartGraph rebuiltGraph() {
+        graphEngine.invalidate();
+        return orgChartService.getRawGraphData();
+    }
+
+    private static Promotion promotion(Doctor doctor, String oldTitle, String newTitle, LocalDate date) {
+        Promotion promotion = new Promotion();
+        promotion.setDoctor(doctor);
+        promotion.setOldTitle(oldTitle);
+        promotion.setNewTitle(newTitle);
+        promotion.setPromotionDate(date);
+        return promotion;
+    }
+}
@@ -0,0 +1,83 @@
+package com.docsync.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.Payroll;
+import com.docsync.app.service.PayrollService;
+
+import jakarta.persistence.EntityExistsException;
+
+/**
+ * PayrollService.createPayroll: duplicate check, doctor load, net salary and insert,
+ * plus the duplicate-rejection path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollBenchmark {
+
+    private static final String[] MONTHS = {
+        "January", "February", "March", "April", "May", "June",
+        "July", "August", "September", "October", "November", "December"
+    };
+
+    private PayrollService payrollService;
+    private List<Doctor> staff;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void seed() {
+        payrollService = BenchContext.bean(PayrollService.class);
+        staff = BenchData.doctors(100, BenchData.departments(4));
+        payrollService.createPayroll(payroll(staff.get(0).getId(), "January", 2000));
+    }
+
+    @Benchmark
+    public Payroll createPayroll() {
+        // Every (doctor, month, year) combination is new
+        int n = sequence.getAndIncrement();
+        int perYear = staff.size() * MONTHS.length;
+        Long doctorId = staff.get(n % staff.size()).getId();
+        String month = MONTHS[(n / staff.size()) % MONTHS.length];
+        return payrollService.createPayroll(payroll(doctorId, month, 2100 + n / perYear));
+    }
+
+    @Benchmark
+    public boolean rejectDuplicatePayroll() {
+        try {
+            payrollService.createPayroll(payroll(staff.get(0).getId(), "January", 2000));
+            return true;
+        } catch (EntityExistsException e) {
+            return false;
+        }
+    }
+
+    private static Payroll payroll(Long doctorId, String month, int year) {
+        Payroll payroll = new Payroll();
+        payroll.setDoctor(BenchData.ref(doctorId));
+        payroll.setMonth(month);
+        payroll.setYear(year);
+        payroll.setGrossSalary(new BigDecimal("125000.00"));
+        payroll.setDeductions(new BigDecimal("18250.50"));
+        return payroll;
+    }
+}
@@ -0,0 +1,89 @@
+package com.docsync.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Diffs two JMH JSON result files into a Markdown table that can be pasted into a review.
+ * Rows are matched on benchmark name + parameters; time modes regress when the score goes up,
+ * throughput when it goes down.
+ */
+final class ResultComparison {
+
+    private record Score(String mode, double score, double error, String unit) {
+    }
+
+    private ResultComparison() {
+    }
+
+    static int write(Path baselineFile, Path currentFile, Path report, double thresholdPercent) throws IOException {
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> current = read(currentFile);
+
+        StringBuilder md = new StringBuilder();
+        md.append("| Benchmark | Mode | Baseline | Current | Change |\n");
+        md.append("|---|---|---:|---:|---:|\n");
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null || before.score() == 0) {
+                md.append(row(entry.getKey(), now, "—", "new"));
+                continue;
+            }
+            double change = (now.score() - before.score()) / before.score() * 100;
+            boolean lowerIsBetter = !"thrpt".equals(now.mode());
+            double worse = lowerIsBetter ? change : -change;
+            String flag = "";
+            if (worse > thresholdPercent) {
+                flag = " ⚠️";
+                regressions++;
+            }
+            md.append(row(entry.getKey(), now, format(before),
+                    String.format(Locale.ROOT, "%+.1f%%%s", change, flag)));
+        }
+        md.append('\n').append(regressions).append(" regression(s) above ")
+                .append(thresholdPercent).append("%\n");
+        Files.writeString(report, md.toString());
+        return regressions;
+    }
+
+    private static String row(String name, Score now, String baseline, String change) {
+        return "| " + name + " | " + now.mode() + " | " + baseline + " | " + format(now) + " | " + change + " |\n";
+    }
+
+    private static String format(Score s) {
+        return String.format(Locale.ROOT, "%.3f ± %.3f %s", s.score(), s.error(), s.unit());
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(Files.readString(file));
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : root) {
+            String name = result.get("benchmark").asString();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+            Map<String, String> params = new TreeMap<>();
+            JsonNode paramsNode = result.get("params");
+            if (paramsNode != null) {
+                paramsNode.properties().forEach(p -> params.put(p.getKey(), p.getValue().asString()));
+            }
+            if (!params.isEmpty()) {
+                name += " " + params;
+            }
+            JsonNode metric = result.get("primaryMetric");
+            scores.put(name, new Score(result.get("mode").asString(),
+                    metric.get("score").asDouble(),
+                    metric.get("scoreError").asDouble(),
+                    metric.get("scoreUnit").asString()));
+        }
+        return scores;
+    }
+}
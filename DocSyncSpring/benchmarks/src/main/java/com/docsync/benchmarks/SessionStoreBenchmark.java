@@ -0,0 +1,97 @@
+package com.docsync.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import com.docsync.app.config.OffHeapSessionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Session I/O added to one authenticated request, as SessionRepositoryFilter does it:
+ * findById, bump lastAccessedTime, save. Compares the default JDBC store (H2 here, so
+ * the real MySQL gap is larger) with the off-heap store writing on every request
+ * (touch interval 0) and with lazy last-access writes (60s).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionStoreBenchmark {
+
+    private static final int SESSIONS = 1_000;
+
+    @Param({"jdbc", "offheap-eager", "offheap-lazy"})
+    public String store;
+
+    private SessionRepository<Session> repository;
+    private final List<String> ids = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void seed() {
+        repository = switch (store) {
+            case "jdbc" -> (SessionRepository<Session>) BenchContext.bean(SessionRepository.class);
+            case "offheap-eager" -> offHeap(Duration.ZERO);
+            case "offheap-lazy" -> offHeap(Duration.ofSeconds(60));
+            default -> throw new IllegalArgumentException(store);
+        };
+        // Roughly what a logged-in DocSync session holds: the security context
+        SecurityContextImpl context = new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                "doctor@docsync.test", null, List.of(new SimpleGrantedAuthority("ROLE_DOCTOR"))));
+        for (int i = 0; i < SESSIONS; i++) {
+            Session session = repository.createSession();
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+            repository.save(session);
+            ids.add(session.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws Exception {
+        if (repository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    public Session authenticatedRequest() {
+        Session session = repository.findById(ids.get(ThreadLocalRandom.current().nextInt(SESSIONS)));
+        session.setLastAccessedTime(Instant.now());
+        repository.save(session);
+        return session;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionRepository<Session> offHeap(Duration touchInterval) {
+        SessionRepository<?> repo = new OffHeapSessionRepository(256L * 1024 * 1024, touchInterval,
+                Duration.ofMinutes(30), new SimpleMeterRegistry());
+        return (SessionRepository<Session>) repo;
+    }
+}
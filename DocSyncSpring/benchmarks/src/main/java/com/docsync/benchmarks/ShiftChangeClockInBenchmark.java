@@ -0,0 +1,88 @@
+package com.docsync.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.service.AttendanceService;
+
+/**
+ * A shift change: SHIFT_SIZE doctors check in at the same moment, one virtual thread each.
+ * "direct" is one INSERT + rollup upserts per check-in; "batched" (attendance.check-in.mode)
+ * coalesces them through ClockInBatcher. The score is the wall time until every check-in returned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ShiftChangeClockInBenchmark {
+
+    static final int SHIFT_SIZE = 500;
+
+    @Param({"direct", "batched"})
+    String mode;
+
+    private AttendanceService attendanceService;
+    private AttendanceRepository attendanceRepository;
+    private List<Doctor> staff;
+    private ExecutorService clients;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        BenchContext.get("--attendance.check-in.mode=" + mode);
+        attendanceService = BenchContext.bean(AttendanceService.class);
+        attendanceRepository = BenchContext.bean(AttendanceRepository.class);
+        staff = BenchData.doctors(SHIFT_SIZE, BenchData.departments(4));
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Setup(Level.Iteration)
+    public void newDay() {
+        attendanceRepository.deleteAllInBatch();
+    }
+
+    @Benchmark
+    public int shiftChange() throws Exception {
+        List<Future<AttendanceRecord>> checkIns = new ArrayList<>(SHIFT_SIZE);
+        for (Doctor doctor : staff) {
+            checkIns.add(clients.submit(() -> {
+                AttendanceRecord record = new AttendanceRecord();
+                record.setDoctor(BenchData.ref(doctor.getId()));
+                return attendanceService.checkIn(record, "bench-" + doctor.getId());
+            }));
+        }
+        int done = 0;
+        for (Future<AttendanceRecord> checkIn : checkIns) {
+            checkIn.get();
+            done++;
+        }
+        return done;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        clients.close();
+    }
+}
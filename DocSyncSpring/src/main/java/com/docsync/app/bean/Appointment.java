@@ -4,36 +4,56 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments",
+       indexes = @Index(name = "idx_appointments_doctor_time", columnList = "doctor_id, appointment_time"))
 @Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @EnableJpaAuditing
 public class Appointment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "doctor_id")
     private Doctor doctor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "patient_id")
     private Patient patient;
 
     @Column(name = "appointment_time")
     private LocalDateTime appointmentTime;
 
+    // Length of the slot; null means the configured default (appointments.default-duration-minutes)
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes;
+
+    // appointmentTime + duration, maintained by AppointmentService for overlap checks
+    @Column(name = "appointment_end")
+    private LocalDateTime appointmentEnd;
+
     @Column(length = 50)
     private String status;
 
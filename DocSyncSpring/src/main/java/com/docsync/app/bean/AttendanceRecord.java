@@ -5,8 +5,11 @@ import java.time.LocalTime;
 
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -14,8 +17,11 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
+// One row per doctor and day: uk_attendance_doctor_date (db/migration/V2)
 @Table(name = "attendance_records")
 @Data
 @EnableJpaAuditing
@@ -24,7 +30,9 @@ public class AttendanceRecord {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "doctor_id")
     private Doctor doctor;
 
@@ -38,4 +46,13 @@ public class AttendanceRecord {
 
     @Column(name = "check_out")
     private LocalTime checkOut;
+
+    // Idempotency-Key of the check-in / check-out that wrote the row; a retry with the same key is answered from it
+    @JsonIgnore
+    @Column(name = "check_in_key", length = 64)
+    private String checkInKey;
+
+    @JsonIgnore
+    @Column(name = "check_out_key", length = 64)
+    private String checkOutKey;
 }
@@ -0,0 +1,58 @@
+package com.docsync.app.bean;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+/**
+ * Per-doctor attendance/overtime totals for one day, ISO week (starting Monday) or month.
+ * Maintained incrementally by AttendanceRollupService on every attendance and overtime write.
+ */
+@Entity
+@Table(name = "attendance_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_doctor_period",
+                columnNames = {"doctor_id", "period_type", "period_start"}),
+        indexes = @Index(name = "idx_rollup_period", columnList = "period_type, period_start"))
+@Data
+public class AttendanceRollup {
+
+    public static final String DAY = "DAY";
+    public static final String WEEK = "WEEK";
+    public static final String MONTH = "MONTH";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "doctor_id", nullable = false)
+    private Long doctorId;
+
+    @Column(name = "period_type", length = 10, nullable = false)
+    private String periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "worked_minutes", nullable = false)
+    private long workedMinutes;
+
+    @Column(name = "overtime_hours", nullable = false)
+    private long overtimeHours;
+
+    @Column(name = "days_present", nullable = false)
+    private int daysPresent;
+
+    @Column(name = "late_arrivals", nullable = false)
+    private int lateArrivals;
+
+    @Column(nullable = false)
+    private int absences;
+}
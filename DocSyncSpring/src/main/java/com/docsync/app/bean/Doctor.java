@@ -4,10 +4,13 @@ import java.time.LocalDate;
 
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import com.docsync.app.config.SearchIndexListener;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,10 +18,14 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
 @Table(name = "doctors")
+@EntityListeners(SearchIndexListener.class)
 @Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @EnableJpaAuditing
 public class Doctor {
     @Id
@@ -40,7 +47,9 @@ public class Doctor {
     @Column(length = 150)
     private String specialization;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "department_id")
     
     private Department department;
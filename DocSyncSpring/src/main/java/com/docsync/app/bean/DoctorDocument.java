@@ -6,16 +6,21 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
-@Table(name = "doctor_documents")
+@Table(name = "doctor_documents",
+       indexes = @Index(name = "idx_doctor_documents_content_hash", columnList = "content_hash"))
 @Data
 @EnableJpaAuditing
 public class DoctorDocument {
@@ -23,7 +28,9 @@ public class DoctorDocument {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "doctor_id")
     private Doctor doctor;
 
@@ -33,9 +40,17 @@ public class DoctorDocument {
     @Column(name = "document_type", length = 100)
     private String documentType;
 
+    // Only set for files uploaded before the DocumentStore; newer rows use contentHash
     @Column(name = "file_path")
     private String filePath;
 
+    // DocumentStore key (hex SHA-256); identical uploads share one stored copy
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
     @Column(name = "uploaded_at")
     private LocalDateTime uploadedAt;
 }
\ No newline at end of file
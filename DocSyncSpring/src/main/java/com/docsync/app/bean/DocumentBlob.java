@@ -0,0 +1,22 @@
+package com.docsync.app.bean;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Lock row per DocumentStore key; uploads and deletes of the same bytes serialize on it
+@Entity
+@Table(name = "document_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+}
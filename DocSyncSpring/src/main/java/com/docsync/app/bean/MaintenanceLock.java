@@ -0,0 +1,24 @@
+package com.docsync.app.bean;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row per guarded job (seeded by db/migration); writers lock it shared, the job locks it exclusive
+@Entity
+@Table(name = "maintenance_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceLock {
+
+    public static final String ATTENDANCE_ROLLUPS = "attendance_rollups";
+
+    @Id
+    @Column(length = 50)
+    private String name;
+}
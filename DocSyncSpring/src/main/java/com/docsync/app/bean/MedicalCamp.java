@@ -4,6 +4,8 @@ import java.time.LocalDate;
 
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +17,7 @@ import lombok.Data;
 @Entity
 @Table(name = "medical_camps")
 @Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @EnableJpaAuditing
 public class MedicalCamp {
     @Id
@@ -0,0 +1,48 @@
+package com.docsync.app.bean;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * A domain event written in the same transaction as the change that caused it, so it exists
+ * if and only if that change committed. NotificationDispatcher turns pending rows into
+ * Notification rows and stamps dispatchedAt. An event that keeps failing on its own is parked
+ * (left pending, no longer picked up) once failedAttempts reaches notification.outbox.max-attempts.
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_pending", columnList = "dispatched_at, id"))
+@Data
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    // Resolved to the doctor's login at dispatch time
+    @Column(name = "recipient_doctor_id")
+    private Long recipientDoctorId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    @Column(name = "failed_attempts", nullable = false)
+    private int failedAttempts;
+}
@@ -0,0 +1,156 @@
+package com.docsync.app.config;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caps in-flight requests at a multiple of the Hikari pool size. With virtual threads Tomcat no
+ * longer bounds concurrency, and thousands of requests would otherwise pile up inside Hikari's
+ * getConnection() until they hit connectionTimeout. Here they wait on a fair semaphore for at most
+ * {@code db.concurrency.acquire-timeout} and are then turned away with 503 + Retry-After.
+ * Runs ahead of the Spring Session filter, which reads the session table on every request.
+ * A request that goes async (StreamingResponseBody: NDJSON streams, exports) keeps its permit
+ * until the async request completes, since that is when its cursor and connection are released.
+ * The push stream is the exception: an SSE connection stays open for minutes without touching the
+ * database, so it gives its permit back once the handshake returns.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "db.concurrency.limit-enabled", havingValue = "true")
+public class DatabaseConcurrencyLimiter extends OncePerRequestFilter {
+
+    // SSE connections (PushController)
+    private static final String PUSH_PREFIX = "/api/push/";
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final long acquireTimeoutMillis;
+    private final Counter rejected;
+
+    public DatabaseConcurrencyLimiter(DataSource dataSource, MeterRegistry registry,
+                                      @Value("${db.concurrency.max-in-flight:0}") int maxInFlight,
+                                      @Value("${db.concurrency.requests-per-connection:4}") int requestsPerConnection,
+                                      @Value("${db.concurrency.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : poolSize(dataSource) * requestsPerConnection;
+        this.permits = new Semaphore(this.maxInFlight, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        log.info("Limiting in-flight requests to {}", this.maxInFlight);
+
+        Gauge.builder("docsync.db.limiter.in_flight", permits, p -> this.maxInFlight - p.availablePermits())
+                .register(registry);
+        Gauge.builder("docsync.db.limiter.waiting", permits, Semaphore::getQueueLength)
+                .register(registry);
+        this.rejected = Counter.builder("docsync.db.limiter.rejected")
+                .description("Requests answered 503 because no permit freed up within the acquire timeout")
+                .register(registry);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            // fall through to Hikari's default
+        }
+        return 10;
+    }
+
+    // Health probes must answer even when the app is saturated
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("text/plain");
+            response.getWriter().write("Server is busy, please retry shortly");
+            return;
+        }
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted() && !request.getRequestURI().startsWith(PUSH_PREFIX)) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    // Timeout and error are followed by complete, so the permit is released exactly once
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        // A handler that restarts async processing drops its listeners; stay registered
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
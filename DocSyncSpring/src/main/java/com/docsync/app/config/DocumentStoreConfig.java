@@ -0,0 +1,53 @@
+package com.docsync.app.config;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.docsync.app.service.DocumentStore;
+import com.docsync.app.service.LocalDocumentStore;
+import com.docsync.app.service.S3DocumentStore;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+// documents.store=local (default) keeps files under file.upload-dir; documents.store=s3 uses documents.s3.*
+@Configuration
+public class DocumentStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "documents.store", havingValue = "local", matchIfMissing = true)
+    public DocumentStore localDocumentStore(@Value("${file.upload-dir}") String uploadDir) {
+        return new LocalDocumentStore(Paths.get(uploadDir));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "documents.store", havingValue = "s3")
+    public DocumentStore s3DocumentStore(@Value("${documents.s3.bucket}") String bucket,
+                                         @Value("${documents.s3.prefix:documents/}") String prefix,
+                                         @Value("${documents.s3.region:us-east-1}") String region,
+                                         @Value("${documents.s3.endpoint:}") String endpoint,
+                                         @Value("${documents.s3.access-key:}") String accessKey,
+                                         @Value("${documents.s3.secret-key:}") String secretKey,
+                                         @Value("${file.upload-dir}") String uploadDir) {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+        if (!endpoint.isBlank()) {
+            // MinIO and most other stand-ins only support path-style addressing
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        builder.credentialsProvider(accessKey.isBlank()
+                ? DefaultCredentialsProvider.builder().build()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        Path spoolDir = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(".tmp");
+        return new S3DocumentStore(builder.build(), bucket, prefix, spoolDir);
+    }
+}
@@ -0,0 +1,89 @@
+package com.docsync.app.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes Hibernate's session-factory statistics (hibernate.generate_statistics=true).
+ * docsync.hibernate.entities.fetched counts lazy proxy/association initialisations, so a
+ * rate that tracks request volume points at N+1 loading; the L2 and query-cache hit
+ * ratios show whether the second-level cache is earning its keep.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        counter(registry, stats, "docsync.hibernate.statements.prepared", Statistics::getPrepareStatementCount);
+        counter(registry, stats, "docsync.hibernate.queries.executed", Statistics::getQueryExecutionCount);
+        counter(registry, stats, "docsync.hibernate.entities.loaded", Statistics::getEntityLoadCount);
+        counter(registry, stats, "docsync.hibernate.entities.fetched", Statistics::getEntityFetchCount);
+        counter(registry, stats, "docsync.hibernate.collections.fetched", Statistics::getCollectionFetchCount);
+        counter(registry, stats, "docsync.hibernate.transactions", Statistics::getTransactionCount);
+        counter(registry, stats, "docsync.hibernate.l2.hits", Statistics::getSecondLevelCacheHitCount);
+        counter(registry, stats, "docsync.hibernate.l2.misses", Statistics::getSecondLevelCacheMissCount);
+        counter(registry, stats, "docsync.hibernate.l2.puts", Statistics::getSecondLevelCachePutCount);
+
+        Gauge.builder("docsync.hibernate.l2.hit.ratio", stats,
+                        s -> ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()))
+                .register(registry);
+        Gauge.builder("docsync.hibernate.query_cache.hit.ratio", stats,
+                        s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+                .register(registry);
+        Gauge.builder("docsync.hibernate.query.max.time", stats, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query since startup, in milliseconds")
+                .register(registry);
+
+        // Per-region hits/misses for the reference-data caches (@Cache regions) and the query cache
+        List<String> regions = new ArrayList<>(List.of(stats.getSecondLevelCacheRegionNames()));
+        regions.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        for (String region : regions) {
+            if (stats.getCacheRegionStatistics(region) == null) {
+                continue;
+            }
+            regionCounter(registry, stats, "docsync.hibernate.cache.region.hits", region, CacheRegionStatistics::getHitCount);
+            regionCounter(registry, stats, "docsync.hibernate.cache.region.misses", region, CacheRegionStatistics::getMissCount);
+            regionCounter(registry, stats, "docsync.hibernate.cache.region.puts", region, CacheRegionStatistics::getPutCount);
+            Gauge.builder("docsync.hibernate.cache.region.size", stats,
+                            s -> s.getCacheRegionStatistics(region).getElementCountInMemory())
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static void regionCounter(MeterRegistry registry, Statistics stats, String name, String region,
+                                      ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder(name, stats, s -> value.applyAsLong(s.getCacheRegionStatistics(region)))
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, Statistics stats, String name,
+                                java.util.function.ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, stats, value).register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
@@ -0,0 +1,316 @@
+package com.docsync.app.config;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Startup check of the derived finders (findBy..., countBy..., existsBy...) in the dao package.
+ * Each finder's WHERE columns are worked out from its method name and compared with the table's
+ * indexes; a finder that no index can serve gets a WARN, confirmed on MySQL with EXPLAIN against
+ * a sample row (type ALL / index = full scan). Runs once on a background thread after startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "db.index-advisor.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexAdvisor {
+
+    private final ListableBeanFactory beanFactory;
+    private final DataSource dataSource;
+
+    public IndexAdvisor(ListableBeanFactory beanFactory, DataSource dataSource) {
+        this.beanFactory = beanFactory;
+        this.dataSource = dataSource;
+    }
+
+    enum Operator { EQUALS, RANGE, BETWEEN, IS_NULL }
+
+    record Predicate(String column, Operator operator) {
+    }
+
+    record Finder(String name, String table, List<Predicate> predicates) {
+    }
+
+    record Plan(String type, String key, Long rows) {
+
+        boolean fullScan() {
+            return "ALL".equalsIgnoreCase(type) || "index".equalsIgnoreCase(type);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread.ofVirtual().name("index-advisor").start(() -> {
+            try {
+                advise();
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Index advisor failed", e);
+            }
+        });
+    }
+
+    void advise() throws SQLException {
+        List<Finder> finders = finders();
+        int scanning = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            Map<String, Map<String, List<String>>> indexesByTable = new HashMap<>();
+            for (Finder finder : finders) {
+                Map<String, List<String>> indexes = indexesByTable.get(finder.table());
+                if (indexes == null) {
+                    indexes = indexes(connection, finder.table());
+                    indexesByTable.put(finder.table(), indexes);
+                }
+                String index = usableIndex(finder, indexes);
+                if (index != null) {
+                    log.debug("{} uses {}.{}", finder.name(), finder.table(), index);
+                    continue;
+                }
+                Plan plan = mysql ? explain(connection, finder) : null;
+                if (plan != null && !plan.fullScan()) {
+                    continue;
+                }
+                scanning++;
+                log.warn("{} scans {}: no index starts with {}{}", finder.name(), finder.table(),
+                        finder.predicates().stream().map(Predicate::column).distinct().toList(),
+                        plan != null ? " (EXPLAIN type=" + plan.type() + ", rows=" + plan.rows() + ")" : "");
+            }
+        }
+        log.info("Index advisor checked {} derived finders, {} without a usable index", finders.size(), scanning);
+    }
+
+    // --- Finders from repository method names ---
+
+    List<Finder> finders() {
+        Repositories repositories = new Repositories(beanFactory);
+        List<Finder> finders = new ArrayList<>();
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation info = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : info.getQueryMethods()) {
+                Finder finder = finder(info, method);
+                if (finder != null) {
+                    finders.add(finder);
+                }
+            }
+        }
+        return finders;
+    }
+
+    // Null for @Query methods, OR conditions, and predicates an index could not serve anyway (LIKE %x%, IN, ...)
+    static Finder finder(RepositoryInformation info, Method method) {
+        if (method.isAnnotationPresent(Query.class)) {
+            return null;
+        }
+        Class<?> domainType = info.getDomainType();
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), domainType);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (tree.stream().count() != 1) {
+            return null;
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        for (Part part : tree.getParts()) {
+            String column = column(domainType, part.getProperty().toDotPath().split("\\."));
+            Operator operator = switch (part.getType()) {
+                case SIMPLE_PROPERTY, TRUE, FALSE -> Operator.EQUALS;
+                case AFTER, BEFORE, GREATER_THAN, GREATER_THAN_EQUAL, LESS_THAN, LESS_THAN_EQUAL, STARTING_WITH -> Operator.RANGE;
+                case BETWEEN -> Operator.BETWEEN;
+                case IS_NULL -> Operator.IS_NULL;
+                default -> null;
+            };
+            if (column == null || operator == null) {
+                return null;
+            }
+            predicates.add(new Predicate(column, operator));
+        }
+        if (predicates.isEmpty()) {
+            return null;
+        }
+        String name = info.getRepositoryInterface().getSimpleName() + "." + method.getName();
+        return new Finder(name, table(domainType), predicates);
+    }
+
+    // Column names follow Boot's default naming: explicit @Column/@JoinColumn name, else snake_case
+    static String column(Class<?> type, String[] path) {
+        Field field = ReflectionUtils.findField(type, path[0]);
+        if (field == null || path.length > 2) {
+            return null;
+        }
+        boolean association = field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class);
+        if (path.length == 2) {
+            // doctor.id is the doctor_id column; any other nested property needs a join
+            Field target = ReflectionUtils.findField(field.getType(), path[1]);
+            if (!association || target == null || !target.isAnnotationPresent(Id.class)) {
+                return null;
+            }
+            return joinColumn(field, target);
+        }
+        if (association) {
+            Field id = idField(field.getType());
+            return id != null ? joinColumn(field, id) : null;
+        }
+        Column column = field.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : snakeCase(field.getName());
+    }
+
+    private static String joinColumn(Field association, Field targetId) {
+        JoinColumn join = association.getAnnotation(JoinColumn.class);
+        return join != null && !join.name().isEmpty()
+                ? join.name()
+                : snakeCase(association.getName()) + "_" + snakeCase(targetId.getName());
+    }
+
+    private static Field idField(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    static String table(Class<?> domainType) {
+        Table table = domainType.getAnnotation(Table.class);
+        return table != null && !table.name().isEmpty() ? table.name() : snakeCase(domainType.getSimpleName());
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    // --- Index metadata and EXPLAIN ---
+
+    private static Map<String, List<String>> indexes(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (rs.next()) {
+                String index = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (index != null && column != null) {
+                    // Rows come ordered by ORDINAL_POSITION within each index
+                    indexes.computeIfAbsent(index, k -> new ArrayList<>()).add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    // The index whose leading columns match the most predicates: equality columns in any order, then one range column
+    static String usableIndex(Finder finder, Map<String, List<String>> indexes) {
+        List<String> equality = finder.predicates().stream()
+                .filter(p -> p.operator() == Operator.EQUALS || p.operator() == Operator.IS_NULL)
+                .map(Predicate::column)
+                .toList();
+        List<String> range = finder.predicates().stream()
+                .filter(p -> p.operator() == Operator.RANGE || p.operator() == Operator.BETWEEN)
+                .map(Predicate::column)
+                .toList();
+        String best = null;
+        int bestMatched = 0;
+        for (Map.Entry<String, List<String>> index : indexes.entrySet()) {
+            int matched = 0;
+            for (String column : index.getValue()) {
+                if (equality.contains(column)) {
+                    matched++;
+                } else {
+                    if (range.contains(column)) {
+                        matched++;
+                    }
+                    break;
+                }
+            }
+            if (matched > bestMatched) {
+                best = index.getKey();
+                bestMatched = matched;
+            }
+        }
+        return best;
+    }
+
+    // EXPLAIN with values from an existing row; null when the table is empty (the plan would mean nothing)
+    private static Plan explain(Connection connection, Finder finder) throws SQLException {
+        List<Predicate> bound = finder.predicates().stream().filter(p -> p.operator() != Operator.IS_NULL).toList();
+        List<Object> sample = new ArrayList<>();
+        if (!bound.isEmpty()) {
+            String columns = bound.stream().map(p -> quote(p.column())).collect(Collectors.joining(", "));
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT " + columns + " FROM " + quote(finder.table()) + " LIMIT 1");
+                 ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                for (int i = 1; i <= bound.size(); i++) {
+                    sample.add(rs.getObject(i));
+                }
+            }
+        }
+        String where = finder.predicates().stream()
+                .map(p -> quote(p.column()) + switch (p.operator()) {
+                    case EQUALS -> " = ?";
+                    case RANGE -> " >= ?";
+                    case BETWEEN -> " BETWEEN ? AND ?";
+                    case IS_NULL -> " IS NULL";
+                })
+                .collect(Collectors.joining(" AND "));
+        try (PreparedStatement ps = connection.prepareStatement(
+                "EXPLAIN SELECT * FROM " + quote(finder.table()) + " WHERE " + where)) {
+            int index = 1;
+            for (int i = 0; i < bound.size(); i++) {
+                ps.setObject(index++, sample.get(i));
+                if (bound.get(i).operator() == Operator.BETWEEN) {
+                    ps.setObject(index++, sample.get(i));
+                }
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Object rows = rs.getObject("rows");
+                return new Plan(rs.getString("type"), rs.getString("key"), rows instanceof Number n ? n.longValue() : null);
+            }
+        }
+    }
+
+    private static String quote(String identifier) {
+        return "`" + identifier + "`";
+    }
+}
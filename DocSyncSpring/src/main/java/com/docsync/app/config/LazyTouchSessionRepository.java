@@ -0,0 +1,180 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Base for the key/value session stores (off-heap, Redis). A session is stored as one
+ * serialized MapSession. SessionRepositoryFilter saves the session on every request only to
+ * bump lastAccessedTime; this class skips that write unless the session changed or the stored
+ * copy is at least touchInterval old. A session can therefore time out up to touchInterval
+ * early, which is the price of not writing on every request.
+ */
+public abstract class LazyTouchSessionRepository implements SessionRepository<LazyTouchSessionRepository.TrackedSession> {
+
+    private final Duration touchInterval;
+    private final Duration defaultMaxInactiveInterval;
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter(getClass().getClassLoader());
+    private final Counter writes;
+    private final Counter touches;
+    private final Counter skipped;
+
+    protected LazyTouchSessionRepository(String store, Duration touchInterval, Duration defaultMaxInactiveInterval,
+                                         MeterRegistry registry) {
+        this.touchInterval = touchInterval;
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.writes = registry.counter("docsync.session.saves", "store", store, "kind", "changed");
+        this.touches = registry.counter("docsync.session.saves", "store", store, "kind", "touch");
+        this.skipped = registry.counter("docsync.session.saves", "store", store, "kind", "skipped");
+    }
+
+    protected abstract byte[] read(String id);
+
+    // ttl is how long the stored copy may live before the store may drop it
+    protected abstract void write(String id, byte[] data, Duration ttl);
+
+    protected abstract void remove(String id);
+
+    @Override
+    public TrackedSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+        return new TrackedSession(session, null);
+    }
+
+    @Override
+    public void save(TrackedSession session) {
+        if (session.storedId != null && !session.storedId.equals(session.getId())) {
+            remove(session.storedId);
+            session.changed = true;
+        }
+        if (!session.changed) {
+            Instant stored = session.storedLastAccessedTime;
+            if (stored != null && Duration.between(stored, session.getLastAccessedTime()).compareTo(touchInterval) < 0) {
+                skipped.increment();
+                return;
+            }
+            touches.increment();
+        } else {
+            writes.increment();
+        }
+        write(session.getId(), serializer.convert(session.delegate), session.getMaxInactiveInterval());
+        session.storedId = session.getId();
+        session.storedLastAccessedTime = session.getLastAccessedTime();
+        session.changed = false;
+    }
+
+    @Override
+    public TrackedSession findById(String id) {
+        byte[] data = read(id);
+        if (data == null) {
+            return null;
+        }
+        MapSession session = (MapSession) deserializer.convert(data);
+        if (session.isExpired()) {
+            remove(id);
+            return null;
+        }
+        return new TrackedSession(session, id);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        remove(id);
+    }
+
+    /**
+     * MapSession plus what the store last saw of it. Only setAttribute/removeAttribute,
+     * a new timeout or a new id count as changes, the same rule as Spring Session's
+     * default SaveMode.ON_SET_ATTRIBUTE.
+     */
+    public static final class TrackedSession implements Session {
+
+        private final MapSession delegate;
+        private String storedId;
+        private Instant storedLastAccessedTime;
+        private boolean changed;
+
+        private TrackedSession(MapSession delegate, String storedId) {
+            this.delegate = delegate;
+            this.storedId = storedId;
+            this.storedLastAccessedTime = storedId != null ? delegate.getLastAccessedTime() : null;
+            this.changed = storedId == null;
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            changed = true;
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            changed = true;
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            changed = true;
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            changed = true;
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
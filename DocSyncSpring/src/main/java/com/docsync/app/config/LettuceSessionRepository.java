@@ -0,0 +1,53 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cluster session store on anything that speaks the Redis protocol (Redis, Valkey, KeyDB...).
+ * Each session is one key holding the serialized session, with the store's own expiry (PX)
+ * set to the session timeout, so no cleanup job is needed. One shared Lettuce connection is
+ * used; Lettuce pipelines concurrent commands over it.
+ */
+public class LettuceSessionRepository extends LazyTouchSessionRepository implements AutoCloseable {
+
+    private final RedisClient client;
+    private final StatefulRedisConnection<String, byte[]> connection;
+    private final String keyPrefix;
+
+    public LettuceSessionRepository(String redisUri, String keyPrefix, Duration touchInterval,
+                                    Duration defaultMaxInactiveInterval, MeterRegistry registry) {
+        super("redis", touchInterval, defaultMaxInactiveInterval, registry);
+        this.client = RedisClient.create(redisUri);
+        this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    protected byte[] read(String id) {
+        return connection.sync().get(keyPrefix + id);
+    }
+
+    @Override
+    protected void write(String id, byte[] data, Duration ttl) {
+        connection.sync().set(keyPrefix + id, data, SetArgs.Builder.px(Math.max(1, ttl.toMillis())));
+    }
+
+    @Override
+    protected void remove(String id) {
+        connection.sync().del(keyPrefix + id);
+    }
+
+    @Override
+    public void close() {
+        connection.close();
+        client.shutdown();
+    }
+}
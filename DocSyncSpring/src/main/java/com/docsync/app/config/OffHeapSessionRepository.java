@@ -0,0 +1,105 @@
+package com.docsync.app.config;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-node session store: serialized sessions live in direct ByteBuffers, so a large
+ * session population adds little to the GC-managed heap. A rewrite always gets a fresh
+ * buffer, so a concurrent read never sees half-written bytes. Expired entries are swept
+ * once a minute. maxBytes
+ * caps the total; once it is reached, writes fail with IllegalStateException.
+ */
+public class OffHeapSessionRepository extends LazyTouchSessionRepository implements AutoCloseable {
+
+    private record Entry(ByteBuffer buffer, int length, Instant expiresAt) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final long maxBytes;
+    private final ScheduledExecutorService sweeper;
+
+    public OffHeapSessionRepository(long maxBytes, Duration touchInterval, Duration defaultMaxInactiveInterval,
+                                    MeterRegistry registry) {
+        super("offheap", touchInterval, defaultMaxInactiveInterval, registry);
+        this.maxBytes = maxBytes;
+        Gauge.builder("docsync.session.offheap.bytes", usedBytes, AtomicLong::get).register(registry);
+        Gauge.builder("docsync.session.offheap.sessions", entries, ConcurrentHashMap::size).register(registry);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "offheap-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    protected byte[] read(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            remove(id);
+            return null;
+        }
+        byte[] data = new byte[entry.length()];
+        entry.buffer().get(0, data, 0, entry.length());
+        return data;
+    }
+
+    @Override
+    protected void write(String id, byte[] data, Duration ttl) {
+        reserve(data.length);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(0, data, 0, data.length);
+        Entry old = entries.put(id, new Entry(buffer, data.length, Instant.now().plus(ttl)));
+        if (old != null) {
+            usedBytes.addAndGet(-old.buffer().capacity());
+        }
+    }
+
+    @Override
+    protected void remove(String id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            usedBytes.addAndGet(-removed.buffer().capacity());
+        }
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        entries.clear();
+        usedBytes.set(0);
+    }
+
+    private void reserve(long bytes) {
+        if (usedBytes.addAndGet(bytes) > maxBytes) {
+            sweep();
+            if (usedBytes.get() > maxBytes) {
+                usedBytes.addAndGet(-bytes);
+                throw new IllegalStateException("Off-heap session store is full (" + maxBytes + " bytes)");
+            }
+        }
+    }
+
+    private void sweep() {
+        Instant now = Instant.now();
+        entries.forEach((id, entry) -> {
+            if (entry.expiresAt().isBefore(now) && entries.remove(id, entry)) {
+                usedBytes.addAndGet(-entry.buffer().capacity());
+            }
+        });
+    }
+}
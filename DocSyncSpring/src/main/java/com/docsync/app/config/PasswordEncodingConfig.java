@@ -0,0 +1,48 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Password hashing. New hashes are written as {id}hash with the configured algorithm and cost;
+ * older hashes (including the original un-prefixed BCrypt ones) keep verifying and are rewritten
+ * on the next successful login via AuthService.updatePassword.
+ */
+@Configuration
+public class PasswordEncodingConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${auth.password.bcrypt-cost:10}") int bcryptCost,
+                                           @Value("${auth.password.argon2.memory-kib:19456}") int argonMemoryKib,
+                                           @Value("${auth.password.argon2.iterations:2}") int argonIterations,
+                                           @Value("${auth.password.hashing-threads:0}") int threads,
+                                           @Value("${auth.password.hashing-queue:64}") int queueCapacity,
+                                           @Value("${auth.password.hashing-max-wait:5s}") Duration maxWait,
+                                           MeterRegistry registry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCost);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", new Argon2PasswordEncoder(16, 32, 1, argonMemoryKib, argonIterations));
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("auth.password.algorithm must be one of " + encoders.keySet());
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        // Rows written before this encoder existed hold bare "$2a$..." hashes
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, maxWait, registry);
+    }
+}
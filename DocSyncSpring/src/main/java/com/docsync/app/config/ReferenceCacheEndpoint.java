@@ -0,0 +1,68 @@
+package com.docsync.app.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/referencecache: per-region second-level cache statistics, and eviction for
+ * rows changed outside the application (writes through JPA keep the cache current by themselves).
+ * DELETE /actuator/referencecache clears every region, DELETE /actuator/referencecache/{region} one region.
+ */
+@Component
+@Endpoint(id = "referencecache")
+@RequiredArgsConstructor
+public class ReferenceCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public record RegionStats(long hits, long misses, long puts, long size, Double hitRatio) {
+    }
+
+    @ReadOperation
+    public Map<String, RegionStats> regions() {
+        Statistics stats = sessionFactory().getStatistics();
+        Map<String, RegionStats> result = new LinkedHashMap<>();
+        for (String region : stats.getSecondLevelCacheRegionNames()) {
+            put(result, stats, region);
+        }
+        put(result, stats, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        return result;
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    @DeleteOperation
+    public void evictRegion(@Selector String region) {
+        sessionFactory().getCache().evictRegion(region);
+    }
+
+    private static void put(Map<String, RegionStats> result, Statistics stats, String region) {
+        CacheRegionStatistics r = stats.getCacheRegionStatistics(region);
+        if (r == null) {
+            return;
+        }
+        long lookups = r.getHitCount() + r.getMissCount();
+        result.put(region, new RegionStats(r.getHitCount(), r.getMissCount(), r.getPutCount(),
+                r.getElementCountInMemory(), lookups == 0 ? null : (double) r.getHitCount() / lookups));
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.docsync.app.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every method call on every dao interface as docsync.repository.invocations,
+ * tagged with repository, method, state (SUCCESS / ERROR / CANCELED) and exception, and tells
+ * SlowQueryLog which repository method issued each statement.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> registry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> {
+                factory.addInvocationListener(this::record);
+                factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                        proxyFactory.addAdvice(callerTracking(repositoryInformation.getRepositoryInterface().getSimpleName())));
+            });
+        }
+        return bean;
+    }
+
+    // Names the repository method for statements SlowQueryLog records while it runs
+    private static MethodInterceptor callerTracking(String repository) {
+        return invocation -> {
+            String previous = SlowQueryLog.enterCaller(repository + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                SlowQueryLog.exitCaller(previous);
+            }
+        };
+    }
+
+    private void record(RepositoryMethodInvocation invocation) {
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        Throwable error = result != null ? result.getError() : null;
+        Timer.builder("docsync.repository.invocations")
+                .tag("repository", invocation.getRepositoryInterface().getSimpleName())
+                .tag("method", invocation.getMethod().getName())
+                .tag("state", result != null ? result.getState().name() : "UNKNOWN")
+                .tag("exception", error != null ? error.getClass().getSimpleName() : "none")
+                .register(registry.getObject())
+                .record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+}
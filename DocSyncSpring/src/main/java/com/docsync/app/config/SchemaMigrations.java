@@ -0,0 +1,45 @@
+package com.docsync.app.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the versioned migrations in db/migration. Tables still come from ddl-auto=update, which
+ * never adds secondary indexes, so the migrations hold indexes and constraints and run once Hibernate
+ * has updated the schema (hence the dependency on the EntityManagerFactory) rather than before it.
+ * An existing database without a history table is baselined at version 0, so V1 onwards still apply.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "db.migrations.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaMigrations {
+
+    private final DataSource dataSource;
+
+    public SchemaMigrations(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    void migrate() {
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+        if (result.migrationsExecuted > 0) {
+            log.info("Applied {} schema migration(s), now at version {}", result.migrationsExecuted, result.targetSchemaVersion);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.docsync.app.config;
+
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.docsync.app.bean.Department;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.Patient;
+import com.docsync.app.service.SearchIndexService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on Doctor, Patient and Department that forwards changes to the search index.
+ * Updates are queued only after the transaction commits, so rolled-back writes never show up
+ * in search results. Hibernate resolves this class through the Spring bean container; the index
+ * is looked up lazily because it depends on repositories built from the same EntityManagerFactory.
+ */
+@Component
+public class SearchIndexListener {
+
+    private final ObjectProvider<SearchIndexService> searchIndex;
+
+    public SearchIndexListener(ObjectProvider<SearchIndexService> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof Doctor doctor) {
+            Long id = doctor.getId();
+            afterCommit(index -> index.doctorChanged(id));
+        } else if (entity instanceof Patient patient) {
+            Long id = patient.getId();
+            afterCommit(index -> index.patientChanged(id));
+        } else if (entity instanceof Department department) {
+            Long id = department.getId();
+            afterCommit(index -> index.departmentChanged(id));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Doctor doctor) {
+            Long id = doctor.getId();
+            afterCommit(index -> index.doctorRemoved(id));
+        } else if (entity instanceof Patient patient) {
+            Long id = patient.getId();
+            afterCommit(index -> index.patientRemoved(id));
+        }
+        // Doctors of a removed department are updated through their own rows
+    }
+
+    private void afterCommit(Consumer<SearchIndexService> change) {
+        SearchIndexService index = searchIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.accept(index);
+                }
+            });
+        } else {
+            change.accept(index);
+        }
+    }
+}
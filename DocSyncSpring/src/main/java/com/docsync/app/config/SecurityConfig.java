@@ -1,7 +1,9 @@
 package com.docsync.app.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
@@ -9,15 +11,17 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.docsync.app.service.AuthTokenService;
+
 import java.util.List;
 
 @Configuration
@@ -30,7 +34,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, SecurityContextRepository securityContextRepository) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, SecurityContextRepository securityContextRepository,
+                                                   AuthTokenService tokenService,
+                                                   @Value("${auth.mode:session}") String authMode) throws Exception {
         http
             // 1. ENABLE CORS HERE
             .cors(Customizer.withDefaults())
@@ -46,6 +52,9 @@ public class SecurityConfig {
                         "/webjars/**"
                 ).permitAll()
                 .requestMatchers("/error").permitAll()
+                // -- Actuator: health for probes, everything else (metrics, prometheus) admin only --
+                .requestMatchers("/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // 2. Allow OPTIONS requests (Pre-flight checks) explicitly
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
@@ -53,6 +62,12 @@ public class SecurityConfig {
                 // -- Authentication --
                 .requestMatchers("/auth/**").permitAll()
                 // -- Department Restrictions --
+                .requestMatchers("/api/payrolls/runs/**").hasRole("ADMIN")
+                .requestMatchers("/api/exports/**").hasRole("ADMIN")
+                .requestMatchers("/api/dashboard/admin").hasRole("ADMIN")
+                .requestMatchers("/api/dashboard/doctor/**").hasRole("DOCTOR")
+                .requestMatchers(HttpMethod.POST, "/attendance/rollups/rebuild").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/search/reindex").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/departments/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/departments/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/departments/**").hasRole("ADMIN")
@@ -66,14 +81,28 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.GET, "/insuranceprovider/**").permitAll()
                 // -- Fallback --
                 .anyRequest().authenticated()
-            )
-            .sessionManagement(session -> session
-                .sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.IF_REQUIRED)
-            )
-            .securityContext(context -> context
-                .securityContextRepository(securityContextRepository) 
             );
 
+        if ("stateless".equals(authMode)) {
+            // Every request carries its own signed token; nothing is read from or written to the session store
+            http
+                .sessionManagement(session -> session
+                    .sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.STATELESS)
+                )
+                .securityContext(context -> context
+                    .securityContextRepository(new RequestAttributeSecurityContextRepository())
+                )
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+        } else {
+            http
+                .sessionManagement(session -> session
+                    .sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.IF_REQUIRED)
+                )
+                .securityContext(context -> context
+                    .securityContextRepository(securityContextRepository) 
+                );
+        }
+
         return http.build();
     }
 
@@ -90,6 +119,9 @@ public class SecurityConfig {
         
         // Allow headers (Authorization, Content-Type, etc.)
         configuration.setAllowedHeaders(List.of("*"));
+
+        // Let the frontend read the per-request SQL count (non-prod profiles only) and export file names
+        configuration.setExposedHeaders(List.of(SqlStatementHeaderAdvice.HEADER, HttpHeaders.CONTENT_DISPOSITION));
         
         // Allow cookies/credentials (Crucial for Session-based auth)
         configuration.setAllowCredentials(true);
@@ -103,9 +135,4 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
\ No newline at end of file
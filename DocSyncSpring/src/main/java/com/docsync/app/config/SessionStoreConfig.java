@@ -0,0 +1,54 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * sessions.store picks the HTTP session backend:
+ * jdbc (default) leaves Spring Boot's spring-session-jdbc setup in place,
+ * offheap keeps sessions in this JVM outside the heap (single node only),
+ * redis uses any Redis-protocol server at sessions.redis.uri (clusters).
+ * Declaring a SessionRepository here makes the JDBC auto-configuration back off.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SessionStoreConfig {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "sessions.store", havingValue = "offheap")
+    @EnableSpringHttpSession
+    static class OffHeapSessions {
+
+        @Bean
+        public OffHeapSessionRepository sessionRepository(
+                @Value("${sessions.offheap.max-size:256MB}") DataSize maxSize,
+                @Value("${sessions.touch-interval:60s}") Duration touchInterval,
+                @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                MeterRegistry registry) {
+            return new OffHeapSessionRepository(maxSize.toBytes(), touchInterval, timeout, registry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "sessions.store", havingValue = "redis")
+    @EnableSpringHttpSession
+    static class RedisSessions {
+
+        @Bean
+        public LettuceSessionRepository sessionRepository(
+                @Value("${sessions.redis.uri:redis://localhost:6379}") String uri,
+                @Value("${sessions.redis.key-prefix:docsync:session:}") String keyPrefix,
+                @Value("${sessions.touch-interval:60s}") Duration touchInterval,
+                @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                MeterRegistry registry) {
+            return new LettuceSessionRepository(uri, keyPrefix, touchInterval, timeout, registry);
+        }
+    }
+}
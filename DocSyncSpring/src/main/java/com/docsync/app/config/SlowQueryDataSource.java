@@ -0,0 +1,219 @@
+package com.docsync.app.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Wrapper;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Wraps the pool so every statement is timed on the JDBC driver call itself. A statement whose
+ * execute took less than the slow-query threshold (and was not sampled) costs two nanoTime reads;
+ * only recorded statements get a counting ResultSet, and they are handed to SlowQueryLog once the
+ * rows have been read (result set or statement closed). Installed by SlowQueryDataSourcePostProcessor.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader LOADER = SlowQueryDataSource.class.getClassLoader();
+
+    // Resolved on first use: the log's MeterRegistry may itself depend on the DataSource
+    private final Supplier<SlowQueryLog> slowQueryLog;
+
+    public SlowQueryDataSource(DataSource target, Supplier<SlowQueryLog> slowQueryLog) {
+        super(target);
+        this.slowQueryLog = SingletonSupplier.of(slowQueryLog);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(LOADER, new Class<?>[] {Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // unwrap/isWrapperFor see through the proxy to the pool's own objects
+    private static Object wrapperMethod(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        Class<?> iface = (Class<?>) args[0];
+        if (method.getName().equals("isWrapperFor")) {
+            return iface.isInstance(proxy) || ((Wrapper) target).isWrapperFor(iface);
+        }
+        return iface.isInstance(proxy) ? proxy : ((Wrapper) target).unwrap(iface);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("unwrap") || name.equals("isWrapperFor")) {
+                return wrapperMethod(proxy, target, method, args);
+            }
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            return switch (name) {
+                case "prepareStatement" -> statement(result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> statement(result, CallableStatement.class, (String) args[0]);
+                case "createStatement" -> statement(result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private Object statement(Object statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(LOADER, new Class<?>[] {type}, new StatementHandler((Statement) statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private int binds;
+
+        // Recorded execution still reading its rows
+        private String pendingSql;
+        private int pendingBinds;
+        private long pendingNanos;
+        private long pendingRows;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("unwrap") || name.equals("isWrapperFor")) {
+                return wrapperMethod(proxy, target, method, args);
+            }
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds = Math.max(binds, index);
+            } else if (name.equals("clearParameters")) {
+                binds = 0;
+            } else if (name.equals("close")) {
+                flush();
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            flush();
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = SlowQueryDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                long nanos = System.nanoTime() - start;
+                if (slowQueryLog.get().wants(nanos)) {
+                    slowQueryLog.get().record(executed, binds, nanos, -1);
+                }
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            if (!slowQueryLog.get().wants(nanos)) {
+                return result;
+            }
+            if (result instanceof ResultSet resultSet) {
+                pendingSql = executed;
+                pendingBinds = binds;
+                pendingNanos = nanos;
+                pendingRows = 0;
+                return Proxy.newProxyInstance(LOADER, new Class<?>[] {ResultSet.class}, new ResultSetHandler(resultSet, this));
+            }
+            slowQueryLog.get().record(executed, binds, nanos, updateCount(result));
+            return result;
+        }
+
+        private long updateCount(Object result) {
+            return switch (result) {
+                case Integer count -> count;
+                case Long count -> count;
+                case int[] counts -> {
+                    long sum = 0;
+                    for (int count : counts) {
+                        sum += Math.max(count, 0);
+                    }
+                    yield sum;
+                }
+                case long[] counts -> {
+                    long sum = 0;
+                    for (long count : counts) {
+                        sum += Math.max(count, 0);
+                    }
+                    yield sum;
+                }
+                case null, default -> -1;
+            };
+        }
+
+        void flush() {
+            if (pendingSql != null) {
+                slowQueryLog.get().record(pendingSql, pendingBinds, pendingNanos, pendingRows);
+                pendingSql = null;
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("unwrap") || name.equals("isWrapperFor")) {
+                return wrapperMethod(proxy, target, method, args);
+            }
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                statement.pendingRows++;
+            } else if (name.equals("close")) {
+                statement.flush();
+            }
+            return result;
+        }
+    }
+}
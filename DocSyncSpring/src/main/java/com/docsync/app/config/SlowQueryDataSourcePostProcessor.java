@@ -0,0 +1,29 @@
+package com.docsync.app.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts SlowQueryDataSource in front of the application DataSource. unwrap() still reaches the
+ * HikariDataSource, so pool metrics and DatabaseConcurrencyLimiter see the real pool.
+ */
+@Component
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+            return new SlowQueryDataSource(dataSource, slowQueryLog::getObject);
+        }
+        return bean;
+    }
+}
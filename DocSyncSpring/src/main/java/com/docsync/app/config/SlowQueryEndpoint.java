@@ -0,0 +1,36 @@
+package com.docsync.app.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/slowqueries: the slowest statement fingerprints since startup (or the last reset) and
+ * the most recent slow executions, each with its calling repository method.
+ * DELETE /actuator/slowqueries clears both.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public record Report(long thresholdMillis, List<SlowQueryLog.Fingerprint> slowest, List<SlowQueryLog.SlowQuery> recent) {
+    }
+
+    @ReadOperation
+    public Report report() {
+        return new Report(slowQueryLog.threshold().toMillis(), slowQueryLog.top(), slowQueryLog.recent());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
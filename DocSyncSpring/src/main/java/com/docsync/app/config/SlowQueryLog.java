@@ -0,0 +1,211 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Receives timed statements from SlowQueryDataSource. Statements at or above
+ * {@code sql.slow-query.threshold} are logged at WARN on the "docsync.sql" logger (an async
+ * appender in logback-spring.xml, so the request thread only enqueues) and kept for
+ * /actuator/slowqueries: the {@code top-size} slowest fingerprints plus a ring of the most
+ * recent slow executions. A {@code sample-rate} fraction of the faster statements is logged at
+ * INFO, which replaces show_sql for looking at what the app runs.
+ */
+@Component
+public class SlowQueryLog {
+
+    private static final Logger SQL_LOG = LoggerFactory.getLogger("docsync.sql");
+
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Repository method on this thread, set by RepositoryMetricsPostProcessor around each call
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+
+    public record SlowQuery(String fingerprint, String sql, String caller, int binds, long rows,
+                            double millis, LocalDateTime at) {
+    }
+
+    public record Fingerprint(String fingerprint, String caller, long count, double maxMillis,
+                              double totalMillis, SlowQuery slowest) {
+    }
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int topSize;
+
+    private final ReentrantLock topLock = new ReentrantLock();
+    private final Map<String, Fingerprint> topByFingerprint = new ConcurrentHashMap<>();
+    private final PriorityQueue<Fingerprint> top = new PriorityQueue<>(Comparator.comparingDouble(Fingerprint::maxMillis));
+    // Slowest entry once the list is full; lets most slow statements skip the lock
+    private volatile double topFloorMillis;
+
+    private final SlowQuery[] recent;
+    private final AtomicLong recentCursor = new AtomicLong();
+
+    private final Counter slowCounter;
+
+    public SlowQueryLog(MeterRegistry registry,
+                        @Value("${sql.slow-query.threshold:200ms}") Duration threshold,
+                        @Value("${sql.slow-query.sample-rate:0}") double sampleRate,
+                        @Value("${sql.slow-query.top-size:50}") int topSize,
+                        @Value("${sql.slow-query.recent-size:200}") int recentSize) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.topSize = topSize;
+        this.recent = new SlowQuery[recentSize];
+        this.slowCounter = Counter.builder("docsync.sql.slow")
+                .description("Statements at or above sql.slow-query.threshold")
+                .register(registry);
+    }
+
+    public Duration threshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    /** Whether a statement that ran for this long is recorded; rows are only counted for these. */
+    public boolean wants(long nanos) {
+        return nanos >= thresholdNanos || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /** rows is -1 when unknown (failed statement, or a result set the caller never read). */
+    public void record(String sql, int binds, long nanos, long rows) {
+        if (sql == null) {
+            return;
+        }
+        String fingerprint = fingerprint(sql);
+        String caller = CALLER.get();
+        double millis = nanos / 1_000_000.0;
+        boolean slow = nanos >= thresholdNanos;
+
+        (slow ? SQL_LOG.atWarn() : SQL_LOG.atInfo())
+                .addKeyValue("ms", String.format("%.1f", millis))
+                .addKeyValue("rows", rows)
+                .addKeyValue("binds", binds)
+                .addKeyValue("caller", caller)
+                .addKeyValue("fingerprint", fingerprint)
+                .log(slow ? "slow query" : "sampled query");
+        if (!slow) {
+            return;
+        }
+        slowCounter.increment();
+
+        SlowQuery query = new SlowQuery(fingerprint, truncate(sql), caller, binds, rows, millis, LocalDateTime.now());
+        recent[(int) (recentCursor.getAndIncrement() % recent.length)] = query;
+        if (millis > topFloorMillis || topByFingerprint.containsKey(fingerprint)) {
+            addToTop(query);
+        }
+    }
+
+    private void addToTop(SlowQuery query) {
+        topLock.lock();
+        try {
+            Fingerprint existing = topByFingerprint.get(query.fingerprint());
+            if (existing != null) {
+                top.remove(existing);
+                SlowQuery slowest = query.millis() > existing.maxMillis() ? query : existing.slowest();
+                put(new Fingerprint(query.fingerprint(), existing.caller() != null ? existing.caller() : query.caller(),
+                        existing.count() + 1, slowest.millis(), existing.totalMillis() + query.millis(), slowest));
+            } else if (top.size() < topSize) {
+                put(new Fingerprint(query.fingerprint(), query.caller(), 1, query.millis(), query.millis(), query));
+            } else if (query.millis() > top.peek().maxMillis()) {
+                topByFingerprint.remove(top.poll().fingerprint());
+                put(new Fingerprint(query.fingerprint(), query.caller(), 1, query.millis(), query.millis(), query));
+            }
+            topFloorMillis = top.size() < topSize ? 0 : top.peek().maxMillis();
+        } finally {
+            topLock.unlock();
+        }
+    }
+
+    private void put(Fingerprint entry) {
+        top.add(entry);
+        topByFingerprint.put(entry.fingerprint(), entry);
+    }
+
+    /** Slowest fingerprints first; count and total cover executions since the fingerprint entered the list. */
+    public List<Fingerprint> top() {
+        topLock.lock();
+        try {
+            List<Fingerprint> result = new ArrayList<>(top);
+            result.sort(Comparator.comparingDouble(Fingerprint::maxMillis).reversed());
+            return result;
+        } finally {
+            topLock.unlock();
+        }
+    }
+
+    /** Most recent slow executions, newest first. */
+    public List<SlowQuery> recent() {
+        long end = recentCursor.get();
+        List<SlowQuery> result = new ArrayList<>();
+        for (long i = end - 1; i >= 0 && i >= end - recent.length; i--) {
+            SlowQuery query = recent[(int) (i % recent.length)];
+            if (query != null) {
+                result.add(query);
+            }
+        }
+        return result;
+    }
+
+    public void reset() {
+        topLock.lock();
+        try {
+            top.clear();
+            topByFingerprint.clear();
+            topFloorMillis = 0;
+        } finally {
+            topLock.unlock();
+        }
+        Arrays.fill(recent, null);
+    }
+
+    // Literals, numbers and IN lists collapse to ?, so one query shape is one fingerprint
+    static String fingerprint(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("in (?)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    private static String truncate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    static String enterCaller(String caller) {
+        String previous = CALLER.get();
+        CALLER.set(caller);
+        return previous;
+    }
+
+    static void exitCaller(String previous) {
+        if (previous == null) {
+            CALLER.remove();
+        } else {
+            CALLER.set(previous);
+        }
+    }
+}
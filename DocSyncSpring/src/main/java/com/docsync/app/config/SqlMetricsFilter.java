@@ -0,0 +1,57 @@
+package com.docsync.app.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records how many SQL statements each endpoint issues (docsync.http.sql.statements)
+ * and counts requests that repeated one statement at least n-plus-one-threshold times
+ * (docsync.http.sql.n_plus_one).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    @Value("${metrics.sql.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.RequestSql stats = SqlStatementCounter.end();
+            // Route template, not the raw path, to keep tag cardinality bounded
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+
+            registry.summary("docsync.http.sql.statements", "method", request.getMethod(), "uri", uri)
+                    .record(stats.total());
+            if (stats.maxRepeats() >= nPlusOneThreshold) {
+                registry.counter("docsync.http.sql.n_plus_one", "method", request.getMethod(), "uri", uri).increment();
+                log.warn("Possible N+1 on {} {}: same statement ran {} times ({} total): {}",
+                        request.getMethod(), uri, stats.maxRepeats(), stats.total(), stats.mostRepeated());
+            }
+        }
+    }
+}
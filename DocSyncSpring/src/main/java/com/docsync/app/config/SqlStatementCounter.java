@@ -0,0 +1,70 @@
+package com.docsync.app.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector (registered in application.properties) that counts the SQL
+ * statements prepared on the current request thread. Identical statement text repeated many
+ * times within one request is the classic N+1 signature, so repeats are tracked as well.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    // Bounds the per-request map when a request issues lots of distinct statements
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private static final ThreadLocal<RequestSql> CURRENT = new ThreadLocal<>();
+
+    public static final class RequestSql {
+        private int total;
+        private int maxRepeats;
+        private String mostRepeated;
+        private final Map<String, Integer> byStatement = new HashMap<>();
+
+        public int total() {
+            return total;
+        }
+
+        public int maxRepeats() {
+            return maxRepeats;
+        }
+
+        public String mostRepeated() {
+            return mostRepeated;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestSql stats = CURRENT.get();
+        if (stats != null) {
+            stats.total++;
+            if (stats.byStatement.size() < MAX_DISTINCT_STATEMENTS || stats.byStatement.containsKey(sql)) {
+                int repeats = stats.byStatement.merge(sql, 1, Integer::sum);
+                if (repeats > stats.maxRepeats) {
+                    stats.maxRepeats = repeats;
+                    stats.mostRepeated = sql;
+                }
+            }
+        }
+        return sql;
+    }
+
+    public static void begin() {
+        CURRENT.set(new RequestSql());
+    }
+
+    public static RequestSql end() {
+        RequestSql stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // Statements so far on this thread, or 0 outside a tracked request
+    public static int currentCount() {
+        RequestSql stats = CURRENT.get();
+        return stats != null ? stats.total : 0;
+    }
+}
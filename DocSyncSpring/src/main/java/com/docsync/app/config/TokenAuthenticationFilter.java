@@ -0,0 +1,67 @@
+package com.docsync.app.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.docsync.app.dto.TokenClaims;
+import com.docsync.app.service.AuthTokenService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * auth.mode=stateless: authenticates each request from the token alone (cookie set by
+ * /auth/login, or an Authorization: Bearer header), with no session or user lookup.
+ * An invalid, expired or revoked token leaves the request anonymous. Created by SecurityConfig,
+ * not a @Component, so it only runs inside the security filter chain.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "DOCSYNC_TOKEN";
+    private static final String BEARER = "Bearer ";
+
+    private final AuthTokenService tokenService;
+
+    public TokenAuthenticationFilter(AuthTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            try {
+                TokenClaims claims = tokenService.verify(token);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        claims, null, List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()))));
+                SecurityContextHolder.setContext(context);
+            } catch (BadCredentialsException e) {
+                // Fall through as anonymous; protected endpoints answer 401/403 as usual
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER)) {
+            return header.substring(BEARER.length()).trim();
+        }
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        return cookie != null && !cookie.getValue().isBlank() ? cookie.getValue() : null;
+    }
+}
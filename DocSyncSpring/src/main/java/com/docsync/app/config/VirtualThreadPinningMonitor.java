@@ -0,0 +1,74 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In virtual-thread mode, streams the JDK's jdk.VirtualThreadPinned events (a virtual thread
+ * that blocked while holding a monitor, so its carrier could not be reused) into the
+ * docsync.threads.pinned counter, tagged with the first application frame or the top frame.
+ * Each new site is logged once with its stack so it can be fixed (usually: synchronized ->
+ * ReentrantLock) or reported upstream.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry registry;
+    private final RecordingStream stream = new RecordingStream();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+                                       @Value("${threads.pinning.threshold:20ms}") Duration threshold) {
+        this.registry = registry;
+        stream.enable(PINNED).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED, this::onPinned);
+        stream.startAsync();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = siteOf(event);
+        registry.counter("docsync.threads.pinned", "site", site).increment();
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n{}",
+                    event.getDuration().toMillis(), site, event.getStackTrace());
+        }
+    }
+
+    private static String siteOf(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = event.getStackTrace().getFrames().get(0);
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.docsync.")) {
+                return describe(frame);
+            }
+        }
+        return describe(top);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    @PreDestroy
+    void close() {
+        stream.close();
+    }
+}
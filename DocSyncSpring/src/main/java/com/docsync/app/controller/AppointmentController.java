@@ -1,8 +1,10 @@
 package com.docsync.app.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,9 +13,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Appointment;
+import com.docsync.app.dto.AppointmentView;
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.dto.KeysetPage;
 import com.docsync.app.service.AppointmentService;
 
 import lombok.RequiredArgsConstructor;
@@ -36,12 +43,48 @@ public class AppointmentController {
         }
     }
 
+    // POST: Bulk import from a JSON array, committed in chunks: /appointments/batch
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importAppointments(InputStream body) {
+        try {
+            BulkImportReport report = appointmentService.importAppointments(body);
+            return new ResponseEntity<>(report, report.allInserted() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     // GET: All
     @GetMapping
-    public ResponseEntity<List<Appointment>> getAllAppointments() {
+    public ResponseEntity<List<AppointmentView>> getAllAppointments() {
         return ResponseEntity.ok(appointmentService.getAllAppointments());
     }
 
+    // Keyset page: /appointments/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<AppointmentView>> getAppointmentPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(appointmentService.getAppointmentPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // NDJSON export, one row per line straight off the DB cursor: /appointments/stream
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAppointments(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(appointmentService.streamAppointments(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // GET: By ID
     @GetMapping("/{id}")
     public ResponseEntity<Appointment> getAppointmentById(@PathVariable Long id) {
@@ -50,13 +93,13 @@ public class AppointmentController {
 
     // GET: Upcoming for Doctor (Custom Repo Method)
     @GetMapping("/doctor/{doctorId}/upcoming")
-    public ResponseEntity<List<Appointment>> getUpcomingForDoctor(@PathVariable Long doctorId) {
+    public ResponseEntity<List<AppointmentView>> getUpcomingForDoctor(@PathVariable Long doctorId) {
         return ResponseEntity.ok(appointmentService.getUpcomingAppointmentsForDoctor(doctorId));
     }
 
     // GET: History for Patient (Custom Repo Method)
     @GetMapping("/patient/{patientId}/history")
-    public ResponseEntity<List<Appointment>> getPatientHistory(@PathVariable Long patientId) {
+    public ResponseEntity<List<AppointmentView>> getPatientHistory(@PathVariable Long patientId) {
         return ResponseEntity.ok(appointmentService.getPatientHistory(patientId));
     }
 
@@ -79,6 +122,9 @@ public class AppointmentController {
             existingAppointment.setAppointmentTime(appointmentDetails.getAppointmentTime());
             existingAppointment.setStatus(appointmentDetails.getStatus());
             existingAppointment.setNotes(appointmentDetails.getNotes());
+            if (appointmentDetails.getDurationMinutes() != null) {
+                existingAppointment.setDurationMinutes(appointmentDetails.getDurationMinutes());
+            }
       
             Appointment updated = appointmentService.createAppointment(existingAppointment); 
             
@@ -1,18 +1,28 @@
 package com.docsync.app.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.dto.AttendanceTotals;
+import com.docsync.app.dto.AttendanceView;
+import com.docsync.app.dto.KeysetPage;
+import com.docsync.app.service.AttendanceRollupService;
 import com.docsync.app.service.AttendanceService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,12 +33,16 @@ import lombok.RequiredArgsConstructor;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceRollupService rollupService;
 
-    // POST: Doctor Check-in
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    // POST: Doctor Check-in. A repeat with the same Idempotency-Key returns the original record
     @PostMapping("/check-in")
-    public ResponseEntity<?> checkIn(@RequestBody AttendanceRecord record) {
+    public ResponseEntity<?> checkIn(@RequestBody AttendanceRecord record,
+                                     @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         try {
-            AttendanceRecord newRecord = attendanceService.checkIn(record);
+            AttendanceRecord newRecord = attendanceService.checkIn(record, idempotencyKey);
             return new ResponseEntity<>(newRecord, HttpStatus.CREATED);
         } catch (IllegalStateException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT); // 409 Conflict
@@ -39,15 +53,46 @@ public class AttendanceController {
 
     // PUT: Doctor Check-out (using Doctor ID)
     @PutMapping("/check-out/{doctorId}")
-    public ResponseEntity<?> checkOut(@PathVariable Long doctorId) {
+    public ResponseEntity<?> checkOut(@PathVariable Long doctorId,
+                                      @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         try {
-            AttendanceRecord updatedRecord = attendanceService.checkOut(doctorId);
+            AttendanceRecord updatedRecord = attendanceService.checkOut(doctorId, idempotencyKey);
             return ResponseEntity.ok(updatedRecord);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         }
     }
 
+    // GET: Pre-aggregated totals, one row per doctor and period:
+    // /attendance/rollups?period=WEEK&from=2025-01-01&to=2025-03-31[&doctorId=7]
+    @GetMapping("/rollups")
+    public ResponseEntity<?> getRollups(
+            @RequestParam(value = "period", defaultValue = "MONTH") String period,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "doctorId", required = false) Long doctorId) {
+        try {
+            return ResponseEntity.ok(rollupService.getRollups(period, from, to, doctorId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // GET: All-time totals for a doctor (sum of the monthly rollups)
+    @GetMapping("/rollups/doctor/{doctorId}/totals")
+    public ResponseEntity<AttendanceTotals> getDoctorTotals(@PathVariable Long doctorId) {
+        return ResponseEntity.ok(rollupService.getTotals(doctorId));
+    }
+
+    // POST: Recompute every rollup from the raw records (Admin)
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<String> rebuildRollups() {
+        int rows = rollupService.rebuild();
+        return ResponseEntity.ok("Rebuilt " + rows + " rollup rows");
+    }
+
     // GET: History for a specific doctor
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<List<AttendanceRecord>> getDoctorHistory(@PathVariable Long doctorId) {
@@ -59,4 +104,29 @@ public class AttendanceController {
     public ResponseEntity<List<AttendanceRecord>> getAllRecords() {
         return ResponseEntity.ok(attendanceService.getAllRecords());
     }
+
+    // Keyset page: /attendance/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<AttendanceView>> getRecordPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(attendanceService.getRecordPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // NDJSON export, one row per line straight off the DB cursor: /attendance/stream
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRecords(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(attendanceService.streamRecords(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
\ No newline at end of file
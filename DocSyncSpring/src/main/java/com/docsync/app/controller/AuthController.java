@@ -1,13 +1,19 @@
 package com.docsync.app.controller;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
@@ -18,10 +24,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.docsync.app.bean.Doctor;
 import com.docsync.app.bean.User;
+import com.docsync.app.config.TokenAuthenticationFilter;
 import com.docsync.app.dao.DoctorRepository;
 import com.docsync.app.dao.UserRepository;
+import com.docsync.app.dto.TokenClaims;
 import com.docsync.app.service.AuthService;
+import com.docsync.app.service.AuthTokenService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -38,6 +48,17 @@ public class AuthController {
     private final AuthService authService;
 	private final UserRepository userRepository;
 	private final DoctorRepository doctorRepository;
+    private final AuthTokenService tokenService;
+
+    @Value("${auth.mode:session}")
+    private String authMode;
+
+    @Value("${auth.token.cookie-secure:false}")
+    private boolean secureCookie;
+
+    // Off: the HttpOnly cookie is the only copy, so page scripts never see the token
+    @Value("${auth.token.in-body:false}")
+    private boolean tokenInBody;
     
     // Helper to save session manually (New requirement in Spring Boot 3)
     private final SecurityContextRepository securityContextRepository = 
@@ -50,6 +71,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.CREATED).body("User registered successfully");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return tooManyRequests(e);
         }
     }
 
@@ -58,10 +81,19 @@ public class AuthController {
                                    HttpServletRequest request, 
                                    HttpServletResponse response) {
         
-        // 1. Authenticate
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
-        );
+        // 1. Authenticate (password check runs on the bounded hashing pool)
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
+            );
+        } catch (RejectedExecutionException e) {
+            return tooManyRequests(e);
+        }
+
+        if (isStateless()) {
+            return issueToken(loginRequest.getUsername(), response);
+        }
 
         // 2. Set Security Context
         SecurityContext context = SecurityContextHolder.createEmptyContext();
@@ -69,21 +101,75 @@ public class AuthController {
         SecurityContextHolder.setContext(context);
         securityContextRepository.saveContext(context, request, response);
 
-        // 3. Find the User
-        User user = userRepository.findByUsername(loginRequest.getUsername())
-             .orElseThrow(() -> new RuntimeException("User not found"));
+        // 3. Role comes from the authenticated principal; no second user lookup
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith("ROLE_"))
+                .map(a -> a.substring("ROLE_".length()))
+                .findFirst()
+                .orElse(null);
 
         // 4. Create a Map for the Response (No DTO needed)
         Map<String, String> responseBody = new HashMap<>();
-        responseBody.put("username", user.getUsername());
-        responseBody.put("role", user.getRole());
+        responseBody.put("username", authentication.getName());
+        responseBody.put("role", role);
 
         // This returns JSON: { "username": "...", "role": "..." }
         return ResponseEntity.ok(responseBody);
     }
 
+    // Stateless mode: everything /auth/me needs later is baked into the signed token here
+    private ResponseEntity<?> issueToken(String username, HttpServletResponse response) {
+        User user = userRepository.findByUsername(username)
+             .orElseThrow(() -> new RuntimeException("User not found"));
+        Doctor doctor = user.getDoctor() != null ? user.getDoctor()
+                : doctorRepository.findByEmail(user.getUsername()).orElse(null);
+
+        AuthTokenService.IssuedToken token = tokenService.issue(
+                user.getUsername(), user.getRole(), user.getId(), doctor != null ? doctor.getId() : null);
+        response.addHeader(HttpHeaders.SET_COOKIE, tokenCookie(token.value(), tokenService.ttl()).toString());
+
+        Map<String, String> responseBody = new HashMap<>();
+        responseBody.put("username", user.getUsername());
+        responseBody.put("role", user.getRole());
+        if (tokenInBody) {
+            // Opt-in for non-browser clients that send Authorization: Bearer instead of the cookie
+            responseBody.put("token", token.value());
+        }
+        return ResponseEntity.ok(responseBody);
+    }
+
+    private ResponseCookie tokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(TokenAuthenticationFilter.COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private static ResponseEntity<?> tooManyRequests(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Too many login attempts in progress, try again shortly");
+    }
+
+    private boolean isStateless() {
+        return "stateless".equals(authMode);
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        if (isStateless()) {
+            // The token stays cryptographically valid until expiry, so record its id as revoked
+            if (authentication != null && authentication.getPrincipal() instanceof TokenClaims claims) {
+                tokenService.revoke(claims);
+            }
+            response.addHeader(HttpHeaders.SET_COOKIE, tokenCookie("", Duration.ZERO).toString());
+            SecurityContextHolder.clearContext();
+            return ResponseEntity.ok("Logged out");
+        }
         HttpSession session = request.getSession(false);
         if (session != null) {
             session.invalidate(); // Deletes the session on the server
@@ -98,6 +184,16 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
+        // Token-authenticated: answer from the verified claims without touching the database
+        if (authentication.getPrincipal() instanceof TokenClaims claims) {
+            Map<String, String> responseBody = new HashMap<>();
+            responseBody.put("username", claims.username());
+            responseBody.put("role", claims.role());
+            responseBody.put("id", claims.doctorId() != null ? claims.doctorId().toString() : null);
+            responseBody.put("userid", claims.userId().toString());
+            return ResponseEntity.ok(responseBody);
+        }
+
         User user = userRepository.findByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
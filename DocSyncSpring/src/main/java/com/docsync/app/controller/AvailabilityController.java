@@ -0,0 +1,61 @@
+package com.docsync.app.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.docsync.app.dto.AvailableSlot;
+import com.docsync.app.service.AvailabilityService;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    // Next free slots for one doctor: /api/availability/doctor/1?from=2025-03-01T09:00&count=5&duration=30
+    @GetMapping("/doctor/{doctorId}")
+    public ResponseEntity<?> getDoctorSlots(
+            @PathVariable Long doctorId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "count", required = false) Integer count,
+            @RequestParam(value = "duration", required = false) Integer duration) {
+        try {
+            List<AvailableSlot> slots = availabilityService.nextFreeSlotsForDoctor(doctorId, from, to, count, duration);
+            return ResponseEntity.ok(slots);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Earliest free slots across every doctor of a specialization: /api/availability/specialization?name=Cardiology
+    @GetMapping("/specialization")
+    public ResponseEntity<?> getSpecializationSlots(
+            @RequestParam("name") String specialization,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "count", required = false) Integer count,
+            @RequestParam(value = "duration", required = false) Integer duration) {
+        try {
+            List<AvailableSlot> slots = availabilityService.nextFreeSlotsForSpecialization(specialization, from, to, count, duration);
+            return ResponseEntity.ok(slots);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
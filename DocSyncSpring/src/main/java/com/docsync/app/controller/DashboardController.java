@@ -0,0 +1,61 @@
+package com.docsync.app.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.docsync.app.dto.AdminDashboardSummary;
+import com.docsync.app.dto.DoctorTodaySummary;
+import com.docsync.app.service.DashboardService;
+import com.docsync.app.service.DoctorDashboardService;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final DoctorDashboardService doctorDashboardService;
+    private final ObjectMapper objectMapper;
+
+    // Admin: all dashboard counts and groupings in one call (cached for a few seconds)
+    @GetMapping("/admin")
+    public ResponseEntity<AdminDashboardSummary> getAdminDashboard() {
+        return ResponseEntity.ok(dashboardService.getAdminDashboard());
+    }
+
+    // Doctor: today's appointments, next duties and counts for the signed-in doctor.
+    // The ETag is a hash of the body, so a polling dashboard gets 304 until something changes.
+    @GetMapping("/doctor/today")
+    public ResponseEntity<?> getDoctorToday(Authentication authentication, WebRequest request,
+                                            @RequestParam(value = "rosters", defaultValue = "5") int rosters) {
+        try {
+            Long doctorId = doctorDashboardService.resolveDoctorId(authentication);
+            DoctorTodaySummary summary = doctorDashboardService.getToday(doctorId, rosters);
+
+            String etag = "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(summary)) + "\"";
+            if (request.checkNotModified(etag)) {
+                return null; // 304 already written
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(summary);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
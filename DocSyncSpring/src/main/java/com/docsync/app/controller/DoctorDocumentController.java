@@ -1,14 +1,10 @@
 package com.docsync.app.controller;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,7 +18,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.docsync.app.bean.DoctorDocument;
 import com.docsync.app.service.DoctorDocumentService;
-import org.springframework.core.io.Resource;
+import com.docsync.app.service.DocumentContent;
+import com.docsync.app.service.DocumentDownloadWriter;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/doctor-documents")
@@ -31,6 +32,9 @@ public class DoctorDocumentController {
     @Autowired
     private DoctorDocumentService documentService;
 
+    @Autowired
+    private DocumentDownloadWriter downloadWriter;
+
     // Upload
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<DoctorDocument> uploadDocument(
@@ -50,26 +54,18 @@ public class DoctorDocumentController {
         return ResponseEntity.ok(documentService.getDocumentsByDoctorId(doctorId));
     }
 
-    // Download/View File
+    // Download/View File (inline; supports Range, If-None-Match and If-Modified-Since)
     @GetMapping("/download/{id}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long id) {
+    public void downloadFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        DocumentContent content;
         try {
-            DoctorDocument doc = documentService.getDocumentById(id);
-            Path path = Paths.get(doc.getFilePath());
-            Resource resource = new UrlResource(path.toUri());
-
-            if (resource.exists() && resource.isReadable()) {
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(doc.getDocumentType()))
-                        // "inline" allows viewing in browser (like PDFs), change to "attachment" to force download
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + doc.getDocumentName() + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
-            }
-        } catch (MalformedURLException e) {
-            return ResponseEntity.internalServerError().build();
+            content = documentService.openDocument(id);
+        } catch (EntityNotFoundException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
         }
+        downloadWriter.write(content, request, response);
     }
     
     // Delete
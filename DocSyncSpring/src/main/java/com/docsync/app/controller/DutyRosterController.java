@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,8 +16,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.DutyRoster;
+import com.docsync.app.dto.KeysetPage;
 import com.docsync.app.service.DutyRosterService;
 
 import lombok.RequiredArgsConstructor;
@@ -55,6 +58,31 @@ public class DutyRosterController {
         return ResponseEntity.ok(service.getAllRosters());
     }
 
+    // Keyset page: /api/duty-rosters/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<DutyRoster>> getRosterPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getRosterPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // NDJSON export, one row per line straight off the DB cursor: /api/duty-rosters/stream
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRosters(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(service.streamRosters(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<List<DutyRoster>> getRostersByDoctor(@PathVariable Long doctorId) {
         return ResponseEntity.ok(service.getRostersByDoctorId(doctorId));
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.docsync.app.bean.DoctorEquipment;
 import com.docsync.app.bean.Equipment;
 import com.docsync.app.dao.DoctorEquipmentRepository;
+import com.docsync.app.dto.DoctorEquipmentView;
 import com.docsync.app.service.DoctorEquipmentService;
 import com.docsync.app.service.EquipmentService;
 @RestController
@@ -99,8 +100,8 @@ public class EquipmentController {
         }
     }
     @GetMapping("/assignments")
-    public ResponseEntity<List<DoctorEquipment>> getActiveAssignments() {
-        List<DoctorEquipment> activeAssignments = doctorEquipmentRepo.findByReturnedDateIsNull();
+    public ResponseEntity<List<DoctorEquipmentView>> getActiveAssignments() {
+        List<DoctorEquipmentView> activeAssignments = doctorEquipmentRepo.findActiveViews();
         return new ResponseEntity<>(activeAssignments, HttpStatus.OK);
     }
 
@@ -0,0 +1,59 @@
+package com.docsync.app.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.docsync.app.dao.ExportRepository.Dataset;
+import com.docsync.app.dto.ExportFilter;
+import com.docsync.app.service.ExportFormat;
+import com.docsync.app.service.ExportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // Admin download: /api/exports/{payroll|attendance|claims}?format=csv|xlsx&month=3&year=2025&status=&departmentId=
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "month", required = false) String month,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "departmentId", required = false) Long departmentId) {
+        try {
+            Dataset d = ExportService.parseDataset(dataset);
+            ExportFormat f = ExportFormat.parse(format);
+            ExportFilter filter = ExportService.filter(month, year, status, departmentId);
+            StreamingResponseBody body = exportService.export(d, f, filter);
+            return ResponseEntity.ok()
+                    .contentType(f.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(ExportService.fileName(d, f, filter), StandardCharsets.UTF_8)
+                            .build().toString())
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            // Still a StreamingResponseBody: only that return type is written by the streaming handler
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(out -> out.write(message));
+        }
+    }
+}
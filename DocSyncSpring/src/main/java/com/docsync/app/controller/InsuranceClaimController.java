@@ -3,6 +3,7 @@ package com.docsync.app.controller;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,8 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.InsuranceClaim;
+import com.docsync.app.dto.InsuranceClaimView;
+import com.docsync.app.dto.KeysetPage;
 import com.docsync.app.service.InsuranceClaimService;
 
 import lombok.RequiredArgsConstructor;
@@ -57,19 +61,44 @@ public class InsuranceClaimController {
     }
 
     @GetMapping
-    public ResponseEntity<List<InsuranceClaim>> getAllClaims() {
+    public ResponseEntity<List<InsuranceClaimView>> getAllClaims() {
         return ResponseEntity.ok(service.getAllClaims());
     }
 
+    // Keyset page: /insurance-claims/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<InsuranceClaimView>> getClaimPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getClaimPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // NDJSON export, one row per line straight off the DB cursor: /insurance-claims/stream
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamClaims(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(service.streamClaims(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // Get claim for a specific appointment
     @GetMapping("/appointment/{appointmentId}")
-    public ResponseEntity<List<InsuranceClaim>> getClaimsByAppointment(@PathVariable Long appointmentId) {
+    public ResponseEntity<List<InsuranceClaimView>> getClaimsByAppointment(@PathVariable Long appointmentId) {
         return ResponseEntity.ok(service.getClaimsByAppointment(appointmentId));
     }
 
     // Filter by status: /insurance-claims/status?val=PENDING
     @GetMapping("/status")
-    public ResponseEntity<List<InsuranceClaim>> getClaimsByStatus(@RequestParam("val") String status) {
+    public ResponseEntity<List<InsuranceClaimView>> getClaimsByStatus(@RequestParam("val") String status) {
         return ResponseEntity.ok(service.getClaimsByStatus(status));
     }
 
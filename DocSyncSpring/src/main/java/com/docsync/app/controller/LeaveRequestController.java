@@ -3,6 +3,7 @@ package com.docsync.app.controller;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.LeaveRequest;
+import com.docsync.app.dto.KeysetPage;
 import com.docsync.app.service.LeaveRequestService;
 
 import lombok.RequiredArgsConstructor;
@@ -76,6 +79,31 @@ public class LeaveRequestController {
         return ResponseEntity.ok(service.getAllLeaveRequests());
     }
 
+    // Keyset page: /api/leave-requests/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<LeaveRequest>> getLeaveRequestPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getLeaveRequestPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // NDJSON export, one row per line straight off the DB cursor: /api/leave-requests/stream
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamLeaveRequests(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(service.streamLeaveRequests(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<List<LeaveRequest>> getRequestsByDoctor(@PathVariable Long doctorId) {
         return ResponseEntity.ok(service.getLeaveRequestsByDoctor(doctorId));
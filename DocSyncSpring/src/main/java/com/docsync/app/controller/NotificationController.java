@@ -1,10 +1,13 @@
 package com.docsync.app.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,11 +15,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Notification;
+import com.docsync.app.dto.KeysetPage;
+import com.docsync.app.dto.NotificationView;
 import com.docsync.app.service.NotificationService;
 
+import jakarta.persistence.EntityNotFoundException;
+
 @RestController
 @RequestMapping("/notification")
 public class NotificationController {
@@ -57,4 +66,75 @@ public class NotificationController {
 	public ResponseEntity<List<Notification>> getAllNotification(){
 		return ResponseEntity.ok(noserv.getAllNotifications());
 	}
+	
+	@GetMapping("/page")
+	public ResponseEntity<KeysetPage<Notification>> getPage(@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size){
+		try {
+			return ResponseEntity.ok(noserv.getNotificationPage(cursor, size));
+		}
+		catch(IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> stream(@RequestParam(value = "cursor", required = false) String cursor){
+		try {
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(noserv.streamNotifications(cursor));
+		}
+		catch(IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	// --- Signed-in user's inbox ---
+
+	@GetMapping("/me")
+	public ResponseEntity<KeysetPage<NotificationView>> getInbox(Authentication authentication,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size){
+		try {
+			return ResponseEntity.ok(noserv.getInbox(noserv.resolveUserId(authentication), cursor, size));
+		}
+		catch(IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+		catch(EntityNotFoundException e) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+	}
+
+	// Served from the in-memory counter, so the navbar badge can poll it cheaply
+	@GetMapping("/me/unread-count")
+	public ResponseEntity<Map<String, Long>> getUnreadCount(Authentication authentication){
+		try {
+			return ResponseEntity.ok(Map.of("count", noserv.getUnreadCount(noserv.resolveUserId(authentication))));
+		}
+		catch(EntityNotFoundException e) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+	}
+
+	@PutMapping("/me/{id}/read")
+	public ResponseEntity<Void> markRead(Authentication authentication, @PathVariable Long id){
+		try {
+			noserv.markRead(noserv.resolveUserId(authentication), id);
+			return ResponseEntity.noContent().build();
+		}
+		catch(EntityNotFoundException e) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+	}
+
+	@PutMapping("/me/read-all")
+	public ResponseEntity<Void> markAllRead(Authentication authentication){
+		try {
+			noserv.markAllRead(noserv.resolveUserId(authentication));
+			return ResponseEntity.noContent().build();
+		}
+		catch(EntityNotFoundException e) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+	}
 }
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.docsync.app.bean.OrgChart;
+import com.docsync.app.dto.OrgChartGraph;
 import com.docsync.app.service.OrgChartService;
 
 @RestController
@@ -25,8 +26,8 @@ public class OrgChartController {
     // Returns raw data: Departments, Enriched Employees, and Relationships
     // Frontend handles ReactFlow node/edge creation
     @GetMapping("/data")
-    public ResponseEntity<Map<String, Object>> getOrgChartData() {
-        Map<String, Object> data = orgChartService.getRawGraphData();
+    public ResponseEntity<OrgChartGraph> getOrgChartData() {
+        OrgChartGraph data = orgChartService.getRawGraphData();
         return new ResponseEntity<>(data, HttpStatus.OK);
     }
 
@@ -1,9 +1,11 @@
 package com.docsync.app.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,9 +14,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Patient;
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.dto.KeysetPage;
 import com.docsync.app.service.PatientService;
 
 @RestController
@@ -41,12 +47,17 @@ public class PatientController {
     /**
      * Create multiple patients (Bulk)
      * POST /api/patients/batch
-     * Expects a JSON Array: [ { ... }, { ... } ]
+     * Expects a JSON Array: [ { ... }, { ... } ], read as a stream and committed in chunks.
+     * 201 when every row was inserted, 207 with the per-row / per-chunk errors otherwise.
      */
-    @PostMapping("/batch")
-    public ResponseEntity<List<Patient>> createPatientsBulk(@RequestBody List<Patient> patients) {
-        List<Patient> savedPatients = patientService.createPatientsBulk(patients);
-        return new ResponseEntity<>(savedPatients, HttpStatus.CREATED);
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createPatientsBulk(InputStream body) {
+        try {
+            BulkImportReport report = patientService.createPatientsBulk(body);
+            return new ResponseEntity<>(report, report.allInserted() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
     }
 
     /**
@@ -58,6 +69,37 @@ public class PatientController {
         return ResponseEntity.ok(patientService.getAllPatients());
     }
 
+    /**
+     * Get one keyset page of patients
+     * GET /api/patients/page?cursor=...&size=50
+     */
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<Patient>> getPatientPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(patientService.getPatientPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Stream all patients as NDJSON straight off the DB cursor
+     * GET /api/patients/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPatients(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(patientService.streamPatients(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get patient by ID
      * GET /api/patients/{id}
@@ -0,0 +1,38 @@
+package com.docsync.app.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.service.PatientRecordService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/patient-records")
+@RequiredArgsConstructor
+public class PatientRecordController {
+
+    private final PatientRecordService patientRecordService;
+
+    /**
+     * Bulk import of visit records
+     * POST /api/patient-records/batch
+     * Expects a JSON Array: [ { "doctor": {"id": 1}, "patient": {"id": 2}, "diagnosis": ..., "visitDate": ... } ]
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importRecords(InputStream body) {
+        try {
+            BulkImportReport report = patientRecordService.importRecords(body);
+            return new ResponseEntity<>(report, report.allInserted() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
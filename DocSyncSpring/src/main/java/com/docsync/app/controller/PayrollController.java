@@ -1,8 +1,10 @@
 package com.docsync.app.controller;
 
+import java.net.URI;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,8 +15,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Payroll;
+import com.docsync.app.dto.KeysetPage;
+import com.docsync.app.dto.PayrollRunStatus;
+import com.docsync.app.service.PayrollRunService;
 import com.docsync.app.service.PayrollService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 public class PayrollController {
 
     private final PayrollService payrollService;
+    private final PayrollRunService payrollRunService;
 
     // Create
     @PostMapping
@@ -32,6 +39,31 @@ public class PayrollController {
         return new ResponseEntity<>(payrollService.createPayroll(payroll), HttpStatus.CREATED);
     }
 
+    // Whole-month payroll run: POST /api/payrolls/runs?month=March&year=2025, then poll the returned job
+    @PostMapping("/runs")
+    public ResponseEntity<?> startPayrollRun(@RequestParam String month, @RequestParam Integer year) {
+        try {
+            PayrollRunStatus status = payrollRunService.start(month, year);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/payrolls/runs/" + status.jobId()))
+                    .body(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/runs/{jobId}")
+    public ResponseEntity<PayrollRunStatus> getPayrollRun(@PathVariable String jobId) {
+        return payrollRunService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<List<PayrollRunStatus>> getPayrollRuns() {
+        return ResponseEntity.ok(payrollRunService.getRecentRuns());
+    }
+
     // Update
     @PutMapping("/{id}")
     public ResponseEntity<Payroll> updatePayroll(@PathVariable Long id, @RequestBody Payroll payroll) {
@@ -51,6 +83,31 @@ public class PayrollController {
         return ResponseEntity.ok(payrollService.getAllPayrolls());
     }
 
+    // Keyset page: /api/payrolls/page?cursor=...&size=50
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<Payroll>> getPayrollPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(payrollService.getPayrollPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // NDJSON export, one row per line straight off the DB cursor: /api/payrolls/stream
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPayrolls(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(payrollService.streamPayrolls(cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // Get Single
     @GetMapping("/{id}")
     public ResponseEntity<Payroll> getPayrollById(@PathVariable Long id) {
@@ -0,0 +1,50 @@
+package com.docsync.app.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.docsync.app.service.DoctorDashboardService;
+import com.docsync.app.service.NotificationService;
+import com.docsync.app.service.PushHub;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/push")
+@RequiredArgsConstructor
+public class PushController {
+
+    private final PushHub pushHub;
+    private final NotificationService notificationService;
+    private final DoctorDashboardService doctorDashboardService;
+
+    // One long-lived text/event-stream per tab. Events: unread (on connect), notification,
+    // duty-roster, appointment, grievance-response; comment heartbeats keep it open.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(Authentication authentication) {
+        try {
+            Long userId = notificationService.resolveUserId(authentication);
+            boolean admin = hasRole(authentication, "ROLE_ADMIN");
+            Long doctorId = hasRole(authentication, "ROLE_DOCTOR")
+                    ? doctorDashboardService.resolveDoctorId(authentication)
+                    : null;
+            SseEmitter emitter = pushHub.subscribe(userId, doctorId, admin, notificationService.getUnreadCount(userId));
+            // Stop proxies (nginx) from buffering the stream
+            return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private static boolean hasRole(Authentication authentication, String role) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).anyMatch(role::equals);
+    }
+}
@@ -0,0 +1,52 @@
+package com.docsync.app.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.docsync.app.service.SearchIndexService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    // Ranked, typo-tolerant search over name, specialization and department.
+    // Pass nextCursor back as ?cursor= for the following page.
+    @GetMapping("/doctors")
+    public ResponseEntity<?> searchDoctors(@RequestParam("q") String query,
+                                           @RequestParam(value = "cursor", required = false) String cursor,
+                                           @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(searchIndexService.searchDoctors(query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Name, email or phone; "555 01" and "jane.d@" style inputs also match as whole-value prefixes
+    @GetMapping("/patients")
+    public ResponseEntity<?> searchPatients(@RequestParam("q") String query,
+                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(searchIndexService.searchPatients(query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Admin: rebuild the index from the database (runs in the background)
+    @PostMapping("/reindex")
+    public ResponseEntity<Void> reindex() {
+        searchIndexService.rebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
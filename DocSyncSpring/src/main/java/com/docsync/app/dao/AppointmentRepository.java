@@ -2,17 +2,62 @@ package com.docsync.app.dao;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.hibernate.annotations.processing.Find;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.Appointment;
+import com.docsync.app.dto.AppointmentView;
+import com.docsync.app.dto.BookedInterval;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment,Long> {
+public interface AppointmentRepository extends KeysetPagingRepository<Appointment> {
+
+    // List views: one query with the doctor, department and patient columns the UI shows
+    String VIEW_SELECT = "SELECT new com.docsync.app.dto.AppointmentView(" +
+            "a.id, a.appointmentTime, a.durationMinutes, a.appointmentEnd, a.status, a.notes, " +
+            "d.id, d.firstName, d.lastName, d.specialization, dep.id, dep.name, " +
+            "p.id, p.firstName, p.lastName, p.email, p.phone) " +
+            "FROM Appointment a LEFT JOIN a.doctor d LEFT JOIN d.department dep LEFT JOIN a.patient p ";
+
+    @Query(VIEW_SELECT + "ORDER BY a.id")
+    List<AppointmentView> findAllViews();
+
+    // Keyset page / NDJSON stream of the same rows, seeking on the primary key
+    @Query(VIEW_SELECT + "WHERE a.id > :afterId ORDER BY a.id")
+    List<AppointmentView> findViewsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW_SELECT + "WHERE a.id > :afterId ORDER BY a.id")
+    Stream<AppointmentView> streamViewsAfter(@Param("afterId") Long afterId);
+
+    @Query(VIEW_SELECT + "WHERE d.id = :doctorId AND a.appointmentTime > :time ORDER BY a.appointmentTime ASC")
+    List<AppointmentView> findUpcomingViews(@Param("doctorId") Long doctorId, @Param("time") LocalDateTime time);
+
+    // Doctor dashboard: one day's bookings, range scan on idx_appointments_doctor_time
+    @Query(VIEW_SELECT + "WHERE d.id = :doctorId AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+           "ORDER BY a.appointmentTime ASC")
+    List<AppointmentView> findViewsBetween(@Param("doctorId") Long doctorId,
+                                           @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    long countByDoctorIdAndAppointmentTimeAfter(Long doctorId, LocalDateTime time);
+
+    @Query("SELECT a.doctor.id FROM Appointment a WHERE a.id = :id")
+    Optional<Long> findDoctorIdById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + "WHERE p.id = :patientId ORDER BY a.appointmentTime DESC")
+    List<AppointmentView> findPatientHistoryViews(@Param("patientId") Long patientId);
 
 	// Find upcoming appointments for a doctor
     List<Appointment> findByDoctorIdAndAppointmentTimeAfterOrderByAppointmentTimeAsc(Long doctorId, LocalDateTime time);
@@ -20,12 +65,42 @@ public interface AppointmentRepository extends JpaRepository<Appointment,Long> {
     // Find history for a patient
     List<Appointment> findByPatientIdOrderByAppointmentTimeDesc(Long patientId);
 
-    // Check for overlaps (simplistic approach)
-    @Query("SELECT a FROM Appointment a WHERE a.doctor.id = :doctorId AND " +
-           "a.appointmentTime BETWEEN :start AND :end")
-    List<Appointment> findConflictingAppointments(@Param("doctorId") Long doctorId, 
-                                                  @Param("start") LocalDateTime start, 
-                                                  @Param("end") LocalDateTime end);
+    // Interval overlap: existing.start < new.end AND existing.end > new.start.
+    // Rows booked before appointment_end existed are treated as lasting the default duration
+    // (legacyStart = new.start - default duration). Cancelled appointments free their slot.
+    // earliestStart (new.start - longest allowed appointment) gives the range scan on
+    // idx_appointments_doctor_time (doctor_id, appointment_time) a lower bound; without it
+    // every past appointment of the doctor is read.
+    @Query("SELECT COUNT(a) FROM Appointment a WHERE a.doctor.id = :doctorId " +
+           "AND a.id <> :excludeId " +
+           "AND (a.status IS NULL OR UPPER(a.status) <> 'CANCELLED') " +
+           "AND a.appointmentTime > :earliestStart AND a.appointmentTime < :end " +
+           "AND (a.appointmentEnd > :start OR (a.appointmentEnd IS NULL AND a.appointmentTime > :legacyStart))")
+    long countOverlapping(@Param("doctorId") Long doctorId,
+                          @Param("excludeId") Long excludeId,
+                          @Param("start") LocalDateTime start,
+                          @Param("end") LocalDateTime end,
+                          @Param("legacyStart") LocalDateTime legacyStart,
+                          @Param("earliestStart") LocalDateTime earliestStart);
+
+    // Availability index seed: only the columns needed to mark a doctor busy, no entity graph
+    @Query("SELECT new com.docsync.app.dto.BookedInterval(a.id, a.appointmentTime, a.appointmentEnd) " +
+           "FROM Appointment a WHERE a.doctor.id = :doctorId AND a.appointmentTime >= :from " +
+           "AND (a.status IS NULL OR UPPER(a.status) <> 'CANCELLED')")
+    List<BookedInterval> findBookedIntervals(@Param("doctorId") Long doctorId, @Param("from") LocalDateTime from);
+
+    // Bulk import: every booking that could overlap [from, to), same rules as countOverlapping
+    @Query("SELECT new com.docsync.app.dto.BookedInterval(a.id, a.appointmentTime, a.appointmentEnd) " +
+           "FROM Appointment a WHERE a.doctor.id = :doctorId " +
+           "AND (a.status IS NULL OR UPPER(a.status) <> 'CANCELLED') " +
+           "AND a.appointmentTime > :earliestFrom AND a.appointmentTime < :to " +
+           "AND (a.appointmentEnd > :from OR (a.appointmentEnd IS NULL AND a.appointmentTime > :legacyFrom))")
+    List<BookedInterval> findBookedIntervalsBetween(@Param("doctorId") Long doctorId,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to,
+                                                   @Param("legacyFrom") LocalDateTime legacyFrom,
+                                                   @Param("earliestFrom") LocalDateTime earliestFrom);
+
     List<Appointment> findByDoctorId(Long doctorId);
     List<Appointment> findByPatientId(Long patientId);
 }
@@ -1,19 +1,61 @@
 package com.docsync.app.dao;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.dto.AttendanceView;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface AttendanceRepository extends JpaRepository<AttendanceRecord,Long>{
+public interface AttendanceRepository extends KeysetPagingRepository<AttendanceRecord>{
+
+    // Keyset page / NDJSON stream: the doctor and department columns joined in, no per-row lazy loads
+    String VIEW_SELECT = "SELECT new com.docsync.app.dto.AttendanceView(" +
+            "a.id, a.date, a.status, a.checkIn, a.checkOut, " +
+            "d.id, d.firstName, d.lastName, d.specialization, dep.id, dep.name) " +
+            "FROM AttendanceRecord a LEFT JOIN a.doctor d LEFT JOIN d.department dep ";
+
+    @Query(VIEW_SELECT + "WHERE a.id > :afterId ORDER BY a.id")
+    List<AttendanceView> findViewsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW_SELECT + "WHERE a.id > :afterId ORDER BY a.id")
+    Stream<AttendanceView> streamViewsAfter(@Param("afterId") Long afterId);
+
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "doctor.department"})
+    List<AttendanceRecord> findAll();
+
 	// Find all attendance records for a specific doctor
     List<AttendanceRecord> findByDoctorId(Long doctorId);
 
     // Find attendance for a specific doctor on a specific date (Crucial for logic)
     Optional<AttendanceRecord> findByDoctorIdAndDate(Long doctorId, LocalDate date);
+
+    // Check-out: holds the row until commit so two check-outs for the same day run one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AttendanceRecord a WHERE a.doctor.id = :doctorId AND a.date = :date")
+    Optional<AttendanceRecord> findForUpdate(@Param("doctorId") Long doctorId, @Param("date") LocalDate date);
+
+    // Clock-in batches: the day's rows for a set of doctors in one query
+    @Query("SELECT a FROM AttendanceRecord a WHERE a.date = :date AND a.doctor.id IN :doctorIds")
+    List<AttendanceRecord> findByDateAndDoctorIds(@Param("date") LocalDate date, @Param("doctorIds") Collection<Long> doctorIds);
 }
@@ -0,0 +1,46 @@
+package com.docsync.app.dao;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.docsync.app.bean.AttendanceRollup;
+import com.docsync.app.dto.AttendanceTotals;
+
+@Repository
+public interface AttendanceRollupRepository extends JpaRepository<AttendanceRollup, Long> {
+
+    // Adds the deltas to the period's row, creating it on first write; atomic under concurrent writers
+    @Modifying
+    @Query(value = "INSERT INTO attendance_rollups (doctor_id, period_type, period_start, worked_minutes, " +
+                   "overtime_hours, days_present, late_arrivals, absences) " +
+                   "VALUES (:doctorId, :periodType, :periodStart, :workedMinutes, :overtimeHours, :daysPresent, " +
+                   ":lateArrivals, :absences) " +
+                   "ON DUPLICATE KEY UPDATE worked_minutes = worked_minutes + VALUES(worked_minutes), " +
+                   "overtime_hours = overtime_hours + VALUES(overtime_hours), " +
+                   "days_present = days_present + VALUES(days_present), " +
+                   "late_arrivals = late_arrivals + VALUES(late_arrivals), " +
+                   "absences = absences + VALUES(absences)",
+           nativeQuery = true)
+    void addDelta(@Param("doctorId") Long doctorId, @Param("periodType") String periodType,
+                  @Param("periodStart") LocalDate periodStart, @Param("workedMinutes") long workedMinutes,
+                  @Param("overtimeHours") long overtimeHours, @Param("daysPresent") int daysPresent,
+                  @Param("lateArrivals") int lateArrivals, @Param("absences") int absences);
+
+    List<AttendanceRollup> findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAscDoctorIdAsc(
+            String periodType, LocalDate from, LocalDate to);
+
+    List<AttendanceRollup> findByDoctorIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+            Long doctorId, String periodType, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.docsync.app.dto.AttendanceTotals(r.doctorId, SUM(r.workedMinutes), SUM(r.overtimeHours), " +
+           "SUM(r.daysPresent), SUM(r.lateArrivals), SUM(r.absences)) FROM AttendanceRollup r " +
+           "WHERE r.doctorId = :doctorId AND r.periodType = 'MONTH' GROUP BY r.doctorId")
+    Optional<AttendanceTotals> sumMonthlyForDoctor(@Param("doctorId") Long doctorId);
+}
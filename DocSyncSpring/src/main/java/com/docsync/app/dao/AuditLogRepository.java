@@ -2,12 +2,11 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.AuditLog;
 
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends KeysetPagingRepository<AuditLog> {
     List<AuditLog> findByUserIdOrderByTimestampDesc(Long userId);
 }
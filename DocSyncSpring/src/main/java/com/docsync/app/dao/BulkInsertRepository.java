@@ -0,0 +1,231 @@
+package com.docsync.app.dao;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.bean.AttendanceRollup;
+import com.docsync.app.bean.Notification;
+import com.docsync.app.bean.Patient;
+import com.docsync.app.bean.PatientRecord;
+import com.docsync.app.bean.Payroll;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Multi-row inserts for the bulk import endpoints. The entities use IDENTITY keys, which
+ * stop Hibernate from batching INSERTs, so these go through one JDBC batch per chunk instead
+ * (MySQL Connector/J folds each batch into a multi-row INSERT via rewriteBatchedStatements).
+ * Callers own the transaction and have already validated every row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkInsertRepository {
+
+    private static final String INSERT_PATIENT = "INSERT INTO patients (first_name, last_name, email, phone, " +
+            "date_of_birth, gender, address, blood_group, emergency_contact_name, emergency_contact_phone, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_APPOINTMENT = "INSERT INTO appointments (doctor_id, patient_id, " +
+            "appointment_time, duration_minutes, appointment_end, status, notes) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PATIENT_RECORD = "INSERT INTO patient_records (doctor_id, patient_id, " +
+            "diagnosis, treatment, visit_date) VALUES (?, ?, ?, ?, ?)";
+
+    // Idempotent on uk_payroll_doctor_period: a row that already exists for the doctor/month is left untouched
+    private static final String INSERT_PAYROLL = "INSERT INTO payroll (doctor_id, month, year, gross_salary, " +
+            "deductions, net_salary, processed_at) VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String INSERT_ATTENDANCE_ROLLUP = "INSERT INTO attendance_rollups (doctor_id, period_type, " +
+            "period_start, worked_minutes, overtime_hours, days_present, late_arrivals, absences) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ATTENDANCE = "INSERT INTO attendance_records (doctor_id, date, status, " +
+            "check_in, check_in_key) VALUES (?, ?, ?, ?, ?)";
+
+    // Clock-in batches: a doctor who already has the day's row (uk_attendance_doctor_date) keeps it;
+    // the caller re-reads the rows to see whose check_in_key was written
+    private static final String INSERT_ATTENDANCE_IF_ABSENT = INSERT_ATTENDANCE + " ON DUPLICATE KEY UPDATE id = id";
+
+    // Same upsert as AttendanceRollupRepository.addDelta, one row per doctor/period
+    private static final String ADD_ATTENDANCE_ROLLUP_DELTA = INSERT_ATTENDANCE_ROLLUP +
+            " ON DUPLICATE KEY UPDATE worked_minutes = worked_minutes + VALUES(worked_minutes), " +
+            "overtime_hours = overtime_hours + VALUES(overtime_hours), " +
+            "days_present = days_present + VALUES(days_present), " +
+            "late_arrivals = late_arrivals + VALUES(late_arrivals), " +
+            "absences = absences + VALUES(absences)";
+
+    private static final String INSERT_NOTIFICATION = "INSERT INTO notifications (user_id, message, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Sets the generated id on each notification (the dispatcher pushes them to clients after commit)
+    public int insertNotifications(List<Notification> notifications) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        int[] counts = jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_NOTIFICATION, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification n = notifications.get(i);
+                        setId(ps, 1, n.getUser().getId());
+                        ps.setString(2, n.getMessage());
+                        ps.setBoolean(3, Boolean.TRUE.equals(n.getIsRead()));
+                        setTimestamp(ps, 4, n.getCreatedAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                },
+                keys);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < generated.size() && i < notifications.size(); i++) {
+            Object key = generated.get(i).values().iterator().next();
+            notifications.get(i).setId(((Number) key).longValue());
+        }
+        return sum(new int[][] {counts});
+    }
+
+    public int insertPatients(List<Patient> patients) {
+        return sum(jdbcTemplate.batchUpdate(INSERT_PATIENT, patients, patients.size(), (ps, p) -> {
+            ps.setString(1, p.getFirstName());
+            ps.setString(2, p.getLastName());
+            ps.setString(3, p.getEmail());
+            ps.setString(4, p.getPhone());
+            setDate(ps, 5, p.getDateOfBirth());
+            ps.setString(6, p.getGender());
+            ps.setString(7, p.getAddress());
+            ps.setString(8, p.getBloodGroup());
+            ps.setString(9, p.getEmergencyContactName());
+            ps.setString(10, p.getEmergencyContactPhone());
+            setTimestamp(ps, 11, p.getCreatedAt());
+        }));
+    }
+
+    public int insertAppointments(List<Appointment> appointments) {
+        return sum(jdbcTemplate.batchUpdate(INSERT_APPOINTMENT, appointments, appointments.size(), (ps, a) -> {
+            setId(ps, 1, a.getDoctor() != null ? a.getDoctor().getId() : null);
+            setId(ps, 2, a.getPatient() != null ? a.getPatient().getId() : null);
+            setTimestamp(ps, 3, a.getAppointmentTime());
+            if (a.getDurationMinutes() != null) {
+                ps.setInt(4, a.getDurationMinutes());
+            } else {
+                ps.setNull(4, Types.INTEGER);
+            }
+            setTimestamp(ps, 5, a.getAppointmentEnd());
+            ps.setString(6, a.getStatus());
+            ps.setString(7, a.getNotes());
+        }));
+    }
+
+    public int insertPatientRecords(List<PatientRecord> records) {
+        return sum(jdbcTemplate.batchUpdate(INSERT_PATIENT_RECORD, records, records.size(), (ps, r) -> {
+            setId(ps, 1, r.getDoctor() != null ? r.getDoctor().getId() : null);
+            setId(ps, 2, r.getPatient() != null ? r.getPatient().getId() : null);
+            ps.setString(3, r.getDiagnosis());
+            ps.setString(4, r.getTreatment());
+            setDate(ps, 5, r.getVisitDate());
+        }));
+    }
+
+    public int insertPayrolls(List<Payroll> payrolls) {
+        return sum(jdbcTemplate.batchUpdate(INSERT_PAYROLL, payrolls, payrolls.size(), (ps, p) -> {
+            setId(ps, 1, p.getDoctor().getId());
+            ps.setString(2, p.getMonth());
+            ps.setInt(3, p.getYear());
+            ps.setBigDecimal(4, p.getGrossSalary());
+            ps.setBigDecimal(5, p.getDeductions());
+            ps.setBigDecimal(6, p.getNetSalary());
+            setTimestamp(ps, 7, p.getProcessedAt());
+        }));
+    }
+
+    public int insertAttendanceRollups(List<AttendanceRollup> rollups) {
+        return sum(jdbcTemplate.batchUpdate(INSERT_ATTENDANCE_ROLLUP, rollups, 500, BulkInsertRepository::setRollup));
+    }
+
+    private static void setRollup(PreparedStatement ps, AttendanceRollup r) throws SQLException {
+        ps.setLong(1, r.getDoctorId());
+        ps.setString(2, r.getPeriodType());
+        setDate(ps, 3, r.getPeriodStart());
+        ps.setLong(4, r.getWorkedMinutes());
+        ps.setLong(5, r.getOvertimeHours());
+        ps.setInt(6, r.getDaysPresent());
+        ps.setInt(7, r.getLateArrivals());
+        ps.setInt(8, r.getAbsences());
+    }
+
+    // Single check-in: returns the generated id, or throws DuplicateKeyException when the doctor already
+    // has a row for the date
+    public long insertAttendance(AttendanceRecord record) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_ATTENDANCE, new String[] {"id"});
+            setAttendance(ps, record);
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    public int insertAttendanceIfAbsent(List<AttendanceRecord> records) {
+        return sum(jdbcTemplate.batchUpdate(INSERT_ATTENDANCE_IF_ABSENT, records, 500, BulkInsertRepository::setAttendance));
+    }
+
+    public int addAttendanceRollupDeltas(List<AttendanceRollup> deltas) {
+        return sum(jdbcTemplate.batchUpdate(ADD_ATTENDANCE_ROLLUP_DELTA, deltas, 500, BulkInsertRepository::setRollup));
+    }
+
+    private static void setAttendance(PreparedStatement ps, AttendanceRecord r) throws SQLException {
+        setId(ps, 1, r.getDoctor().getId());
+        setDate(ps, 2, r.getDate());
+        ps.setString(3, r.getStatus());
+        ps.setTime(4, r.getCheckIn() != null ? Time.valueOf(r.getCheckIn()) : null);
+        ps.setString(5, r.getCheckInKey());
+    }
+
+    // With rewriteBatchedStatements the driver reports SUCCESS_NO_INFO (-2) per row
+    private static int sum(int[][] counts) {
+        int total = 0;
+        for (int[] batch : counts) {
+            for (int c : batch) {
+                total += c == Statement.SUCCESS_NO_INFO ? 1 : c;
+            }
+        }
+        return total;
+    }
+
+    private static void setId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id != null) {
+            ps.setLong(index, id);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        ps.setDate(index, date != null ? Date.valueOf(date) : null);
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime time) throws SQLException {
+        ps.setTimestamp(index, time != null ? Timestamp.valueOf(time) : null);
+    }
+}
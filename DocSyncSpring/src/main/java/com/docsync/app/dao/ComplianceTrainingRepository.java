@@ -1,11 +1,19 @@
 package com.docsync.app.dao;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.ComplianceTraining;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ComplianceTrainingRepository extends JpaRepository<ComplianceTraining,Long>{
+public interface ComplianceTrainingRepository extends KeysetPagingRepository<ComplianceTraining>{
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ComplianceTraining> findAll();
 }
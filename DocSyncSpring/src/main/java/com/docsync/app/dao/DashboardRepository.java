@@ -0,0 +1,57 @@
+package com.docsync.app.dao;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin dashboard figures as (metric, key, value) rows from a single UNION ALL statement,
+ * so the whole dashboard costs one round trip regardless of table sizes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardRepository {
+
+    public static final String DOCTORS_BY_STATUS = "doctors_by_status";
+    public static final String DOCTORS_BY_DEPARTMENT = "doctors_by_department";
+    public static final String HIRES_PER_MONTH = "hires_per_month";
+    public static final String DEPARTMENTS = "departments";
+    public static final String PENDING_LEAVES = "pending_leaves";
+    public static final String OPEN_GRIEVANCES = "open_grievances";
+    public static final String EQUIPMENT_IN_USE = "equipment_in_use";
+
+    // 'yyyy-MM' from the ISO date text; DATE_FORMAT is MySQL-only and the test profile runs on H2
+    private static final String HIRE_MONTH = "SUBSTRING(CAST(d.hire_date AS CHAR(10)), 1, 7)";
+
+    private static final String DASHBOARD_SQL =
+            "SELECT '" + DOCTORS_BY_STATUS + "' AS metric, COALESCE(UPPER(d.status), 'UNKNOWN') AS k, COUNT(*) AS v " +
+            "FROM doctors d GROUP BY COALESCE(UPPER(d.status), 'UNKNOWN') " +
+            "UNION ALL " +
+            "SELECT '" + DOCTORS_BY_DEPARTMENT + "', COALESCE(dep.name, 'Unassigned'), COUNT(*) " +
+            "FROM doctors d LEFT JOIN departments dep ON dep.id = d.department_id GROUP BY dep.id, dep.name " +
+            "UNION ALL " +
+            "SELECT '" + HIRES_PER_MONTH + "', " + HIRE_MONTH + ", COUNT(*) " +
+            "FROM doctors d WHERE d.hire_date IS NOT NULL GROUP BY " + HIRE_MONTH + " " +
+            "UNION ALL " +
+            "SELECT '" + DEPARTMENTS + "', NULL, COUNT(*) FROM departments " +
+            "UNION ALL " +
+            "SELECT '" + PENDING_LEAVES + "', NULL, COUNT(*) FROM leave_requests WHERE status = 'PENDING' " +
+            "UNION ALL " +
+            "SELECT '" + OPEN_GRIEVANCES + "', NULL, COUNT(*) FROM grievance_tickets " +
+            "WHERE status IS NULL OR UPPER(status) NOT IN ('RESOLVED', 'CLOSED') " +
+            "UNION ALL " +
+            "SELECT '" + EQUIPMENT_IN_USE + "', NULL, COUNT(*) FROM doctor_equipment WHERE returned_date IS NULL";
+
+    public record MetricRow(String metric, String key, long value) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<MetricRow> loadMetrics() {
+        return jdbcTemplate.query(DASHBOARD_SQL,
+                (rs, i) -> new MetricRow(rs.getString("metric"), rs.getString("k"), rs.getLong("v")));
+    }
+}
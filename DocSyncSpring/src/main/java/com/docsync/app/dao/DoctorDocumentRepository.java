@@ -2,13 +2,15 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.DoctorDocument;
 
 @Repository
-public interface DoctorDocumentRepository extends JpaRepository<DoctorDocument,Long> {
+public interface DoctorDocumentRepository extends KeysetPagingRepository<DoctorDocument> {
 	List<DoctorDocument> findByDoctorId(Long doctorId);
 
+	// Rows still pointing at a stored blob; the blob is removed when this reaches zero
+	long countByContentHash(String contentHash);
+
 }
@@ -2,15 +2,23 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.DoctorEquipment;
+import com.docsync.app.dto.DoctorEquipmentView;
 
 @Repository
-public interface DoctorEquipmentRepository extends JpaRepository<DoctorEquipment,Long> {
+public interface DoctorEquipmentRepository extends KeysetPagingRepository<DoctorEquipment> {
 	boolean existsByEquipmentIdAndReturnedDateIsNull(Long equipmentId);
 
 	List<DoctorEquipment> findByReturnedDateIsNull();
 
+	// Active assignments with only the doctor name and equipment identity the UI lists
+	@Query("SELECT new com.docsync.app.dto.DoctorEquipmentView(de.id, de.assignedDate, de.returnedDate, " +
+	       "d.id, d.firstName, d.lastName, d.specialization, e.id, e.name, e.serialNumber, e.status) " +
+	       "FROM DoctorEquipment de LEFT JOIN de.doctor d LEFT JOIN de.equipment e " +
+	       "WHERE de.returnedDate IS NULL ORDER BY de.id")
+	List<DoctorEquipmentView> findActiveViews();
+
 }
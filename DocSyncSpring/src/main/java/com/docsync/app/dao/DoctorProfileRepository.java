@@ -2,12 +2,11 @@ package com.docsync.app.dao;
 
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.DoctorProfile;
 
 @Repository
-public interface DoctorProfileRepository extends JpaRepository<DoctorProfile, Long> {
+public interface DoctorProfileRepository extends KeysetPagingRepository<DoctorProfile> {
     Optional<DoctorProfile> findByDoctorId(Long Id);
 }
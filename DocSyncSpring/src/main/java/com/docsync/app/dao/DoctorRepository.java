@@ -1,27 +1,69 @@
 package com.docsync.app.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.Doctor;
+import com.docsync.app.dto.DoctorSearchRow;
+import com.docsync.app.dto.OrgChartEmployeeRow;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface DoctorRepository extends JpaRepository<Doctor, Long> {
+public interface DoctorRepository extends KeysetPagingRepository<Doctor> {
     Optional<Doctor> findByEmail(String email);
+
+    // Id only, via the unique email index (no entity load)
+    @Query("SELECT d.id FROM Doctor d WHERE d.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
     
     List<Doctor> findByDepartmentId(Long departmentId);
     
     List<Doctor> findByStatus(String status);
+
+    List<Doctor> findBySpecializationIgnoreCase(String specialization);
     
-    // Custom query to search doctors by name or specialization
+    // Custom query to search doctors by name or specialization (unindexed scan; /api/search/doctors uses the search index)
     @Query("SELECT d FROM Doctor d WHERE " +
-           "(LOWER(d.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(d.lastName) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "LOWER(d.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(d.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(d.specialization) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Doctor> searchDoctors(@Param("keyword") String keyword);
+
+    // Search index feed: the indexed columns with the department name, no entity graph
+    String SEARCH_ROW_SELECT = "SELECT new com.docsync.app.dto.DoctorSearchRow(d.id, d.firstName, d.lastName, " +
+            "d.specialization, dep.id, dep.name) FROM Doctor d LEFT JOIN d.department dep ";
+
+    @Query(SEARCH_ROW_SELECT + "WHERE d.id = :id")
+    Optional<DoctorSearchRow> findSearchRow(@Param("id") Long id);
+
+    @Query(SEARCH_ROW_SELECT + "WHERE dep.id = :departmentId")
+    List<DoctorSearchRow> findSearchRowsByDepartment(@Param("departmentId") Long departmentId);
+
+    @Query(SEARCH_ROW_SELECT + "WHERE d.id > :afterId ORDER BY d.id")
+    List<DoctorSearchRow> findSearchRowsAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    // Org chart: every doctor with its department in one LEFT JOIN (no per-row Department loads)
+    @Query("SELECT new com.docsync.app.dto.OrgChartEmployeeRow(d.id, d.firstName, d.lastName, dep.id, dep.name) " +
+           "FROM Doctor d LEFT JOIN d.department dep")
+    List<OrgChartEmployeeRow> findOrgChartRows();
+    
+    // SELECT ... FOR UPDATE on the doctor row; serialises slot booking per doctor
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
+    @Query("SELECT d FROM Doctor d WHERE d.id = :id")
+    Optional<Doctor> lockById(@Param("id") Long id);
+
+    // Bulk import: which of these ids exist, in one IN query
+    @Query("SELECT d.id FROM Doctor d WHERE d.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -2,13 +2,12 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.DoctorTrainingStatus;
 
 @Repository
-public interface DoctorTrainingStatusRepository extends JpaRepository<DoctorTrainingStatus,Long>{
+public interface DoctorTrainingStatusRepository extends KeysetPagingRepository<DoctorTrainingStatus>{
 	List<DoctorTrainingStatus> findByDoctorId(Long doctorId);
 
     // Find all records for a specific training module
@@ -0,0 +1,30 @@
+package com.docsync.app.dao;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.docsync.app.bean.DocumentBlob;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, String> {
+
+    // Rows are created on first use and never removed, so there is always one to lock
+    @Modifying
+    @Query(value = "INSERT INTO document_blobs (content_hash) VALUES (:hash) " +
+                   "ON DUPLICATE KEY UPDATE content_hash = content_hash",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("hash") String hash);
+
+    // Held until the caller's transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM DocumentBlob b WHERE b.contentHash = :hash")
+    Optional<DocumentBlob> lock(@Param("hash") String hash);
+}
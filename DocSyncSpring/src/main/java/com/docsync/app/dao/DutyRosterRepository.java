@@ -3,13 +3,23 @@ package com.docsync.app.dao;
 import java.time.LocalDate;
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.DutyRoster;
+import com.docsync.app.dto.RosterEntry;
 
 @Repository
-public interface DutyRosterRepository extends JpaRepository<DutyRoster,Long> {
+public interface DutyRosterRepository extends KeysetPagingRepository<DutyRoster> {
+
+    // List screens render the association, so load it in the same SELECT instead of one per row
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "doctor.department"})
+    List<DutyRoster> findAll();
+
 	List<DutyRoster> findByDoctorId(Long doctorId);
 
     // Find rosters for a specific date (useful for daily schedule views)
@@ -18,4 +28,9 @@ public interface DutyRosterRepository extends JpaRepository<DutyRoster,Long> {
     // Find rosters for a doctor within a date range (useful for monthly views)
     List<DutyRoster> findByDoctorIdAndDutyDateBetween(Long doctorId, LocalDate startDate, LocalDate endDate);
 
+    // Doctor dashboard: the next duties from a date on, range scan on idx_duty_rosters_doctor_date
+    @Query("SELECT new com.docsync.app.dto.RosterEntry(r.id, r.dutyDate, r.shift, r.dutyType) FROM DutyRoster r " +
+           "WHERE r.doctor.id = :doctorId AND r.dutyDate >= :from ORDER BY r.dutyDate ASC, r.id ASC")
+    List<RosterEntry> findUpcomingEntries(@Param("doctorId") Long doctorId, @Param("from") LocalDate from, Limit limit);
+
 }
@@ -0,0 +1,194 @@
+package com.docsync.app.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.docsync.app.dto.ExportFilter;
+
+/**
+ * Flat rows for the admin CSV/XLSX exports, read with plain JDBC on a forward-only, read-only
+ * cursor. With {@code useCursorFetch=true} on the MySQL URL the driver pulls {@code export.fetch-size}
+ * rows per round trip, so neither the driver nor the app ever holds more than one fetch of the
+ * result; each row is handed to the sink in a reused array and then dropped.
+ */
+@Repository
+public class ExportRepository {
+
+    public enum Dataset { PAYROLL, ATTENDANCE, CLAIMS }
+
+    /** Receives the column labels once, then every row; the values array is reused between rows. */
+    public interface RowSink {
+        void columns(List<String> labels);
+
+        void row(Object[] values);
+    }
+
+    public record ExportQuery(Dataset dataset, String sql, List<Object> args) {
+    }
+
+    private static final String PAYROLL_SQL =
+            "SELECT p.id AS payroll_id, d.id AS doctor_id, d.first_name, d.last_name, dep.name AS department, " +
+            "p.month, p.year, p.gross_salary, p.deductions, p.net_salary, p.processed_at " +
+            "FROM payroll p " +
+            "JOIN doctors d ON d.id = p.doctor_id " +
+            "LEFT JOIN departments dep ON dep.id = d.department_id";
+
+    private static final String ATTENDANCE_SQL =
+            "SELECT a.id AS attendance_id, d.id AS doctor_id, d.first_name, d.last_name, dep.name AS department, " +
+            "a.date, a.status, a.check_in, a.check_out " +
+            "FROM attendance_records a " +
+            "JOIN doctors d ON d.id = a.doctor_id " +
+            "LEFT JOIN departments dep ON dep.id = d.department_id";
+
+    private static final String CLAIMS_SQL =
+            "SELECT c.id AS claim_id, c.claim_reference_number, c.status, c.submission_date, c.processed_date, " +
+            "c.total_bill_amount, c.claimed_amount, c.approved_amount, c.patient_responsibility_amount, " +
+            "c.rejection_reason, pt.id AS patient_id, pt.first_name AS patient_first_name, " +
+            "pt.last_name AS patient_last_name, pr.provider_name, pol.policy_number, d.id AS doctor_id, " +
+            "d.first_name AS doctor_first_name, d.last_name AS doctor_last_name, dep.name AS department " +
+            "FROM insurance_claims c " +
+            "JOIN patient_insurance_policies pol ON pol.id = c.patient_insurance_id " +
+            "JOIN patients pt ON pt.id = pol.patient_id " +
+            "JOIN insurance_providers pr ON pr.id = pol.provider_id " +
+            "LEFT JOIN appointments ap ON ap.id = c.appointment_id " +
+            "LEFT JOIN doctors d ON d.id = ap.doctor_id " +
+            "LEFT JOIN departments dep ON dep.id = d.department_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public ExportRepository(JdbcTemplate jdbcTemplate, @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /** Builds the statement for a dataset and filter; invalid filters fail here, before anything is written. */
+    public ExportQuery query(Dataset dataset, ExportFilter filter) {
+        if (filter.month() != null && filter.year() == null) {
+            throw new IllegalArgumentException("A month filter needs a year");
+        }
+        List<String> where = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        String base;
+        switch (dataset) {
+            case PAYROLL -> {
+                base = PAYROLL_SQL;
+                if (filter.status() != null) {
+                    throw new IllegalArgumentException("Payroll has no status to filter on");
+                }
+                if (filter.year() != null) {
+                    where.add("p.year = ?");
+                    args.add(filter.year());
+                }
+                if (filter.month() != null) {
+                    // Stored as the month name ("March"); manual entries may differ in case
+                    where.add("UPPER(p.month) = ?");
+                    args.add(filter.month().name());
+                }
+            }
+            case ATTENDANCE -> {
+                base = ATTENDANCE_SQL;
+                if (filter.year() != null) {
+                    where.add("a.date BETWEEN ? AND ?");
+                    args.add(from(filter));
+                    args.add(to(filter));
+                }
+                if (filter.status() != null) {
+                    where.add("a.status = ?");
+                    args.add(filter.status());
+                }
+            }
+            case CLAIMS -> {
+                base = CLAIMS_SQL;
+                if (filter.year() != null) {
+                    where.add("c.submission_date >= ? AND c.submission_date < ?");
+                    args.add(from(filter).atStartOfDay());
+                    args.add(to(filter).plusDays(1).atStartOfDay());
+                }
+                if (filter.status() != null) {
+                    where.add("c.status = ?");
+                    args.add(filter.status());
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+        if (filter.departmentId() != null) {
+            where.add("d.department_id = ?");
+            args.add(filter.departmentId());
+        }
+        String alias = switch (dataset) {
+            case PAYROLL -> "p";
+            case ATTENDANCE -> "a";
+            case CLAIMS -> "c";
+        };
+        String sql = base + (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where)) + " ORDER BY " + alias + ".id";
+        return new ExportQuery(dataset, sql, List.copyOf(args));
+    }
+
+    /** Streams every row of the query into the sink and returns the row count. */
+    public long stream(ExportQuery query, RowSink sink) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(query.sql(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < query.args().size(); i++) {
+                ps.setObject(i + 1, query.args().get(i));
+            }
+            return ps;
+        }, (ResultSet rs) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            List<String> labels = new ArrayList<>(columns);
+            for (int i = 1; i <= columns; i++) {
+                labels.add(meta.getColumnLabel(i).toLowerCase(Locale.ROOT));
+            }
+            sink.columns(labels);
+            Object[] values = new Object[columns];
+            while (rs.next()) {
+                for (int i = 0; i < columns; i++) {
+                    values[i] = value(rs.getObject(i + 1));
+                }
+                sink.row(values);
+                rows[0]++;
+            }
+            return null;
+        });
+        return rows[0];
+    }
+
+    // Drivers differ in what getObject returns for temporal columns; the writers only see java.time
+    private static Object value(Object raw) {
+        return switch (raw) {
+            case Timestamp ts -> ts.toLocalDateTime();
+            case java.sql.Date date -> date.toLocalDate();
+            case Time time -> time.toLocalTime();
+            case null, default -> raw;
+        };
+    }
+
+    private static LocalDate from(ExportFilter filter) {
+        return filter.month() != null
+                ? YearMonth.of(filter.year(), filter.month()).atDay(1)
+                : LocalDate.of(filter.year(), Month.JANUARY, 1);
+    }
+
+    private static LocalDate to(ExportFilter filter) {
+        return filter.month() != null
+                ? YearMonth.of(filter.year(), filter.month()).atEndOfMonth()
+                : LocalDate.of(filter.year(), Month.DECEMBER, 31);
+    }
+}
@@ -1,11 +1,10 @@
 package com.docsync.app.dao;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.GrievanceResponse;
 
 @Repository
-public interface GrievanceResponseRepository extends JpaRepository<GrievanceResponse,Long> {
+public interface GrievanceResponseRepository extends KeysetPagingRepository<GrievanceResponse> {
 
 }
@@ -1,14 +1,25 @@
 package com.docsync.app.dao;
 
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.GrievanceTicket;
 
 @Repository
-public interface GrievanceTicketRepository extends JpaRepository<GrievanceTicket,Long> {
+public interface GrievanceTicketRepository extends KeysetPagingRepository<GrievanceTicket> {
+
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "doctor.department"})
+    List<GrievanceTicket> findAll();
+
 	//find tickets by doctor id
 	List<GrievanceTicket> findByDoctorId(Long id);
+
+	@Query("SELECT t.doctor.id FROM GrievanceTicket t WHERE t.id = :id")
+	Optional<Long> findDoctorIdById(@Param("id") Long id);
 }
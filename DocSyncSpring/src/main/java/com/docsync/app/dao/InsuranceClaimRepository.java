@@ -2,14 +2,56 @@ package com.docsync.app.dao;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.InsuranceClaim;
+import com.docsync.app.dto.InsuranceClaimView;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface InsuranceClaimRepository extends JpaRepository<InsuranceClaim, Long> {
+public interface InsuranceClaimRepository extends KeysetPagingRepository<InsuranceClaim> {
+
+    // Claim list views: claim + appointment(doctor, department, patient) + policy(patient, provider) in one SELECT
+    String VIEW_SELECT = "SELECT new com.docsync.app.dto.InsuranceClaimView(" +
+            "c.id, c.claimReferenceNumber, c.submissionDate, c.processedDate, c.totalBillAmount, " +
+            "c.claimedAmount, c.approvedAmount, c.patientResponsibilityAmount, c.status, c.rejectionReason, " +
+            "a.id, a.appointmentTime, a.status, " +
+            "d.id, d.firstName, d.lastName, d.specialization, dep.id, dep.name, " +
+            "ap.id, ap.firstName, ap.lastName, " +
+            "pol.id, pol.policyNumber, pol.planName, pp.id, pp.firstName, pp.lastName, " +
+            "prov.id, prov.providerName) " +
+            "FROM InsuranceClaim c LEFT JOIN c.appointment a LEFT JOIN a.doctor d LEFT JOIN d.department dep " +
+            "LEFT JOIN a.patient ap LEFT JOIN c.patientInsurancePolicy pol LEFT JOIN pol.patient pp " +
+            "LEFT JOIN pol.provider prov ";
+
+    @Query(VIEW_SELECT + "ORDER BY c.id")
+    List<InsuranceClaimView> findAllViews();
+
+    // Keyset page / NDJSON stream
+    @Query(VIEW_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    List<InsuranceClaimView> findViewsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    Stream<InsuranceClaimView> streamViewsAfter(@Param("afterId") Long afterId);
+
+    @Query(VIEW_SELECT + "WHERE a.id = :appointmentId ORDER BY c.id")
+    List<InsuranceClaimView> findViewsByAppointmentId(@Param("appointmentId") Long appointmentId);
+
+    @Query(VIEW_SELECT + "WHERE c.status = :status ORDER BY c.id")
+    List<InsuranceClaimView> findViewsByStatus(@Param("status") String status);
+
 	Optional<InsuranceClaim> findByClaimReferenceNumber(String claimReferenceNumber);
 
     // Find the claim associated with a specific appointment
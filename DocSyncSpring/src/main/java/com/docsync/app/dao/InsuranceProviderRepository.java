@@ -2,12 +2,21 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.InsuranceProvider;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface InsuranceProviderRepository extends JpaRepository<InsuranceProvider, Long> {
+public interface InsuranceProviderRepository extends KeysetPagingRepository<InsuranceProvider> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<InsuranceProvider> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<InsuranceProvider> findByProviderNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.docsync.app.dao;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Base repository for every entity with a Long identity.
+ * Adds seek (keyset) paging on the primary key and a forward-only cursor,
+ * so list endpoints never have to pull a whole table through findAll().
+ */
+@NoRepositoryBean
+public interface KeysetPagingRepository<T> extends JpaRepository<T, Long> {
+
+    // Seek page: rows strictly after the last id the client has already seen
+    List<T> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // Forward-only JDBC cursor; caller must hold an open (read-only) transaction and close the stream
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<T> streamByIdGreaterThanOrderByIdAsc(Long afterId);
+}
@@ -3,13 +3,21 @@ package com.docsync.app.dao;
 import java.time.LocalDate;
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.LeaveRequest;
+import com.docsync.app.dto.LeaveSpanRow;
 
 @Repository
-public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long> {
+public interface LeaveRequestRepository extends KeysetPagingRepository<LeaveRequest> {
+
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "doctor.department"})
+    List<LeaveRequest> findAll();
+
 	List<LeaveRequest> findByDoctorId(Long doctorId);
 
     // Find requests by status (e.g., "PENDING", "APPROVED")
@@ -18,4 +26,10 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
     
     // Find specific requests for a doctor (e.g., show me my Approved leaves)
     List<LeaveRequest> findByDoctorIdAndStatus(Long doctorId, String status);
+
+    // Leave spans with the given status that overlap [from, to], for all doctors at once
+    @Query("SELECT new com.docsync.app.dto.LeaveSpanRow(l.doctor.id, l.leaveFrom, l.leaveTo) FROM LeaveRequest l " +
+           "WHERE l.status = :status AND l.leaveFrom <= :to AND l.leaveTo >= :from")
+    List<LeaveSpanRow> findSpansOverlapping(@Param("status") String status,
+                                            @Param("from") LocalDate from, @Param("to") LocalDate to);
     }
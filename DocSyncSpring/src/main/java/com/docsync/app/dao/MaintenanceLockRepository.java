@@ -0,0 +1,29 @@
+package com.docsync.app.dao;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.docsync.app.bean.MaintenanceLock;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Row locks held until the caller's transaction ends. Shared holders (FOR SHARE on MySQL) run side
+ * by side; the exclusive holder waits for them to commit and keeps new ones out until it commits.
+ */
+@Repository
+public interface MaintenanceLockRepository extends JpaRepository<MaintenanceLock, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM MaintenanceLock l WHERE l.name = :name")
+    Optional<MaintenanceLock> lockShared(@Param("name") String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM MaintenanceLock l WHERE l.name = :name")
+    Optional<MaintenanceLock> lockExclusive(@Param("name") String name);
+}
@@ -1,11 +1,34 @@
 package com.docsync.app.dao;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.docsync.app.bean.Notification;
+import com.docsync.app.dto.NotificationView;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification,Long> {
+public interface NotificationRepository extends KeysetPagingRepository<Notification> {
+
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    // Newest first; pass the last id of the previous page as beforeId
+    @Query("SELECT new com.docsync.app.dto.NotificationView(n.id, n.message, n.isRead, n.createdAt) " +
+           "FROM Notification n WHERE n.user.id = :userId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationView> findInbox(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId);
 
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
 }
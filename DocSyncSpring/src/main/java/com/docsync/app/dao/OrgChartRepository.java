@@ -3,13 +3,19 @@ package com.docsync.app.dao;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.OrgChart;
+import com.docsync.app.dto.OrgChartEdgeRow;
 
 @Repository
-public interface OrgChartRepository extends JpaRepository<OrgChart,Long>{
+public interface OrgChartRepository extends KeysetPagingRepository<OrgChart>{
 	List<OrgChart> findByManagerId(Long managerId);
 	Optional<OrgChart> findByDoctorId(Long doctorId);
+	
+	// All reporting lines as plain ids; LEFT JOIN keeps root nodes whose manager is null
+	@Query("SELECT new com.docsync.app.dto.OrgChartEdgeRow(o.id, d.id, m.id) " +
+	       "FROM OrgChart o LEFT JOIN o.doctor d LEFT JOIN o.manager m")
+	List<OrgChartEdgeRow> findEdgeRows();
 }
@@ -0,0 +1,40 @@
+package com.docsync.app.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.docsync.app.bean.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest undispatched, unparked events; SKIP LOCKED lets several app instances drain the outbox side by side
+    @Query(value = "SELECT * FROM outbox_events WHERE dispatched_at IS NULL AND failed_attempts < :maxAttempts " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockPending(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    // One event of a failed batch, retried on its own; empty if another drain got to it first
+    @Query(value = "SELECT * FROM outbox_events WHERE id = :id AND dispatched_at IS NULL FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockPendingById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.failedAttempts = e.failedAttempts + 1 WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :at WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
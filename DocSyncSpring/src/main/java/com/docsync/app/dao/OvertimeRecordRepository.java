@@ -1,11 +1,20 @@
 package com.docsync.app.dao;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.OvertimeRecord;
+import com.docsync.app.dto.DoctorTotalRow;
 
 @Repository
-public interface OvertimeRecordRepository extends JpaRepository<OvertimeRecord,Long>{
+public interface OvertimeRecordRepository extends KeysetPagingRepository<OvertimeRecord>{
 
+    // Overtime hours per doctor in [from, to], for a payroll run
+    @Query("SELECT new com.docsync.app.dto.DoctorTotalRow(o.doctor.id, SUM(o.hours)) FROM OvertimeRecord o " +
+           "WHERE o.date BETWEEN :from AND :to GROUP BY o.doctor.id")
+    List<DoctorTotalRow> sumHoursPerDoctor(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -1,11 +1,20 @@
 package com.docsync.app.dao;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.PaidLeave;
+import com.docsync.app.dto.DoctorTotalRow;
 
 @Repository
-public interface PaidLeaveRepository extends JpaRepository<PaidLeave,Long> {
+public interface PaidLeaveRepository extends KeysetPagingRepository<PaidLeave> {
 
+    // Approved paid-leave days per doctor in [from, to], for a payroll run
+    @Query("SELECT new com.docsync.app.dto.DoctorTotalRow(p.doctor.id, COUNT(p)) FROM PaidLeave p " +
+           "WHERE p.approved = true AND p.leaveDate BETWEEN :from AND :to GROUP BY p.doctor.id")
+    List<DoctorTotalRow> countApprovedDaysPerDoctor(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
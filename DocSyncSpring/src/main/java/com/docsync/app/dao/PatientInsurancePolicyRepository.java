@@ -3,13 +3,18 @@ package com.docsync.app.dao;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.PatientInsurancePolicy;
 
 @Repository
-public interface PatientInsurancePolicyRepository extends JpaRepository<PatientInsurancePolicy, Long> {
+public interface PatientInsurancePolicyRepository extends KeysetPagingRepository<PatientInsurancePolicy> {
+
+    @Override
+    @EntityGraph(attributePaths = {"patient", "provider"})
+    List<PatientInsurancePolicy> findAll();
+
 List<PatientInsurancePolicy> findByPatientId(Long patientId);
     
     // Find only the primary policy for a patient (useful for billing)
@@ -1,16 +1,25 @@
 package com.docsync.app.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.Patient;
 
 @Repository
-public interface PatientRepository extends JpaRepository<Patient, Long> {
+public interface PatientRepository extends KeysetPagingRepository<Patient> {
     Optional<Patient> findByEmail(String email);
     List<Patient> findByPhone(String phone);
     List<Patient> findByLastNameContainingIgnoreCase(String lastName);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Patient p")
+    long findMaxId();
+
+    // Bulk import: which of these ids exist, in one IN query
+    @Query("SELECT p.id FROM Patient p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
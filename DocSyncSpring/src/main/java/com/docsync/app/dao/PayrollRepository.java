@@ -3,15 +3,25 @@ package com.docsync.app.dao;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.Payroll;
 
 @Repository
-public interface PayrollRepository extends JpaRepository<Payroll, Long> {
+public interface PayrollRepository extends KeysetPagingRepository<Payroll> {
+
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "doctor.department"})
+    List<Payroll> findAll();
+
     Optional<Payroll> findByDoctorIdAndMonthAndYear(Long doctorId, String month, Integer year);
     List<Payroll> findByDoctorId(Long doctorId);
     List<Payroll> findByYear(Integer year);
     List<Payroll> findByMonthAndYear(String month, Integer year);
+
+    @Query("SELECT p.doctor.id FROM Payroll p WHERE p.month = :month AND p.year = :year")
+    List<Long> findDoctorIdsWithPayroll(@Param("month") String month, @Param("year") Integer year);
 }
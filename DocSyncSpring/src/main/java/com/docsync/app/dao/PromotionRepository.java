@@ -3,16 +3,23 @@ package com.docsync.app.dao;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.Promotion;
+import com.docsync.app.dto.LatestPromotionRow;
 
 @Repository
-public interface PromotionRepository extends JpaRepository<Promotion,Long>{
+public interface PromotionRepository extends KeysetPagingRepository<Promotion>{
 List<Promotion> findByDoctorId(Long doctorId);
     
     // Efficiently get the most recent promotion for a doctor
     Optional<Promotion> findTopByDoctorIdOrderByPromotionDateDesc(Long doctorId);
+    
+    // Latest promotion for every doctor in one grouped query (ties on the same date are resolved by the caller)
+    @Query("SELECT new com.docsync.app.dto.LatestPromotionRow(p.doctor.id, p.id, p.newTitle, p.promotionDate) " +
+           "FROM Promotion p WHERE p.promotionDate = " +
+           "(SELECT MAX(p2.promotionDate) FROM Promotion p2 WHERE p2.doctor = p.doctor)")
+    List<LatestPromotionRow> findLatestPromotionPerDoctor();
 
 }
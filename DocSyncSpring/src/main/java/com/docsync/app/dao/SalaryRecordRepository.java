@@ -1,18 +1,27 @@
 package com.docsync.app.dao;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.SalaryRecord;
+import com.docsync.app.dto.PayrollSalaryRow;
 
 @Repository
-public interface SalaryRecordRepository extends JpaRepository<SalaryRecord,Long>{
+public interface SalaryRecordRepository extends KeysetPagingRepository<SalaryRecord>{
 	List<SalaryRecord> findByDoctorIdOrderByEffectiveFromDesc(Long doctorId);
 
     // Fetch only the most recent (current) salary record for a doctor
     Optional<SalaryRecord> findTopByDoctorIdOrderByEffectiveFromDesc(Long doctorId);
 
+    // Salary in effect on :asOf for every doctor at once (several rows for a doctor when records share a date)
+    @Query("SELECT new com.docsync.app.dto.PayrollSalaryRow(s.doctor.id, s.id, s.baseSalary, s.hikePercent) " +
+           "FROM SalaryRecord s WHERE s.effectiveFrom = " +
+           "(SELECT MAX(s2.effectiveFrom) FROM SalaryRecord s2 WHERE s2.doctor = s.doctor AND s2.effectiveFrom <= :asOf)")
+    List<PayrollSalaryRow> findSalaryInEffectPerDoctor(@Param("asOf") LocalDate asOf);
+
 }
@@ -2,13 +2,18 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.Schedule;
 
 @Repository
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+public interface ScheduleRepository extends KeysetPagingRepository<Schedule> {
+
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "doctor.department"})
+    List<Schedule> findAll();
+
     List<Schedule> findByDoctorId(Long doctorId);
     // Find all doctors working on a specific day (e.g., "MONDAY")
     List<Schedule> findByDayOfWeek(String dayOfWeek);
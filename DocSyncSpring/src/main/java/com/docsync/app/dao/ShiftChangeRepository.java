@@ -2,12 +2,11 @@ package com.docsync.app.dao;
 
 import java.util.List;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.ShiftChange;
 
 @Repository
-public interface ShiftChangeRepository extends JpaRepository<ShiftChange,Long>{
+public interface ShiftChangeRepository extends KeysetPagingRepository<ShiftChange>{
 	List<ShiftChange> findByDoctorIdOrderByChangeDateDesc(Long doctorId);
 }
@@ -1,15 +1,25 @@
 package com.docsync.app.dao;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.docsync.app.bean.User;
+import com.docsync.app.dto.DoctorUserLink;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends KeysetPagingRepository<User> {
     Optional<User> findByUsername(String username);
     
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT new com.docsync.app.dto.DoctorUserLink(u.doctor.id, u.id) FROM User u WHERE u.doctor.id IN :doctorIds")
+    List<DoctorUserLink> findLinksByDoctorIds(@Param("doctorIds") Collection<Long> doctorIds);
+}
@@ -0,0 +1,24 @@
+package com.docsync.app.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the admin dashboard shows, computed server-side with SQL aggregates.
+ * {@code hiresPerMonth} is ordered by month ("2025-03") and holds hires in that month only.
+ */
+public record AdminDashboardSummary(
+        long totalDoctors,
+        long departmentCount,
+        Map<String, Long> doctorsByStatus,
+        List<NamedCount> doctorsByDepartment,
+        List<NamedCount> hiresPerMonth,
+        long pendingLeaveRequests,
+        long openGrievances,
+        long equipmentInUse,
+        Instant generatedAt) {
+
+    public record NamedCount(String name, long count) {
+    }
+}
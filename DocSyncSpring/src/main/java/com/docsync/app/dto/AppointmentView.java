@@ -0,0 +1,24 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appointment list row. Same JSON shape as the entity for the fields the UI reads,
+ * filled by a single JPQL constructor expression through the flat constructor below.
+ */
+public record AppointmentView(Long id, DoctorSummary doctor, PatientSummary patient,
+                              LocalDateTime appointmentTime, Integer durationMinutes,
+                              LocalDateTime appointmentEnd, String status, String notes) {
+
+    public AppointmentView(Long id, LocalDateTime appointmentTime, Integer durationMinutes,
+                           LocalDateTime appointmentEnd, String status, String notes,
+                           Long doctorId, String doctorFirstName, String doctorLastName, String specialization,
+                           Long departmentId, String departmentName,
+                           Long patientId, String patientFirstName, String patientLastName,
+                           String patientEmail, String patientPhone) {
+        this(id,
+                DoctorSummary.of(doctorId, doctorFirstName, doctorLastName, specialization, departmentId, departmentName),
+                PatientSummary.of(patientId, patientFirstName, patientLastName, patientEmail, patientPhone),
+                appointmentTime, durationMinutes, appointmentEnd, status, notes);
+    }
+}
@@ -0,0 +1,6 @@
+package com.docsync.app.dto;
+
+// Sum of a doctor's monthly rollups over a date range
+public record AttendanceTotals(Long doctorId, Long workedMinutes, Long overtimeHours, Long daysPresent,
+                               Long lateArrivals, Long absences) {
+}
@@ -0,0 +1,17 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Attendance list row: same JSON shape as the entity, doctor reduced to its summary
+public record AttendanceView(Long id, DoctorSummary doctor, LocalDate date, String status,
+                             LocalTime checkIn, LocalTime checkOut) {
+
+    public AttendanceView(Long id, LocalDate date, String status, LocalTime checkIn, LocalTime checkOut,
+                          Long doctorId, String doctorFirstName, String doctorLastName, String specialization,
+                          Long departmentId, String departmentName) {
+        this(id,
+                DoctorSummary.of(doctorId, doctorFirstName, doctorLastName, specialization, departmentId, departmentName),
+                date, status, checkIn, checkOut);
+    }
+}
@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+// A bookable [start, end) slot for one doctor, as answered by the availability index
+public record AvailableSlot(Long doctorId, String doctorName, LocalDateTime start, LocalDateTime end) {
+}
@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+// Projection of a non-cancelled appointment used to seed the availability index
+public record BookedInterval(Long id, LocalDateTime start, LocalDateTime end) {
+}
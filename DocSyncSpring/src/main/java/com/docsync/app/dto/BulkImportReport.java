@@ -0,0 +1,23 @@
+package com.docsync.app.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a chunked bulk import. Rows are numbered from 0 in request order.
+ * Every chunk commits on its own, so rows outside failedChunks and rowErrors are saved
+ * even when the import as a whole reports failures. complete is false when the body
+ * could not be read to the end (malformed JSON); rows after that point were never seen.
+ */
+public record BulkImportReport(int received, int inserted, int rejected, boolean complete,
+                               List<RowError> rowErrors, List<ChunkError> failedChunks) {
+
+    public record RowError(int row, String message) {
+    }
+
+    public record ChunkError(int chunk, int firstRow, int lastRow, String message) {
+    }
+
+    public boolean allInserted() {
+        return complete && rejected == 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+
+// Equipment assignment row with just the doctor's name and the item's identity/status
+public record DoctorEquipmentView(Long id, DoctorSummary doctor, Equipment equipment,
+                                  LocalDate assignedDate, LocalDate returnedDate) {
+
+    public record Equipment(Long id, String name, String serialNumber, String status) {
+    }
+
+    public DoctorEquipmentView(Long id, LocalDate assignedDate, LocalDate returnedDate,
+                               Long doctorId, String doctorFirstName, String doctorLastName, String specialization,
+                               Long equipmentId, String equipmentName, String serialNumber, String equipmentStatus) {
+        this(id,
+                DoctorSummary.of(doctorId, doctorFirstName, doctorLastName, specialization, null, null),
+                equipmentId != null ? new Equipment(equipmentId, equipmentName, serialNumber, equipmentStatus) : null,
+                assignedDate, returnedDate);
+    }
+}
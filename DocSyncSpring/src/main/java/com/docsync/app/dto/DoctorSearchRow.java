@@ -0,0 +1,6 @@
+package com.docsync.app.dto;
+
+// The doctor columns the search index holds, read with the department name in one LEFT JOIN
+public record DoctorSearchRow(Long id, String firstName, String lastName, String specialization,
+                              Long departmentId, String departmentName) {
+}
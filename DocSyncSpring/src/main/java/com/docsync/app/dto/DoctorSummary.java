@@ -0,0 +1,18 @@
+package com.docsync.app.dto;
+
+// Doctor as embedded in list views: enough for a name, specialty and department badge
+public record DoctorSummary(Long id, String firstName, String lastName, String specialization, Department department) {
+
+    public record Department(Long id, String name) {
+    }
+
+    // LEFT JOIN columns are all null when the row has no doctor
+    public static DoctorSummary of(Long id, String firstName, String lastName, String specialization,
+                                   Long departmentId, String departmentName) {
+        if (id == null) {
+            return null;
+        }
+        Department department = departmentId != null ? new Department(departmentId, departmentName) : null;
+        return new DoctorSummary(id, firstName, lastName, specialization, department);
+    }
+}
@@ -0,0 +1,17 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The signed-in doctor's dashboard: today's bookings with patient summaries, the next few
+ * duties, and counts. {@code totalPatients} is the number of patients registered in the system.
+ */
+public record DoctorTodaySummary(
+        Long doctorId,
+        LocalDate date,
+        List<AppointmentView> appointmentsToday,
+        List<RosterEntry> upcomingRosters,
+        long upcomingAppointmentCount,
+        long totalPatients) {
+}
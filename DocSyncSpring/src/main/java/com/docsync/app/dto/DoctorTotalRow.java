@@ -0,0 +1,5 @@
+package com.docsync.app.dto;
+
+// Per-doctor SUM/COUNT from a grouped query
+public record DoctorTotalRow(Long doctorId, Long total) {
+}
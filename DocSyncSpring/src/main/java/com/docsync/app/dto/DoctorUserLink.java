@@ -0,0 +1,5 @@
+package com.docsync.app.dto;
+
+// Login account of a doctor, used to address notifications by doctor id
+public record DoctorUserLink(Long doctorId, Long userId) {
+}
@@ -0,0 +1,31 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change to a doctor-scoped record, pushed to clients as a small delta.
+ * The doctor's own sessions and every admin session receive it; data is null for deletions.
+ */
+public record EntityChange(String entity, String action, Long id, Long doctorId, Object data) {
+
+    public static final String DUTY_ROSTER = "duty-roster";
+    public static final String APPOINTMENT = "appointment";
+    public static final String GRIEVANCE_RESPONSE = "grievance-response";
+
+    public static final String UPSERT = "UPSERT";
+    public static final String DELETE = "DELETE";
+
+    public record AppointmentSlot(LocalDateTime start, LocalDateTime end, String status) {
+    }
+
+    public record GrievanceReply(Long ticketId, String message, LocalDateTime respondedAt) {
+    }
+
+    public static EntityChange upsert(String entity, Long id, Long doctorId, Object data) {
+        return new EntityChange(entity, UPSERT, id, doctorId, data);
+    }
+
+    public static EntityChange delete(String entity, Long id, Long doctorId) {
+        return new EntityChange(entity, DELETE, id, doctorId, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.time.Month;
+
+// Optional filters of an admin export; month needs a year, null fields are not filtered on
+public record ExportFilter(Month month, Integer year, String status, Long departmentId) {
+}
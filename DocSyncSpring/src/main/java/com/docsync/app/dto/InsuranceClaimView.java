@@ -0,0 +1,49 @@
+package com.docsync.app.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Insurance claim list row: claim columns plus the appointment's doctor/patient and the
+ * policy's number, patient and provider, instead of the full Appointment and policy graphs.
+ * Nested property names match the entity so the UI can PUT a row back unchanged.
+ */
+public record InsuranceClaimView(Long id, Appointment appointment, Policy patientInsurancePolicy,
+                                 String claimReferenceNumber, LocalDateTime submissionDate,
+                                 LocalDateTime processedDate, BigDecimal totalBillAmount,
+                                 BigDecimal claimedAmount, BigDecimal approvedAmount,
+                                 BigDecimal patientResponsibilityAmount, String status, String rejectionReason) {
+
+    public record Appointment(Long id, LocalDateTime appointmentTime, String status,
+                              DoctorSummary doctor, PatientSummary patient) {
+    }
+
+    public record Policy(Long id, String policyNumber, String planName, PatientSummary patient, Provider provider) {
+    }
+
+    public record Provider(Long id, String providerName) {
+    }
+
+    public InsuranceClaimView(Long id, String claimReferenceNumber, LocalDateTime submissionDate,
+                              LocalDateTime processedDate, BigDecimal totalBillAmount,
+                              BigDecimal claimedAmount, BigDecimal approvedAmount,
+                              BigDecimal patientResponsibilityAmount, String status, String rejectionReason,
+                              Long appointmentId, LocalDateTime appointmentTime, String appointmentStatus,
+                              Long doctorId, String doctorFirstName, String doctorLastName, String specialization,
+                              Long departmentId, String departmentName,
+                              Long appointmentPatientId, String appointmentPatientFirstName,
+                              String appointmentPatientLastName,
+                              Long policyId, String policyNumber, String planName,
+                              Long policyPatientId, String policyPatientFirstName, String policyPatientLastName,
+                              Long providerId, String providerName) {
+        this(id,
+                appointmentId == null ? null : new Appointment(appointmentId, appointmentTime, appointmentStatus,
+                        DoctorSummary.of(doctorId, doctorFirstName, doctorLastName, specialization, departmentId, departmentName),
+                        PatientSummary.of(appointmentPatientId, appointmentPatientFirstName, appointmentPatientLastName, null, null)),
+                policyId == null ? null : new Policy(policyId, policyNumber, planName,
+                        PatientSummary.of(policyPatientId, policyPatientFirstName, policyPatientLastName, null, null),
+                        providerId != null ? new Provider(providerId, providerName) : null),
+                claimReferenceNumber, submissionDate, processedDate, totalBillAmount, claimedAmount,
+                approvedAmount, patientResponsibilityAmount, status, rejectionReason);
+    }
+}
@@ -0,0 +1,11 @@
+package com.docsync.app.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list.
+ * nextCursor is opaque to clients; pass it back as ?cursor= to fetch the following page.
+ * It is null once the end of the table has been reached.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+
+// Most recent promotion of a doctor, produced by a grouped query over all doctors at once
+public record LatestPromotionRow(Long doctorId, Long promotionId, String newTitle, LocalDate promotionDate) {
+}
@@ -0,0 +1,6 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+
+public record LeaveSpanRow(Long doctorId, LocalDate leaveFrom, LocalDate leaveTo) {
+}
@@ -0,0 +1,10 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published as an application event for every notification the outbox dispatcher delivers,
+ * after its row has committed. Push channels listen for it instead of re-querying the table.
+ */
+public record NotificationDelta(Long id, Long userId, String eventType, String message, LocalDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+// A notification as shown in the signed-in user's inbox
+public record NotificationView(Long id, String message, Boolean isRead, LocalDateTime createdAt) {
+}
@@ -0,0 +1,5 @@
+package com.docsync.app.dto;
+
+// One reporting line (doctor -> manager); managerId is null for root nodes
+public record OrgChartEdgeRow(Long id, Long doctorId, Long managerId) {
+}
@@ -0,0 +1,5 @@
+package com.docsync.app.dto;
+
+// One doctor with its department, read in a single LEFT JOIN for the org chart
+public record OrgChartEmployeeRow(Long id, String firstName, String lastName, Long departmentId, String departmentName) {
+}
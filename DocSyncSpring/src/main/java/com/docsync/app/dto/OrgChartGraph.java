@@ -0,0 +1,30 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.docsync.app.bean.Department;
+
+/**
+ * Immutable org chart snapshot served by GET /api/org-chart/data.
+ * departments/employees/relationships keep the shape the ReactFlow page already reads;
+ * adjacency (managerId -> direct reports) and roots give the compact tree form.
+ */
+public record OrgChartGraph(
+        List<Department> departments,
+        List<Employee> employees,
+        List<Edge> relationships,
+        Map<Long, List<Long>> adjacency,
+        List<Long> roots) {
+
+    public record Employee(Long id, String firstName, String lastName, Long departmentId,
+                           String departmentName, String title, LocalDate lastPromoted) {
+    }
+
+    public record Edge(Long id, NodeRef doctor, NodeRef manager) {
+    }
+
+    public record NodeRef(Long id) {
+    }
+}
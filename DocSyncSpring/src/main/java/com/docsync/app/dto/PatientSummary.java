@@ -0,0 +1,9 @@
+package com.docsync.app.dto;
+
+// Patient as embedded in list views (no address / medical fields)
+public record PatientSummary(Long id, String firstName, String lastName, String email, String phone) {
+
+    public static PatientSummary of(Long id, String firstName, String lastName, String email, String phone) {
+        return id != null ? new PatientSummary(id, firstName, lastName, email, phone) : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a payroll run for the job-status endpoint. {@code processed} counts doctors whose
+ * chunk has committed; {@code skipped} are doctors that already had a payroll row for the month.
+ */
+public record PayrollRunStatus(
+        String jobId,
+        String month,
+        Integer year,
+        State state,
+        int totalDoctors,
+        int processed,
+        int inserted,
+        int skipped,
+        int failedChunks,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error) {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+}
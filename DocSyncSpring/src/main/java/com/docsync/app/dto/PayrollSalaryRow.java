@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.math.BigDecimal;
+
+// Salary record in effect for a doctor on a given date, loaded for all doctors in one query
+public record PayrollSalaryRow(Long doctorId, Long salaryRecordId, BigDecimal baseSalary, BigDecimal hikePercent) {
+}
@@ -0,0 +1,7 @@
+package com.docsync.app.dto;
+
+import java.time.LocalDate;
+
+// Duty roster row without the doctor association, for a doctor's own views
+public record RosterEntry(Long id, LocalDate dutyDate, String shift, String dutyType) {
+}
@@ -0,0 +1,17 @@
+package com.docsync.app.dto;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * What a verified stateless auth token says about its holder; doctorId is null for
+ * non-doctor accounts. Used as the Authentication principal, so getName() is the username.
+ */
+public record TokenClaims(String username, String role, Long userId, Long doctorId, String tokenId, Instant expiresAt)
+        implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,12 +1,35 @@
 package com.docsync.app.service;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.Doctor;
 import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.PatientRepository;
+import com.docsync.app.dto.AppointmentView;
+import com.docsync.app.dto.BookedInterval;
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.dto.BulkImportReport.RowError;
+import com.docsync.app.dto.EntityChange;
+import com.docsync.app.dto.KeysetPage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,35 +37,183 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AppointmentService {
 
-    private final AppointmentRepository appointmentRepository;
+    private static final int MAX_DURATION_MINUTES = 8 * 60;
+    private static final DateTimeFormatter BOOKED_AT = DateTimeFormatter.ofPattern("d MMM yyyy, HH:mm");
 
-    // Create / Book Appointment
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorRepository doctorRepository;
+    private final KeysetPaginationService pager;
+    private final AvailabilityService availabilityService;
+    private final PatientRepository patientRepository;
+    private final BulkImportService bulkImportService;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${appointments.default-duration-minutes:30}")
+    private int defaultDurationMinutes;
+
+    /**
+     * Create / Book Appointment (also used to save edits of an existing one).
+     * The doctor row is locked FOR UPDATE for the rest of the transaction, so two
+     * concurrent bookings for the same doctor run the overlap check one after the other.
+     */
+    @Transactional
     public Appointment createAppointment(Appointment appointment) {
+        LocalDateTime startTime = appointment.getAppointmentTime();
+        LocalDateTime endTime = applySlotEnd(appointment);
+
+        // 1. Serialise bookings for this doctor
+        Doctor doctor = lockDoctor(appointment.getDoctor().getId());
+        appointment.setDoctor(doctor);
+
+        // 2. Check for real interval overlaps (a cancelled appointment never blocks)
+        if (!isCancelled(appointment)) {
+            long conflicts = appointmentRepository.countOverlapping(
+                    doctor.getId(),
+                    appointment.getId() != null ? appointment.getId() : -1L,
+                    startTime,
+                    endTime,
+                    startTime.minusMinutes(defaultDurationMinutes),
+                    earliestOverlappingStart(startTime));
+
+            if (conflicts > 0) {
+                throw new IllegalStateException("Doctor is already booked for this time slot.");
+            }
+        }
+
+        // 3. Save, then patch the availability index once the booking commits
+        boolean isNew = appointment.getId() == null;
+        Appointment saved = appointmentRepository.save(appointment);
+        availabilityService.onAppointmentSaved(saved);
+        if (isNew && !isCancelled(saved)) {
+            notificationOutbox.notifyDoctor(doctor.getId(), NotificationOutbox.APPOINTMENT_BOOKED,
+                    "New appointment booked for " + startTime.format(BOOKED_AT) + ".");
+        }
+        eventPublisher.publishEvent(EntityChange.upsert(EntityChange.APPOINTMENT, saved.getId(), doctor.getId(),
+                new EntityChange.AppointmentSlot(saved.getAppointmentTime(), saved.getAppointmentEnd(), saved.getStatus())));
+        return saved;
+    }
+
+    // No stored appointment lasts longer than this, so anything starting at or before it has ended by start
+    private LocalDateTime earliestOverlappingStart(LocalDateTime start) {
+        return start.minusMinutes(Math.max(MAX_DURATION_MINUTES, defaultDurationMinutes));
+    }
+
+    // Validates doctor, time and duration and sets appointmentEnd
+    private LocalDateTime applySlotEnd(Appointment appointment) {
         //Ensure doctor and time are present
-        if (appointment.getDoctor() == null || appointment.getAppointmentTime() == null) {
+        if (appointment.getDoctor() == null || appointment.getDoctor().getId() == null
+                || appointment.getAppointmentTime() == null) {
             throw new IllegalArgumentException("Doctor and Appointment Time are required.");
         }
 
-        //Check for Conflicts (30 min slot assumption)
-        LocalDateTime startTime = appointment.getAppointmentTime();
-        LocalDateTime endTime = startTime.plusMinutes(30); // Assuming 30 min duration
+        int duration = appointment.getDurationMinutes() != null ? appointment.getDurationMinutes() : defaultDurationMinutes;
+        if (duration <= 0 || duration > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("Appointment duration must be between 1 and " + MAX_DURATION_MINUTES + " minutes.");
+        }
 
-        List<Appointment> conflicts = appointmentRepository.findConflictingAppointments(
-                appointment.getDoctor().getId(), 
-                startTime, 
-                endTime
-        );
+        LocalDateTime endTime = appointment.getAppointmentTime().plusMinutes(duration);
+        appointment.setAppointmentEnd(endTime);
+        return endTime;
+    }
+
+    /**
+     * Bulk import: POST /appointments/batch with a JSON array. Each chunk locks its doctors
+     * in id order, loads their existing bookings for the chunk's time span in one query per
+     * doctor, and rejects rows that overlap a booking or an earlier row of the same import.
+     */
+    public BulkImportReport importAppointments(InputStream body) {
+        return bulkImportService.importJsonArray(body, Appointment.class, this::writeAppointmentChunk);
+    }
+
+    private int writeAppointmentChunk(List<Appointment> rows, int firstRow, List<RowError> rowErrors) {
+        Map<Appointment, Integer> rowOf = new IdentityHashMap<>();
+        Map<Long, List<Appointment>> byDoctor = new TreeMap<>(); // sorted, so locks are always taken in the same order
+        Set<Long> patientIds = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Appointment appointment = rows.get(i);
+            appointment.setId(null);
+            try {
+                applySlotEnd(appointment);
+            } catch (IllegalArgumentException e) {
+                rowErrors.add(new RowError(firstRow + i, e.getMessage()));
+                continue;
+            }
+            rowOf.put(appointment, firstRow + i);
+            byDoctor.computeIfAbsent(appointment.getDoctor().getId(), k -> new ArrayList<>()).add(appointment);
+            if (appointment.getPatient() != null && appointment.getPatient().getId() != null) {
+                patientIds.add(appointment.getPatient().getId());
+            }
+        }
+        Set<Long> knownPatients = patientIds.isEmpty()
+                ? Set.of() : new HashSet<>(patientRepository.findExistingIds(patientIds));
+
+        List<Appointment> accepted = new ArrayList<>();
+        for (Map.Entry<Long, List<Appointment>> entry : byDoctor.entrySet()) {
+            Long doctorId = entry.getKey();
+            List<Appointment> doctorRows = entry.getValue();
+            try {
+                lockDoctor(doctorId);
+            } catch (IllegalArgumentException e) {
+                doctorRows.forEach(a -> rowErrors.add(new RowError(rowOf.get(a), e.getMessage())));
+                continue;
+            }
+
+            LocalDateTime from = doctorRows.stream().map(Appointment::getAppointmentTime).min(LocalDateTime::compareTo).get();
+            LocalDateTime to = doctorRows.stream().map(Appointment::getAppointmentEnd).max(LocalDateTime::compareTo).get();
+            List<LocalDateTime[]> taken = new ArrayList<>();
+            for (BookedInterval booked : appointmentRepository.findBookedIntervalsBetween(
+                    doctorId, from, to, from.minusMinutes(defaultDurationMinutes), earliestOverlappingStart(from))) {
+                LocalDateTime end = booked.end() != null ? booked.end() : booked.start().plusMinutes(defaultDurationMinutes);
+                taken.add(new LocalDateTime[] {booked.start(), end});
+            }
+
+            for (Appointment appointment : doctorRows) {
+                Long patientId = appointment.getPatient() != null ? appointment.getPatient().getId() : null;
+                if (patientId != null && !knownPatients.contains(patientId)) {
+                    rowErrors.add(new RowError(rowOf.get(appointment), "Patient not found with ID: " + patientId));
+                    continue;
+                }
+                if (!isCancelled(appointment)) {
+                    LocalDateTime start = appointment.getAppointmentTime();
+                    LocalDateTime end = appointment.getAppointmentEnd();
+                    if (taken.stream().anyMatch(t -> t[0].isBefore(end) && t[1].isAfter(start))) {
+                        rowErrors.add(new RowError(rowOf.get(appointment), "Doctor is already booked for this time slot."));
+                        continue;
+                    }
+                    taken.add(new LocalDateTime[] {start, end});
+                }
+                accepted.add(appointment);
+            }
+            availabilityService.evictDoctor(doctorId);
+        }
+        return accepted.isEmpty() ? 0 : bulkInsertRepository.insertAppointments(accepted);
+    }
 
-        if (!conflicts.isEmpty()) {
-            throw new IllegalStateException("Doctor is already booked for this time slot.");
+    private Doctor lockDoctor(Long doctorId) {
+        try {
+            return doctorRepository.lockById(doctorId)
+                    .orElseThrow(() -> new IllegalArgumentException("Doctor not found with ID: " + doctorId));
+        } catch (PessimisticLockingFailureException e) {
+            throw new IllegalStateException("Doctor's calendar is busy, please retry.", e);
         }
+    }
+
+    private static boolean isCancelled(Appointment appointment) {
+        return "CANCELLED".equalsIgnoreCase(appointment.getStatus());
+    }
+
+    public List<AppointmentView> getAllAppointments() {
+        return appointmentRepository.findAllViews();
+    }
 
-        // 3. Save
-        return appointmentRepository.save(appointment);
+    public KeysetPage<AppointmentView> getAppointmentPage(String cursor, Integer size) {
+        return pager.page(appointmentRepository::findViewsAfter, cursor, size, AppointmentView::id);
     }
 
-    public List<Appointment> getAllAppointments() {
-        return appointmentRepository.findAll();
+    public StreamingResponseBody streamAppointments(String cursor) {
+        return pager.ndjson(appointmentRepository::streamViewsAfter, cursor);
     }
 
     public Appointment getAppointmentById(Long id) {
@@ -51,18 +222,22 @@ public class AppointmentService {
     }
 
    
-    public List<Appointment> getUpcomingAppointmentsForDoctor(Long doctorId) {
-        return appointmentRepository.findByDoctorIdAndAppointmentTimeAfterOrderByAppointmentTimeAsc(
+    public List<AppointmentView> getUpcomingAppointmentsForDoctor(Long doctorId) {
+        return appointmentRepository.findUpcomingViews(
                 doctorId, 
                 LocalDateTime.now()
         );
     }
 
-    public List<Appointment> getPatientHistory(Long patientId) {
-        return appointmentRepository.findByPatientIdOrderByAppointmentTimeDesc(patientId);
+    public List<AppointmentView> getPatientHistory(Long patientId) {
+        return appointmentRepository.findPatientHistoryViews(patientId);
     }
 
+    @Transactional
     public void deleteAppointment(Long id) {
+        Long doctorId = appointmentRepository.findDoctorIdById(id).orElse(null);
         appointmentRepository.deleteById(id);
+        availabilityService.onAppointmentDeleted(id);
+        eventPublisher.publishEvent(EntityChange.delete(EntityChange.APPOINTMENT, id, doctorId));
     }
 }
\ No newline at end of file
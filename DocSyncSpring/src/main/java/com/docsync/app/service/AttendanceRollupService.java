@@ -0,0 +1,247 @@
+package com.docsync.app.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.bean.AttendanceRollup;
+import com.docsync.app.bean.MaintenanceLock;
+import com.docsync.app.bean.OvertimeRecord;
+import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.dao.AttendanceRollupRepository;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.MaintenanceLockRepository;
+import com.docsync.app.dao.OvertimeRecordRepository;
+import com.docsync.app.dto.AttendanceTotals;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps attendance_rollups in step with attendance and overtime writes. Each write is turned
+ * into the record's contribution before and after the change, and the difference is added to
+ * the doctor's day, week and month rows in the same transaction, so dashboards read one row
+ * per period instead of summing raw records. Deltas and rebuild() are serialized through the
+ * attendance_rollups maintenance lock, so a rebuild never drops a write that commits while it runs.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceRollupService {
+
+    private final AttendanceRollupRepository rollupRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final OvertimeRecordRepository overtimeRecordRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final MaintenanceLockRepository lockRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final int CLEAR_EVERY_ROWS = 500;
+
+    // Check-ins after this time of day count as late arrivals
+    private LocalTime lateAfter = LocalTime.of(9, 15);
+
+    @Value("${attendance.late-after:09:15}")
+    void setLateAfter(String lateAfter) {
+        this.lateAfter = LocalTime.parse(lateAfter);
+    }
+
+    /** What one attendance or overtime record adds to its doctor's totals for its date. */
+    public record Contribution(Long doctorId, LocalDate date, long workedMinutes, long overtimeHours,
+                               int daysPresent, int lateArrivals, int absences) {
+
+        public static final Contribution NONE = new Contribution(null, null, 0, 0, 0, 0, 0);
+    }
+
+    public Contribution of(AttendanceRecord record) {
+        if (record == null || record.getDoctor() == null || record.getDoctor().getId() == null
+                || record.getDate() == null) {
+            return Contribution.NONE;
+        }
+        boolean absent = "ABSENT".equalsIgnoreCase(record.getStatus());
+        boolean present = !absent && record.getCheckIn() != null;
+        long minutes = 0;
+        if (present && record.getCheckOut() != null) {
+            minutes = Duration.between(record.getCheckIn(), record.getCheckOut()).toMinutes();
+            if (minutes < 0) {
+                minutes += Duration.ofDays(1).toMinutes(); // checked out after midnight
+            }
+        }
+        int late = present && record.getCheckIn().isAfter(lateAfter) ? 1 : 0;
+        return new Contribution(record.getDoctor().getId(), record.getDate(), minutes, 0,
+                present ? 1 : 0, late, absent ? 1 : 0);
+    }
+
+    public Contribution of(OvertimeRecord record) {
+        if (record == null || record.getDoctor() == null || record.getDoctor().getId() == null
+                || record.getDate() == null || record.getHours() == null) {
+            return Contribution.NONE;
+        }
+        return new Contribution(record.getDoctor().getId(), record.getDate(), 0, record.getHours(), 0, 0, 0);
+    }
+
+    /** Moves the rollups from {@code before} to {@code after}; either side may be NONE for inserts/deletes. */
+    @Transactional
+    public void apply(Contribution before, Contribution after) {
+        if (before.equals(after)) {
+            return;
+        }
+        lockRepository.lockShared(MaintenanceLock.ATTENDANCE_ROLLUPS).orElseThrow(AttendanceRollupService::missingLock);
+        // Same doctor and date: one net delta; otherwise retract from the old periods and add to the new
+        if (before.doctorId() != null && after.doctorId() != null
+                && before.doctorId().equals(after.doctorId()) && before.date().equals(after.date())) {
+            addToPeriods(after.doctorId(), after.date(), 1, after, before);
+            return;
+        }
+        if (before.doctorId() != null) {
+            addToPeriods(before.doctorId(), before.date(), -1, before, Contribution.NONE);
+        }
+        if (after.doctorId() != null) {
+            addToPeriods(after.doctorId(), after.date(), 1, after, Contribution.NONE);
+        }
+    }
+
+    /** Adds the contributions of newly inserted records with one batched upsert (clock-in batches). */
+    @Transactional
+    public void applyAll(List<Contribution> added) {
+        Map<String, AttendanceRollup> deltas = new HashMap<>();
+        added.forEach(c -> accumulate(deltas, c));
+        if (!deltas.isEmpty()) {
+            lockRepository.lockShared(MaintenanceLock.ATTENDANCE_ROLLUPS).orElseThrow(AttendanceRollupService::missingLock);
+            bulkInsertRepository.addAttendanceRollupDeltas(new ArrayList<>(deltas.values()));
+        }
+    }
+
+    private void addToPeriods(Long doctorId, LocalDate date, int sign, Contribution plus, Contribution minus) {
+        long worked = sign * (plus.workedMinutes() - minus.workedMinutes());
+        long overtime = sign * (plus.overtimeHours() - minus.overtimeHours());
+        int present = sign * (plus.daysPresent() - minus.daysPresent());
+        int late = sign * (plus.lateArrivals() - minus.lateArrivals());
+        int absent = sign * (plus.absences() - minus.absences());
+        for (Map.Entry<String, LocalDate> period : periodsOf(date).entrySet()) {
+            rollupRepository.addDelta(doctorId, period.getKey(), period.getValue(),
+                    worked, overtime, present, late, absent);
+        }
+    }
+
+    private static Map<String, LocalDate> periodsOf(LocalDate date) {
+        return Map.of(
+                AttendanceRollup.DAY, date,
+                AttendanceRollup.WEEK, date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                AttendanceRollup.MONTH, date.withDayOfMonth(1));
+    }
+
+    // --- Reads ---
+
+    public List<AttendanceRollup> getRollups(String periodType, LocalDate from, LocalDate to, Long doctorId) {
+        String type = normalizePeriod(periodType);
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("A valid from/to range is required");
+        }
+        return doctorId != null
+                ? rollupRepository.findByDoctorIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+                        doctorId, type, from, to)
+                : rollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAscDoctorIdAsc(
+                        type, from, to);
+    }
+
+    public AttendanceTotals getTotals(Long doctorId) {
+        return rollupRepository.sumMonthlyForDoctor(doctorId)
+                .orElse(new AttendanceTotals(doctorId, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    private static String normalizePeriod(String periodType) {
+        String type = periodType == null ? AttendanceRollup.MONTH : periodType.trim().toUpperCase();
+        if (!type.equals(AttendanceRollup.DAY) && !type.equals(AttendanceRollup.WEEK)
+                && !type.equals(AttendanceRollup.MONTH)) {
+            throw new IllegalArgumentException("period must be DAY, WEEK or MONTH");
+        }
+        return type;
+    }
+
+    // --- Rebuild ---
+
+    /**
+     * Recomputes every rollup from the raw records, e.g. after a manual data fix. Returns rows written.
+     * Holds the lock exclusively from before the snapshot until commit: in-flight writers finish first,
+     * later ones wait and then apply their delta to the rebuilt rows.
+     */
+    @Transactional
+    public int rebuild() {
+        lockRepository.lockExclusive(MaintenanceLock.ATTENDANCE_ROLLUPS).orElseThrow(AttendanceRollupService::missingLock);
+        Map<String, AttendanceRollup> rollups = new HashMap<>();
+        int[] read = {0};
+        try (Stream<AttendanceRecord> records = attendanceRepository.streamByIdGreaterThanOrderByIdAsc(0L)) {
+            records.forEach(r -> {
+                accumulate(rollups, of(r));
+                clearEvery(++read[0]);
+            });
+        }
+        try (Stream<OvertimeRecord> records = overtimeRecordRepository.streamByIdGreaterThanOrderByIdAsc(0L)) {
+            records.forEach(r -> {
+                accumulate(rollups, of(r));
+                clearEvery(++read[0]);
+            });
+        }
+        rollupRepository.deleteAllInBatch();
+        return bulkInsertRepository.insertAttendanceRollups(new ArrayList<>(rollups.values()));
+    }
+
+    // The streams hand out managed entities; detach them so the context stays small on large tables
+    private void clearEvery(int rows) {
+        if (rows % CLEAR_EVERY_ROWS == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static void accumulate(Map<String, AttendanceRollup> rollups, Contribution c) {
+        if (c.doctorId() == null) {
+            return;
+        }
+        periodsOf(c.date()).forEach((type, start) -> {
+            AttendanceRollup r = rollups.computeIfAbsent(c.doctorId() + "|" + type + "|" + start, k -> {
+                AttendanceRollup created = new AttendanceRollup();
+                created.setDoctorId(c.doctorId());
+                created.setPeriodType(type);
+                created.setPeriodStart(start);
+                return created;
+            });
+            r.setWorkedMinutes(r.getWorkedMinutes() + c.workedMinutes());
+            r.setOvertimeHours(r.getOvertimeHours() + c.overtimeHours());
+            r.setDaysPresent(r.getDaysPresent() + c.daysPresent());
+            r.setLateArrivals(r.getLateArrivals() + c.lateArrivals());
+            r.setAbsences(r.getAbsences() + c.absences());
+        });
+    }
+
+    // First start after the rollup table is introduced: seed it from existing records
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (rollupRepository.count() == 0 && (attendanceRepository.count() > 0 || overtimeRecordRepository.count() > 0)) {
+            rebuild();
+        }
+    }
+
+    // Without its seeded row (db/migration/V3) the lock would silently guard nothing
+    private static IllegalStateException missingLock() {
+        return new IllegalStateException("Lock row '" + MaintenanceLock.ATTENDANCE_ROLLUPS
+                + "' is missing from maintenance_locks; it is seeded by db/migration/V3");
+    }
+}
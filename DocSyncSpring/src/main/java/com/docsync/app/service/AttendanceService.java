@@ -2,13 +2,21 @@ package com.docsync.app.service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.AttendanceRecord;
 import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dto.AttendanceView;
+import com.docsync.app.dto.KeysetPage;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -18,51 +26,103 @@ import lombok.RequiredArgsConstructor;
 public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
+    private final KeysetPaginationService pager;
+    private final AttendanceRollupService rollupService;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final ObjectProvider<ClockInBatcher> clockInBatcher;
+    private final TransactionTemplate transactionTemplate;
+
+    // Same as the check_in_key / check_out_key columns
+    private static final int MAX_KEY_LENGTH = 64;
 
     /**
-     * CLOCK IN: Creates a new record for today.
-     * Throws exception if doctor has already checked in today.
+     * CLOCK IN: Creates today's record with a single INSERT; uk_attendance_doctor_date turns a
+     * second check-in into a conflict. A retry with the same idempotency key (double tap, resend
+     * after a timeout) gets the original record back instead. With attendance.check-in.mode=batched
+     * the insert is coalesced with other check-ins by ClockInBatcher.
      */
-    public AttendanceRecord checkIn(AttendanceRecord record) {
-        if (record.getDoctor() == null || record.getDoctor().getId() == null) {
-            throw new IllegalArgumentException("Doctor ID is required for check-in.");
-        }
+    public AttendanceRecord checkIn(AttendanceRecord record, String idempotencyKey) {
+        prepareCheckIn(record, idempotencyKey);
 
-        LocalDate today = LocalDate.now();
+        // Batched: the caller waits for the flush outside any transaction, so it holds no connection
+        ClockInBatcher batcher = clockInBatcher.getIfAvailable();
+        if (batcher != null) {
+            return batcher.checkIn(record);
+        }
+        return transactionTemplate.execute(status -> {
+            try {
+                record.setId(bulkInsertRepository.insertAttendance(record));
+            } catch (DuplicateKeyException e) {
+                return existingCheckIn(record.getDoctor().getId(), record.getDate(), idempotencyKey);
+            }
+            rollupService.apply(AttendanceRollupService.Contribution.NONE, rollupService.of(record));
+            return record;
+        });
+    }
 
-        // Check if record already exists for today
-        Optional<AttendanceRecord> existingRecord = attendanceRepository
-                .findByDoctorIdAndDate(record.getDoctor().getId(), today);
+    // TIME columns keep whole seconds; a replay must answer with the same value as the first response
+    private static LocalTime now() {
+        return LocalTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
 
-        if (existingRecord.isPresent()) {
-            throw new IllegalStateException("Doctor has already checked in for today: " + today);
+    private void prepareCheckIn(AttendanceRecord record, String idempotencyKey) {
+        if (record.getDoctor() == null || record.getDoctor().getId() == null) {
+            throw new IllegalArgumentException("Doctor ID is required for check-in.");
         }
+        checkKey(idempotencyKey);
 
         // Set defaults if not provided by client
-        record.setDate(today);
+        record.setId(null);
+        record.setDate(LocalDate.now());
         if (record.getCheckIn() == null) {
-            record.setCheckIn(LocalTime.now());
+            record.setCheckIn(now());
         }
         if (record.getStatus() == null) {
             record.setStatus("PRESENT");
         }
+        record.setCheckOut(null);
+        record.setCheckOutKey(null);
+        record.setCheckInKey(idempotencyKey);
+    }
 
-        return attendanceRepository.save(record);
+    private static void checkKey(String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters.");
+        }
+    }
+
+    // The day's row already exists: the original answer for a retry, a conflict otherwise
+    private AttendanceRecord existingCheckIn(Long doctorId, LocalDate date, String idempotencyKey) {
+        AttendanceRecord existing = attendanceRepository.findByDoctorIdAndDate(doctorId, date)
+                .orElseThrow(() -> new IllegalStateException("Doctor has already checked in for today: " + date));
+        if (idempotencyKey != null && idempotencyKey.equals(existing.getCheckInKey())) {
+            return existing;
+        }
+        throw new IllegalStateException("Doctor has already checked in for today: " + date);
     }
 
     /**
-     * CLOCK OUT: Updates the existing record for today with a check-out time.
+     * CLOCK OUT: Sets the check-out time on today's record. The row is locked for the update, and a
+     * retry with the same idempotency key returns the record unchanged.
      */
-    public AttendanceRecord checkOut(Long doctorId) {
+    @Transactional
+    public AttendanceRecord checkOut(Long doctorId, String idempotencyKey) {
+        checkKey(idempotencyKey);
         LocalDate today = LocalDate.now();
 
-        AttendanceRecord record = attendanceRepository.findByDoctorIdAndDate(doctorId, today)
+        AttendanceRecord record = attendanceRepository.findForUpdate(doctorId, today)
                 .orElseThrow(() -> new EntityNotFoundException("No check-in record found for today."));
+        if (idempotencyKey != null && idempotencyKey.equals(record.getCheckOutKey())) {
+            return record;
+        }
 
-        record.setCheckOut(LocalTime.now());
-        // Optional: Logic to change status to 'COMPLETED' or similar
-        
-        return attendanceRepository.save(record);
+        AttendanceRollupService.Contribution before = rollupService.of(record);
+        record.setCheckOut(now());
+        record.setCheckOutKey(idempotencyKey);
+
+        AttendanceRecord saved = attendanceRepository.save(record);
+        rollupService.apply(before, rollupService.of(saved));
+        return saved;
     }
 
     public List<AttendanceRecord> getHistoryByDoctor(Long doctorId) {
@@ -72,4 +132,12 @@ public class AttendanceService {
     public List<AttendanceRecord> getAllRecords() {
         return attendanceRepository.findAll();
     }
+
+    public KeysetPage<AttendanceView> getRecordPage(String cursor, Integer size) {
+        return pager.page(attendanceRepository::findViewsAfter, cursor, size, AttendanceView::id);
+    }
+
+    public StreamingResponseBody streamRecords(String cursor) {
+        return pager.ndjson(attendanceRepository::streamViewsAfter, cursor);
+    }
 }
\ No newline at end of file
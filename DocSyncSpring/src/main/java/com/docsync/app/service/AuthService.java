@@ -1,6 +1,12 @@
 package com.docsync.app.service;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService; // Import this
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -11,17 +17,43 @@ import com.docsync.app.bean.User;
 import com.docsync.app.dao.DoctorRepository;
 import com.docsync.app.dao.UserRepository;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 // 1. ADD 'implements UserDetailsService' here
-public class AuthService implements UserDetailsService { 
+public class AuthService implements UserDetailsService, UserDetailsPasswordService { 
 
     private final UserRepository userRepository;
     private final DoctorRepository doctorRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OrgChartGraphEngine orgChartGraphEngine;
+    private final AvailabilityService availabilityService;
+
+    @Value("${auth.user-cache.ttl:60s}")
+    private Duration userCacheTtl;
+
+    // username -> credentials snapshot; a fresh UserDetails is built per call because
+    // ProviderManager erases the password on the instance it authenticated.
+    // Async so the DB lookup runs outside the map's bin lock (no carrier pinning on virtual threads).
+    private AsyncCache<String, CachedUser> userCache;
+
+    private record CachedUser(String username, String passwordHash, String role) {
+    }
+
+    @PostConstruct
+    void initUserCache() {
+        userCache = Caffeine.newBuilder()
+                .expireAfterWrite(userCacheTtl)
+                .maximumSize(10_000)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .buildAsync();
+    }
 
     @Transactional
     public User registerUser(User user) {
@@ -52,25 +84,58 @@ public class AuthService implements UserDetailsService {
 
         // Save Doctor first (to generate ID)
         Doctor savedDoctor = doctorRepository.save(doctor);
+        orgChartGraphEngine.invalidate();
+        availabilityService.onDoctorChanged(savedDoctor.getId());
         
         // Link saved doctor back to user and FORCE role
         user.setDoctor(savedDoctor);
         user.setRole("DOCTOR"); 
 
         // 5. Save User
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        evictCachedUser(saved.getUsername());
+        return saved;
     }
 
     // 3. Logic to find a user (Required by Spring Security)
     @Override // Good practice to add this annotation
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        CachedUser user;
+        try {
+            user = userCache.get(username, key -> userRepository.findByUsername(key)
+                    .map(u -> new CachedUser(u.getUsername(), u.getPassword(), u.getRole()))
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found"))).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UsernameNotFoundException notFound) {
+                throw notFound;
+            }
+            throw e;
+        }
 
         return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .roles(user.getRole()) 
+                .username(user.username())
+                .password(user.passwordHash())
+                .roles(user.role()) 
                 .build();
     }
+
+    // Called by DaoAuthenticationProvider after a successful login whose stored hash uses an
+    // outdated algorithm or cost (see PasswordEncodingConfig)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        evictCachedUser(user.getUsername());
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
+
+    public void evictCachedUser(String username) {
+        userCache.synchronous().invalidate(username);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.docsync.app.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Service;
+
+import com.docsync.app.dto.TokenClaims;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * Issues and verifies the compact signed tokens used when auth.mode=stateless
+ * (HS256 JWTs carrying username, role, user id and doctor id).
+ *
+ * auth.token.keys is a comma-separated list of kid:base64-secret pairs. The first key
+ * signs new tokens; every listed key verifies. To rotate, put the new key first and drop
+ * the old one once auth.token.ttl has passed.
+ */
+@Service
+public class AuthTokenService {
+
+    private static final String ISSUER = "docsync";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final TokenRevocationService revocationService;
+    private final Duration ttl;
+    private final String signingKeyId;
+    private final NimbusJwtEncoder encoder;
+    private final NimbusJwtDecoder decoder;
+
+    public AuthTokenService(TokenRevocationService revocationService,
+                            @Value("${auth.mode:session}") String authMode,
+                            @Value("${auth.token.keys:}") String keys,
+                            @Value("${auth.token.ttl:8h}") Duration ttl) {
+        this.revocationService = revocationService;
+        this.ttl = ttl;
+
+        List<JWK> jwks = parseKeys(keys);
+        if (jwks.isEmpty()) {
+            if ("stateless".equals(authMode)) {
+                throw new IllegalStateException("auth.mode=stateless requires auth.token.keys");
+            }
+            // Session mode never issues tokens
+            this.signingKeyId = null;
+            this.encoder = null;
+            this.decoder = null;
+            return;
+        }
+        this.signingKeyId = jwks.get(0).getKeyID();
+        JWKSource<SecurityContext> source = new ImmutableJWKSet<>(new JWKSet(jwks));
+        this.encoder = new NimbusJwtEncoder(source);
+
+        // Verification picks the key by the token's kid header
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.HS256, source));
+        this.decoder = new NimbusJwtDecoder(processor);
+        this.decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+    }
+
+    public record IssuedToken(String value, TokenClaims claims) {
+    }
+
+    public IssuedToken issue(String username, String role, Long userId, Long doctorId) {
+        requireEnabled();
+        Instant now = Instant.now();
+        TokenClaims claims = new TokenClaims(username, role, userId, doctorId,
+                UUID.randomUUID().toString(), now.plus(ttl));
+
+        JwtClaimsSet.Builder set = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(username)
+                .id(claims.tokenId())
+                .issuedAt(now)
+                .expiresAt(claims.expiresAt())
+                .claim("role", role)
+                .claim("uid", userId);
+        if (doctorId != null) {
+            set.claim("did", doctorId);
+        }
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).keyId(signingKeyId).build();
+        String value = encoder.encode(JwtEncoderParameters.from(header, set.build())).getTokenValue();
+        return new IssuedToken(value, claims);
+    }
+
+    // Signature, expiry, issuer and revocation; BadCredentialsException on any failure
+    public TokenClaims verify(String token) {
+        requireEnabled();
+        Jwt jwt;
+        try {
+            jwt = decoder.decode(token);
+        } catch (JwtException e) {
+            throw new BadCredentialsException("Invalid token", e);
+        }
+        if (revocationService.isRevoked(jwt.getId())) {
+            throw new BadCredentialsException("Token revoked");
+        }
+        return new TokenClaims(jwt.getSubject(), jwt.getClaimAsString("role"),
+                longClaim(jwt, "uid"), longClaim(jwt, "did"), jwt.getId(), jwt.getExpiresAt());
+    }
+
+    public void revoke(TokenClaims claims) {
+        revocationService.revoke(claims.tokenId(), claims.expiresAt());
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    private void requireEnabled() {
+        if (encoder == null) {
+            throw new IllegalStateException("Token authentication is not configured (auth.token.keys)");
+        }
+    }
+
+    private static Long longClaim(Jwt jwt, String name) {
+        Object value = jwt.getClaim(name);
+        return value instanceof Number n ? n.longValue() : null;
+    }
+
+    private static List<JWK> parseKeys(String keys) {
+        List<JWK> jwks = new ArrayList<>();
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int colon = entry.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalStateException("auth.token.keys entries must look like kid:base64secret");
+            }
+            String kid = entry.substring(0, colon).trim();
+            byte[] secret = Base64.getDecoder().decode(entry.substring(colon + 1).trim().getBytes(StandardCharsets.US_ASCII));
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("auth.token.keys secret for '" + kid + "' must be at least 256 bits");
+            }
+            jwks.add(new OctetSequenceKey.Builder(secret)
+                    .keyID(kid)
+                    .algorithm(JWSAlgorithm.HS256)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .build());
+        }
+        return jwks;
+    }
+}
@@ -0,0 +1,580 @@
+package com.docsync.app.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.DutyRoster;
+import com.docsync.app.bean.LeaveRequest;
+import com.docsync.app.bean.Schedule;
+import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.DutyRosterRepository;
+import com.docsync.app.dao.LeaveRequestRepository;
+import com.docsync.app.dao.ScheduleRepository;
+import com.docsync.app.dto.AvailableSlot;
+import com.docsync.app.dto.BookedInterval;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-doctor free-slot index for the front desk's "next N free slots" query.
+ * Working windows (weekly schedule + OPD roster shifts - other duties - approved leave)
+ * are precomputed per day over a rolling horizon; bookings live in a sorted map that is
+ * patched after every appointment commit. Schedule, roster, leave and doctor writes evict
+ * the doctor's index, which is rebuilt lazily on the next query.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    public static final int DEFAULT_COUNT = 5;
+    public static final int MAX_COUNT = 200;
+    public static final int DEFAULT_RANGE_DAYS = 14;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // Same cap as AppointmentService: nothing starting earlier than this can still overlap
+    private static final int MAX_BOOKING_MINUTES = 8 * 60;
+
+    private final DoctorRepository doctorRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final DutyRosterRepository dutyRosterRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final AppointmentRepository appointmentRepository;
+
+    @Value("${appointments.default-duration-minutes:30}")
+    private int defaultDurationMinutes;
+
+    @Value("${availability.slot-step-minutes:15}")
+    private int slotStepMinutes;
+
+    @Value("${availability.horizon-days:90}")
+    private int horizonDays;
+
+    // Roster duty types that open outpatient slots; every other duty type blocks its shift
+    @Value("${availability.open-duty-types:OPD}")
+    private String[] openDutyTypes;
+
+    @Value("${availability.shift.morning:08:00-14:00}")
+    private String morningShift;
+
+    @Value("${availability.shift.evening:14:00-20:00}")
+    private String eveningShift;
+
+    @Value("${availability.shift.night:20:00-08:00}")
+    private String nightShift;
+
+    private final ConcurrentHashMap<Long, DoctorIndex> indexes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<DoctorRef>> doctorsBySpecialization = new ConcurrentHashMap<>();
+
+    // Bumped on every write; a rebuild only publishes if nothing changed while it ran
+    private final AtomicLong generation = new AtomicLong();
+
+    private record DoctorRef(Long id, String name) {
+    }
+
+    // ---------------------------------------------------------------- queries
+
+    public List<AvailableSlot> nextFreeSlotsForDoctor(Long doctorId, LocalDateTime from, LocalDateTime to,
+                                                      Integer count, Integer durationMinutes) {
+        Query query = query(from, to, count, durationMinutes);
+        return scan(index(doctorId), query);
+    }
+
+    public List<AvailableSlot> nextFreeSlotsForSpecialization(String specialization, LocalDateTime from,
+                                                              LocalDateTime to, Integer count, Integer durationMinutes) {
+        if (specialization == null || specialization.isBlank()) {
+            throw new IllegalArgumentException("Specialization is required.");
+        }
+        Query query = query(from, to, count, durationMinutes);
+
+        List<AvailableSlot> slots = new ArrayList<>();
+        for (DoctorRef doctor : doctorsFor(specialization)) {
+            slots.addAll(scan(index(doctor.id()), query));
+        }
+        slots.sort(Comparator.comparing(AvailableSlot::start).thenComparing(AvailableSlot::doctorId));
+        return slots.size() > query.count() ? List.copyOf(slots.subList(0, query.count())) : slots;
+    }
+
+    // ---------------------------------------------------------------- write hooks
+
+    // Patch the booking into the index once the appointment is committed (no rebuild)
+    public void onAppointmentSaved(Appointment appointment) {
+        if (appointment.getId() == null || appointment.getDoctor() == null
+                || appointment.getAppointmentTime() == null) {
+            return;
+        }
+        Long appointmentId = appointment.getId();
+        Long doctorId = appointment.getDoctor().getId();
+        BookedInterval booking = "CANCELLED".equalsIgnoreCase(appointment.getStatus())
+                ? null
+                : toInterval(appointmentId, appointment.getAppointmentTime(), appointment.getAppointmentEnd());
+
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            // An edit may have moved the appointment to another doctor
+            indexes.forEach((id, index) -> {
+                if (!id.equals(doctorId)) {
+                    index.remove(appointmentId);
+                }
+            });
+            DoctorIndex index = indexes.get(doctorId);
+            if (index != null) {
+                index.replace(appointmentId, booking);
+            }
+        });
+    }
+
+    public void onAppointmentDeleted(Long appointmentId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            indexes.values().forEach(index -> index.remove(appointmentId));
+        });
+    }
+
+    // Schedule / roster / leave changed: drop the doctor's index (null drops every doctor)
+    public void evictDoctor(Long doctorId) {
+        invalidate(() -> dropIndex(doctorId));
+    }
+
+    // Name or specialization may have changed as well
+    public void onDoctorChanged(Long doctorId) {
+        invalidate(() -> {
+            doctorsBySpecialization.clear();
+            dropIndex(doctorId);
+        });
+    }
+
+    // Runs now and again after commit, so a reader that loaded pre-commit rows in between is dropped too.
+    // The generation is bumped before clearing: a load that published before the clear is cleared, one
+    // that published after it sees the new generation and withdraws its entry (see publish).
+    private void invalidate(Runnable clear) {
+        Runnable evict = () -> {
+            generation.incrementAndGet();
+            clear.run();
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    private void dropIndex(Long doctorId) {
+        if (doctorId == null) {
+            indexes.clear();
+        } else {
+            indexes.remove(doctorId);
+        }
+    }
+
+    // ---------------------------------------------------------------- index
+
+    private DoctorIndex index(Long doctorId) {
+        DoctorIndex index = indexes.get(doctorId);
+        if (index != null && index.builtOn.equals(LocalDate.now())) {
+            return index;
+        }
+        long current = generation.get();
+        DoctorIndex fresh = build(doctorId);
+        publish(indexes, doctorId, fresh, current);
+        return fresh;
+    }
+
+    private List<DoctorRef> doctorsFor(String specialization) {
+        String key = specialization.trim().toLowerCase(Locale.ROOT);
+        List<DoctorRef> doctors = doctorsBySpecialization.get(key);
+        if (doctors != null) {
+            return doctors;
+        }
+        long current = generation.get();
+        doctors = doctorRepository.findBySpecializationIgnoreCase(specialization.trim()).stream()
+                .map(d -> new DoctorRef(d.getId(), displayName(d)))
+                .toList();
+        publish(doctorsBySpecialization, key, doctors, current);
+        return doctors;
+    }
+
+    // Caches a value loaded at generation `loadedAt` unless a write invalidated it meanwhile. Put first,
+    // check second: an invalidation racing with the put either clears the entry or is seen by the check.
+    private <K, V> void publish(ConcurrentHashMap<K, V> cache, K key, V value, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        cache.put(key, value);
+        if (generation.get() != loadedAt) {
+            cache.remove(key, value);
+        }
+    }
+
+    private DoctorIndex build(Long doctorId) {
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new EntityNotFoundException("Doctor not found with ID: " + doctorId));
+
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(1);
+        LocalDate last = today.plusDays(horizonDays);
+
+        // Raw minute ranges per date; ends past 1440 spill into the next day (night shifts)
+        Map<LocalDate, List<int[]>> open = new HashMap<>();
+        Map<LocalDate, List<int[]>> blocked = new HashMap<>();
+
+        Map<DayOfWeek, List<int[]>> weekly = new HashMap<>();
+        for (Schedule schedule : scheduleRepository.findByDoctorId(doctorId)) {
+            DayOfWeek day = parseDay(schedule.getDayOfWeek());
+            if (day != null && schedule.getAvailableFrom() != null && schedule.getAvailableTo() != null) {
+                weekly.computeIfAbsent(day, k -> new ArrayList<>())
+                        .add(range(schedule.getAvailableFrom(), schedule.getAvailableTo()));
+            }
+        }
+        for (LocalDate day = first.minusDays(1); !day.isAfter(last); day = day.plusDays(1)) {
+            List<int[]> ranges = weekly.get(day.getDayOfWeek());
+            if (ranges != null) {
+                open.computeIfAbsent(day, k -> new ArrayList<>()).addAll(ranges);
+            }
+        }
+
+        Map<String, int[]> shifts = shiftRanges();
+        for (DutyRoster roster : dutyRosterRepository.findByDoctorIdAndDutyDateBetween(doctorId, first.minusDays(1), last)) {
+            int[] shift = roster.getShift() != null ? shifts.get(roster.getShift().trim().toLowerCase(Locale.ROOT)) : null;
+            if (roster.getDutyDate() == null || shift == null) {
+                continue;
+            }
+            Map<LocalDate, List<int[]>> target = isOpenDuty(roster.getDutyType()) ? open : blocked;
+            target.computeIfAbsent(roster.getDutyDate(), k -> new ArrayList<>()).add(shift);
+        }
+
+        Set<LocalDate> leaveDays = new HashSet<>();
+        for (LeaveRequest leave : leaveRequestRepository.findByDoctorIdAndStatus(doctorId, "APPROVED")) {
+            if (leave.getLeaveFrom() == null) {
+                continue;
+            }
+            LocalDate leaveTo = leave.getLeaveTo() != null ? leave.getLeaveTo() : leave.getLeaveFrom();
+            LocalDate start = leave.getLeaveFrom().isBefore(first) ? first : leave.getLeaveFrom();
+            for (LocalDate day = start; !day.isAfter(leaveTo) && !day.isAfter(last); day = day.plusDays(1)) {
+                leaveDays.add(day);
+            }
+        }
+
+        Map<LocalDate, int[]> windows = new HashMap<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            if (leaveDays.contains(day)) {
+                continue;
+            }
+            int[] free = subtract(merge(rangesOn(open, day)), merge(rangesOn(blocked, day)));
+            if (free.length > 0) {
+                windows.put(day, free);
+            }
+        }
+
+        DoctorIndex index = new DoctorIndex(doctorId, displayName(doctor), today, windows);
+        LocalDateTime seedFrom = first.atStartOfDay().minusMinutes(MAX_BOOKING_MINUTES);
+        for (BookedInterval booked : appointmentRepository.findBookedIntervals(doctorId, seedFrom)) {
+            index.replace(booked.id(), toInterval(booked.id(), booked.start(), booked.end()));
+        }
+        return index;
+    }
+
+    private List<AvailableSlot> scan(DoctorIndex index, Query query) {
+        List<AvailableSlot> slots = new ArrayList<>();
+        index.lock.readLock().lock();
+        try {
+            LocalDate lastDay = query.to().toLocalDate();
+            for (LocalDate day = query.from().toLocalDate();
+                 !day.isAfter(lastDay) && slots.size() < query.count(); day = day.plusDays(1)) {
+                int[] windows = index.windows.get(day);
+                if (windows == null) {
+                    continue;
+                }
+                LocalDateTime midnight = day.atStartOfDay();
+                for (int i = 0; i < windows.length && slots.size() < query.count(); i += 2) {
+                    LocalDateTime windowStart = midnight.plusMinutes(windows[i]);
+                    LocalDateTime windowEnd = min(midnight.plusMinutes(windows[i + 1]), query.to());
+                    LocalDateTime cursor = alignUp(max(windowStart, query.from()), midnight);
+
+                    while (slots.size() < query.count()) {
+                        LocalDateTime end = cursor.plusMinutes(query.durationMinutes());
+                        if (end.isAfter(windowEnd)) {
+                            break;
+                        }
+                        LocalDateTime busyUntil = index.busyUntil(cursor, end);
+                        if (busyUntil == null) {
+                            slots.add(new AvailableSlot(index.doctorId, index.doctorName, cursor, end));
+                            cursor = cursor.plusMinutes(slotStepMinutes);
+                        } else {
+                            // Jump straight past the booking instead of probing every step inside it
+                            cursor = alignUp(busyUntil, midnight);
+                        }
+                    }
+                }
+            }
+        } finally {
+            index.lock.readLock().unlock();
+        }
+        return slots;
+    }
+
+    private Query query(LocalDateTime from, LocalDateTime to, Integer count, Integer durationMinutes) {
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(DEFAULT_RANGE_DAYS);
+        LocalDateTime horizon = LocalDate.now().plusDays(horizonDays + 1L).atStartOfDay();
+        if (end.isAfter(horizon)) {
+            end = horizon;
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("'to' must be after 'from' and within " + horizonDays + " days.");
+        }
+        int duration = durationMinutes != null ? durationMinutes : defaultDurationMinutes;
+        if (duration <= 0 || duration > MAX_BOOKING_MINUTES) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + MAX_BOOKING_MINUTES + " minutes.");
+        }
+        int limit = count == null || count <= 0 ? DEFAULT_COUNT : Math.min(count, MAX_COUNT);
+        return new Query(start, end, limit, duration);
+    }
+
+    private record Query(LocalDateTime from, LocalDateTime to, int count, int durationMinutes) {
+    }
+
+    // ---------------------------------------------------------------- helpers
+
+    private BookedInterval toInterval(Long id, LocalDateTime start, LocalDateTime end) {
+        // Rows booked before appointment_end existed last the default duration
+        return new BookedInterval(id, start, end != null ? end : start.plusMinutes(defaultDurationMinutes));
+    }
+
+    private boolean isOpenDuty(String dutyType) {
+        if (dutyType == null) {
+            return false;
+        }
+        for (String open : openDutyTypes) {
+            if (open.trim().equalsIgnoreCase(dutyType.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, int[]> shiftRanges() {
+        Map<String, int[]> shifts = new HashMap<>();
+        shifts.put("morning", parseShift(morningShift));
+        shifts.put("evening", parseShift(eveningShift));
+        shifts.put("night", parseShift(nightShift));
+        return shifts;
+    }
+
+    private static int[] parseShift(String spec) {
+        String[] parts = spec.split("-");
+        return range(LocalTime.parse(parts[0].trim()), LocalTime.parse(parts[1].trim()));
+    }
+
+    // [from, to) in minutes since midnight; an end at or before the start runs past midnight
+    static int[] range(LocalTime from, LocalTime to) {
+        int start = from.toSecondOfDay() / 60;
+        int end = to.toSecondOfDay() / 60;
+        return new int[] {start, end <= start ? end + MINUTES_PER_DAY : end};
+    }
+
+    // Schedules store "Monday"; also accept "MONDAY" and "Mon"
+    private static DayOfWeek parseDay(String raw) {
+        if (raw == null || raw.trim().length() < 3) {
+            return null;
+        }
+        String value = raw.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(value)) {
+                return day;
+            }
+        }
+        return null;
+    }
+
+    // Ranges of the day itself plus whatever spilled over from the previous day, clipped to the day
+    static List<int[]> rangesOn(Map<LocalDate, List<int[]>> byDate, LocalDate day) {
+        List<int[]> result = new ArrayList<>();
+        for (int[] r : byDate.getOrDefault(day, List.of())) {
+            result.add(new int[] {r[0], Math.min(r[1], MINUTES_PER_DAY)});
+        }
+        for (int[] r : byDate.getOrDefault(day.minusDays(1), List.of())) {
+            if (r[1] > MINUTES_PER_DAY) {
+                result.add(new int[] {0, r[1] - MINUTES_PER_DAY});
+            }
+        }
+        return result;
+    }
+
+    static List<int[]> merge(List<int[]> ranges) {
+        ranges.sort(Comparator.comparingInt(r -> r[0]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] r : ranges) {
+            if (r[1] <= r[0]) {
+                continue;
+            }
+            int[] lastRange = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (lastRange != null && r[0] <= lastRange[1]) {
+                lastRange[1] = Math.max(lastRange[1], r[1]);
+            } else {
+                merged.add(new int[] {r[0], r[1]});
+            }
+        }
+        return merged;
+    }
+
+    // Both inputs sorted and disjoint; result flattened as [start0, end0, start1, end1, ...]
+    static int[] subtract(List<int[]> open, List<int[]> blocked) {
+        List<Integer> out = new ArrayList<>();
+        int b = 0;
+        for (int[] r : open) {
+            int start = r[0];
+            while (b < blocked.size() && blocked.get(b)[1] <= start) {
+                b++;
+            }
+            int k = b;
+            while (k < blocked.size() && blocked.get(k)[0] < r[1]) {
+                if (blocked.get(k)[0] > start) {
+                    out.add(start);
+                    out.add(blocked.get(k)[0]);
+                }
+                start = Math.max(start, blocked.get(k)[1]);
+                k++;
+            }
+            if (start < r[1]) {
+                out.add(start);
+                out.add(r[1]);
+            }
+        }
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private LocalDateTime alignUp(LocalDateTime time, LocalDateTime midnight) {
+        long seconds = Duration.between(midnight, time).getSeconds();
+        long step = slotStepMinutes * 60L;
+        long aligned = (seconds + step - 1) / step * step;
+        return midnight.plusSeconds(aligned);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static String displayName(Doctor doctor) {
+        String first = doctor.getFirstName() != null ? doctor.getFirstName() : "";
+        String lastName = doctor.getLastName() != null ? doctor.getLastName() : "";
+        return (first + " " + lastName).trim();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Free windows per day plus the doctor's bookings keyed by start time.
+     * Bookings never overlap (AppointmentService enforces it), so a conflict probe only
+     * walks back from the candidate end until MAX_BOOKING_MINUTES before its start.
+     */
+    private static final class DoctorIndex {
+        final Long doctorId;
+        final String doctorName;
+        final LocalDate builtOn;
+        final Map<LocalDate, int[]> windows;
+        final TreeMap<LocalDateTime, LocalDateTime> busy = new TreeMap<>();
+        final Map<Long, BookedInterval> bookings = new HashMap<>();
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        DoctorIndex(Long doctorId, String doctorName, LocalDate builtOn, Map<LocalDate, int[]> windows) {
+            this.doctorId = doctorId;
+            this.doctorName = doctorName;
+            this.builtOn = builtOn;
+            this.windows = windows;
+        }
+
+        // Caller holds the read lock; returns when the overlapping booking ends, or null if free
+        LocalDateTime busyUntil(LocalDateTime start, LocalDateTime end) {
+            LocalDateTime floor = start.minusMinutes(MAX_BOOKING_MINUTES);
+            LocalDateTime until = null;
+            for (Map.Entry<LocalDateTime, LocalDateTime> booking : busy.headMap(end, false).descendingMap().entrySet()) {
+                if (booking.getKey().isBefore(floor)) {
+                    break;
+                }
+                if (booking.getValue().isAfter(start) && (until == null || booking.getValue().isAfter(until))) {
+                    until = booking.getValue();
+                }
+            }
+            return until;
+        }
+
+        void replace(Long id, BookedInterval booking) {
+            lock.writeLock().lock();
+            try {
+                unlink(id);
+                if (booking != null) {
+                    bookings.put(id, booking);
+                    busy.merge(booking.start(), booking.end(), (a, b) -> a.isAfter(b) ? a : b);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                unlink(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void unlink(Long id) {
+            BookedInterval old = bookings.remove(id);
+            if (old == null) {
+                return;
+            }
+            busy.remove(old.start());
+            // Legacy rows may share a start time; keep the longest one that is left
+            for (BookedInterval other : bookings.values()) {
+                if (other.start().equals(old.start())) {
+                    busy.merge(other.start(), other.end(), (a, b) -> a.isAfter(b) ? a : b);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.docsync.app.service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.dto.BulkImportReport.ChunkError;
+import com.docsync.app.dto.BulkImportReport.RowError;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Reads a JSON array request body one element at a time and hands it to a writer in
+ * fixed-size chunks, each in its own transaction. Memory is bounded by the chunk size
+ * rather than the request size, and one bad chunk does not roll back the others.
+ */
+@Service
+public class BulkImportService {
+
+    /**
+     * Persists one chunk inside the chunk's transaction. Rows the writer refuses are
+     * added to rowErrors (numbered firstRow + index) and skipped; returns rows inserted.
+     * Throwing rolls back and reports the whole chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkWriter<T> {
+        int write(List<T> rows, int firstRow, List<RowError> rowErrors);
+    }
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTx;
+
+    @Value("${bulk-import.chunk-size:500}")
+    private int chunkSize;
+
+    public BulkImportService(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> BulkImportReport importJsonArray(InputStream body, Class<T> type, ChunkWriter<T> writer) {
+        Run<T> run = new Run<>(writer);
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    return run.stopped("Body ended before the JSON array was closed");
+                }
+                // Only one element is ever held as a tree; a value that does not bind is a row error
+                JsonNode element = objectMapper.readTree(parser);
+                int row = run.received++;
+                try {
+                    run.add(objectMapper.treeToValue(element, type), row);
+                } catch (JacksonException e) {
+                    run.rowErrors.add(new RowError(row, "Invalid value: " + e.getOriginalMessage()));
+                }
+            }
+        } catch (JacksonException e) {
+            if (run.received == 0 && run.inserted == 0) {
+                throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage(), e);
+            }
+            return run.stopped("Malformed JSON, import stopped: " + e.getOriginalMessage());
+        }
+        run.flush();
+        return run.report(true);
+    }
+
+    private final class Run<T> {
+        private final ChunkWriter<T> writer;
+        private final List<T> buffer = new ArrayList<>();
+        private final List<RowError> rowErrors = new ArrayList<>();
+        private final List<ChunkError> failedChunks = new ArrayList<>();
+        private int received;
+        private int inserted;
+        private int chunks;
+        private int firstRow = -1;
+        private int lastRow;
+        private int failedRows;
+
+        private Run(ChunkWriter<T> writer) {
+            this.writer = writer;
+        }
+
+        // Rows in a chunk keep their request numbering; rows that failed binding leave gaps
+        private void add(T value, int row) {
+            if (!buffer.isEmpty() && row != lastRow + 1) {
+                flush();
+            }
+            if (buffer.isEmpty()) {
+                firstRow = row;
+            }
+            buffer.add(value);
+            lastRow = row;
+            if (buffer.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            int chunk = chunks++;
+            List<T> rows = List.copyOf(buffer);
+            buffer.clear();
+            List<RowError> chunkRowErrors = new ArrayList<>();
+            try {
+                Integer written = chunkTx.execute(status -> writer.write(rows, firstRow, chunkRowErrors));
+                inserted += written != null ? written : 0;
+                rowErrors.addAll(chunkRowErrors);
+            } catch (DataAccessException | IllegalArgumentException | IllegalStateException e) {
+                failedRows += rows.size();
+                failedChunks.add(new ChunkError(chunk, firstRow, lastRow, rootMessage(e)));
+            }
+        }
+
+        // Chunks already committed stay committed; report where reading stopped
+        private BulkImportReport stopped(String reason) {
+            flush();
+            rowErrors.add(new RowError(received, reason));
+            return report(false);
+        }
+
+        private BulkImportReport report(boolean complete) {
+            int rejected = failedRows + (int) rowErrors.stream().filter(e -> e.row() < received).count();
+            return new BulkImportReport(received, inserted, rejected, complete,
+                    List.copyOf(rowErrors), List.copyOf(failedChunks));
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
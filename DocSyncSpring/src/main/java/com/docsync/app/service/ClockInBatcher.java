@@ -0,0 +1,211 @@
+package com.docsync.app.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.dao.BulkInsertRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Check-in for shift changes, when hundreds of doctors clock in within minutes
+ * (attendance.check-in.mode=batched). Check-ins are queued and written by one thread, up to
+ * {@code batch-size} per transaction after waiting at most {@code batch-window} for more:
+ * one query for the rows the batch's doctors already have, one JDBC batch of inserts, one query
+ * to see which inserts won, and one batched rollup upsert. Each caller blocks until its batch
+ * has committed and gets the same answers as the direct path (record, replay, or conflict).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "attendance.check-in.mode", havingValue = "batched")
+public class ClockInBatcher {
+
+    private final AttendanceRepository attendanceRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final AttendanceRollupService rollupService;
+    private final TransactionTemplate batchTx;
+    private final int batchSize;
+    private final Duration batchWindow;
+
+    private record Pending(AttendanceRecord record, CompletableFuture<AttendanceRecord> result) {
+    }
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+
+    public ClockInBatcher(AttendanceRepository attendanceRepository, BulkInsertRepository bulkInsertRepository,
+                          AttendanceRollupService rollupService, PlatformTransactionManager transactionManager,
+                          @Value("${attendance.clock-in.batch-size:200}") int batchSize,
+                          @Value("${attendance.clock-in.batch-window:50ms}") Duration batchWindow) {
+        this.attendanceRepository = attendanceRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.rollupService = rollupService;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchWindow = batchWindow;
+        this.flusher = new Thread(this::run, "clock-in-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /** Record as prepared by AttendanceService (doctor, today's date, defaults, key). */
+    AttendanceRecord checkIn(AttendanceRecord record) {
+        if (record.getCheckInKey() == null) {
+            // Without a client key the row still needs an owner, so this caller can tell its insert from a rival's
+            record.setCheckInKey(UUID.randomUUID().toString());
+        }
+        Pending pending = new Pending(record, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            return pending.result().get(batchWindow.toMillis() + 30_000, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Check-in failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for check-in");
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Check-in timed out; retry with the same Idempotency-Key");
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + batchWindow.toNanos();
+                queue.drainTo(batch, batchSize - batch.size());
+                long remaining;
+                while (batch.size() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        Map<Pending, AttendanceRecord> done = new IdentityHashMap<>();
+        Map<Pending, RuntimeException> failed = new IdentityHashMap<>();
+        try {
+            batchTx.executeWithoutResult(status -> {
+                // Check-ins queued just before midnight can share a batch with the next day's
+                Map<LocalDate, List<Pending>> byDate = new LinkedHashMap<>();
+                for (Pending p : batch) {
+                    byDate.computeIfAbsent(p.record().getDate(), d -> new ArrayList<>()).add(p);
+                }
+                byDate.forEach((date, pendings) -> write(date, pendings, done, failed));
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // One bad row (an unknown doctor id) fails the whole JDBC batch; retried alone, only it fails
+                log.warn("Clock-in batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+                batch.forEach(p -> flush(List.of(p)));
+            } else {
+                batch.forEach(p -> p.result().completeExceptionally(e));
+            }
+            return;
+        }
+        // Only after commit: a caller must never see a record that could still roll back
+        done.forEach((p, record) -> p.result().complete(record));
+        failed.forEach((p, e) -> p.result().completeExceptionally(e));
+    }
+
+    private void write(LocalDate date, List<Pending> pendings, Map<Pending, AttendanceRecord> done,
+                       Map<Pending, RuntimeException> failed) {
+        List<Long> doctorIds = pendings.stream().map(p -> p.record().getDoctor().getId()).distinct().toList();
+        Map<Long, AttendanceRecord> existing = new HashMap<>();
+        for (AttendanceRecord r : attendanceRepository.findByDateAndDoctorIds(date, doctorIds)) {
+            existing.put(r.getDoctor().getId(), r);
+        }
+
+        // First check-in per doctor without a row is inserted; the rest are answered from the row
+        Map<Long, Pending> claims = new LinkedHashMap<>();
+        List<Pending> others = new ArrayList<>();
+        for (Pending p : pendings) {
+            Long doctorId = p.record().getDoctor().getId();
+            if (existing.containsKey(doctorId) || claims.containsKey(doctorId)) {
+                others.add(p);
+            } else {
+                claims.put(doctorId, p);
+            }
+        }
+
+        Map<Long, AttendanceRecord> rows = new HashMap<>(existing);
+        List<AttendanceRollupService.Contribution> added = new ArrayList<>();
+        if (!claims.isEmpty()) {
+            bulkInsertRepository.insertAttendanceIfAbsent(claims.values().stream().map(Pending::record).toList());
+            for (AttendanceRecord r : attendanceRepository.findByDateAndDoctorIds(date, claims.keySet())) {
+                rows.put(r.getDoctor().getId(), r);
+                Pending claim = claims.get(r.getDoctor().getId());
+                if (r.getCheckInKey() != null && r.getCheckInKey().equals(claim.record().getCheckInKey())) {
+                    done.put(claim, answer(claim, r));
+                    added.add(rollupService.of(r));
+                } else {
+                    // Another instance or the direct path got there between our read and insert
+                    others.add(claim);
+                }
+            }
+        }
+        rollupService.applyAll(added);
+
+        for (Pending p : others) {
+            AttendanceRecord row = rows.get(p.record().getDoctor().getId());
+            if (row != null && p.record().getCheckInKey().equals(row.getCheckInKey())) {
+                done.put(p, answer(p, row));
+            } else {
+                failed.put(p, new IllegalStateException("Doctor has already checked in for today: " + date));
+            }
+        }
+    }
+
+    // The caller's own record with the row's values: the row is detached once the batch commits,
+    // and its lazy doctor could no longer be serialized
+    private static AttendanceRecord answer(Pending p, AttendanceRecord row) {
+        AttendanceRecord record = p.record();
+        record.setId(row.getId());
+        record.setStatus(row.getStatus());
+        record.setCheckIn(row.getCheckIn());
+        record.setCheckOut(row.getCheckOut());
+        return record;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.interrupt();
+    }
+}
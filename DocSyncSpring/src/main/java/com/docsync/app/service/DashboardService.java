@@ -0,0 +1,76 @@
+package com.docsync.app.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.docsync.app.dao.DashboardRepository;
+import com.docsync.app.dto.AdminDashboardSummary;
+import com.docsync.app.dto.AdminDashboardSummary.NamedCount;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+
+/**
+ * Serves the admin dashboard from a single cached snapshot. Caffeine loads a missing entry
+ * once no matter how many admins ask at the same moment (the others wait on that load), and
+ * after {@code ttl} the next reader triggers one background refresh while everyone keeps
+ * getting the previous snapshot. A snapshot older than 4x ttl is never served. Writes do not
+ * invalidate it: the dashboard is allowed to lag by up to ttl.
+ */
+@Service
+public class DashboardService {
+
+    private static final String KEY = "admin";
+
+    private final DashboardRepository dashboardRepository;
+    private final AsyncLoadingCache<String, AdminDashboardSummary> cache;
+
+    public DashboardService(DashboardRepository dashboardRepository,
+                            @Value("${dashboard.cache.ttl:15s}") Duration ttl) {
+        this.dashboardRepository = dashboardRepository;
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(ttl)
+                .expireAfterWrite(ttl.multipliedBy(4))
+                .maximumSize(1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .buildAsync(key -> load());
+    }
+
+    public AdminDashboardSummary getAdminDashboard() {
+        return cache.get(KEY).join();
+    }
+
+    private AdminDashboardSummary load() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        List<NamedCount> byDepartment = new ArrayList<>();
+        List<NamedCount> hires = new ArrayList<>();
+        long departments = 0, pendingLeaves = 0, openGrievances = 0, equipmentInUse = 0;
+
+        for (DashboardRepository.MetricRow row : dashboardRepository.loadMetrics()) {
+            switch (row.metric()) {
+                case DashboardRepository.DOCTORS_BY_STATUS -> byStatus.put(row.key(), row.value());
+                case DashboardRepository.DOCTORS_BY_DEPARTMENT -> byDepartment.add(new NamedCount(row.key(), row.value()));
+                case DashboardRepository.HIRES_PER_MONTH -> hires.add(new NamedCount(row.key(), row.value()));
+                case DashboardRepository.DEPARTMENTS -> departments = row.value();
+                case DashboardRepository.PENDING_LEAVES -> pendingLeaves = row.value();
+                case DashboardRepository.OPEN_GRIEVANCES -> openGrievances = row.value();
+                case DashboardRepository.EQUIPMENT_IN_USE -> equipmentInUse = row.value();
+                default -> { }
+            }
+        }
+        byDepartment.sort(Comparator.comparingLong(NamedCount::count).reversed());
+        hires.sort(Comparator.comparing(NamedCount::name));
+        long totalDoctors = byStatus.values().stream().mapToLong(Long::longValue).sum();
+
+        return new AdminDashboardSummary(totalDoctors, departments, byStatus, byDepartment, hires,
+                pendingLeaves, openGrievances, equipmentInUse, Instant.now());
+    }
+}
@@ -14,13 +14,16 @@ import lombok.RequiredArgsConstructor;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final OrgChartGraphEngine orgChartGraphEngine;
 
     // 1. Create
     public Department createDepartment(Department department) {
         if (departmentRepository.existsByName(department.getName())) {
             throw new IllegalArgumentException("Department with this name already exists");
         }
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        orgChartGraphEngine.invalidate();
+        return saved;
     }
 
     // 2. Read All (For dropdowns)
@@ -41,7 +44,9 @@ public class DepartmentService {
         existing.setName(details.getName());
         existing.setDescription(details.getDescription());
         
-        return departmentRepository.save(existing);
+        Department saved = departmentRepository.save(existing);
+        orgChartGraphEngine.invalidate();
+        return saved;
     }
 
     // 5. Delete
@@ -50,5 +55,6 @@ public class DepartmentService {
             throw new RuntimeException("Department not found with id: " + id);
         }
         departmentRepository.deleteById(id);
+        orgChartGraphEngine.invalidate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.docsync.app.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.DutyRosterRepository;
+import com.docsync.app.dao.PatientRepository;
+import com.docsync.app.dto.DoctorTodaySummary;
+import com.docsync.app.dto.TokenClaims;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DoctorDashboardService {
+
+    private static final int MAX_ROSTERS = 50;
+
+    private final DoctorRepository doctorRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DutyRosterRepository dutyRosterRepository;
+    private final PatientRepository patientRepository;
+
+    // Token logins carry the doctor id; session logins resolve it from the username (doctor email)
+    public Long resolveDoctorId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof TokenClaims claims && claims.doctorId() != null) {
+            return claims.doctorId();
+        }
+        return doctorRepository.findIdByEmail(authentication.getName())
+                .orElseThrow(() -> new EntityNotFoundException("No doctor profile for " + authentication.getName()));
+    }
+
+    @Transactional(readOnly = true)
+    public DoctorTodaySummary getToday(Long doctorId, int rosterLimit) {
+        if (rosterLimit < 1 || rosterLimit > MAX_ROSTERS) {
+            throw new IllegalArgumentException("rosters must be between 1 and " + MAX_ROSTERS);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        return new DoctorTodaySummary(
+                doctorId,
+                today,
+                appointmentRepository.findViewsBetween(doctorId, today.atStartOfDay(), today.plusDays(1).atStartOfDay()),
+                dutyRosterRepository.findUpcomingEntries(doctorId, today, Limit.of(rosterLimit)),
+                appointmentRepository.countByDoctorIdAndAppointmentTimeAfter(doctorId, now),
+                patientRepository.count());
+    }
+}
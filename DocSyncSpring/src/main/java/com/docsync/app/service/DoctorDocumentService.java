@@ -1,18 +1,19 @@
 package com.docsync.app.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Optional;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -20,32 +21,20 @@ import com.docsync.app.bean.Doctor;
 import com.docsync.app.bean.DoctorDocument;
 import com.docsync.app.dao.DoctorDocumentRepository;
 import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.DocumentBlobRepository;
 
 import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
 
 @Service
+@RequiredArgsConstructor
 public class DoctorDocumentService {
 
-    @Autowired
-    private DoctorDocumentRepository documentRepository;
-
-    @Autowired
-    private DoctorRepository doctorRepository;
-
-    private final Path fileStorageLocation;
-
-    // Constructor injection to read the path from application.properties
-    public DoctorDocumentService(@Value("${file.upload-dir}") String uploadDir) {
-        // Convert string path to absolute path
-        this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
-
-        try {
-            // Create the directory if it doesn't exist
-            Files.createDirectories(this.fileStorageLocation);
-        } catch (Exception ex) {
-            throw new RuntimeException("Could not create the upload directory at " + this.fileStorageLocation, ex);
-        }
-    }
+    private final DoctorDocumentRepository documentRepository;
+    private final DoctorRepository doctorRepository;
+    private final DocumentStore documentStore;
+    private final DocumentBlobRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public DoctorDocument uploadDocument(Long doctorId, MultipartFile file) throws IOException {
         // 1. Check Doctor
@@ -58,22 +47,31 @@ public class DoctorDocumentService {
             throw new IOException("Filename contains invalid path sequence " + originalFileName);
         }
 
-        // 3. Generate unique filename to prevent overwrites (UUID + OriginalName)
-        String uniqueFileName = UUID.randomUUID().toString() + "_" + originalFileName;
-
-        // 4. Copy file to the target location (Replacing existing if any)
-        Path targetLocation = this.fileStorageLocation.resolve(uniqueFileName);
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        // 3. Stream into the content-addressed store (same bytes already stored -> nothing written)
+        DocumentStore.StoredContent stored;
+        try (InputStream in = file.getInputStream()) {
+            stored = documentStore.put(in);
+        }
 
-        // 5. Save Metadata to DB
+        // 4. Save Metadata to DB
         DoctorDocument doc = new DoctorDocument();
         doc.setDoctor(doctor);
         doc.setDocumentName(originalFileName); // Display name
         doc.setDocumentType(file.getContentType());
-        doc.setFilePath(targetLocation.toString()); // Full local path
+        doc.setContentHash(stored.key());
+        doc.setSizeBytes(stored.size());
         doc.setUploadedAt(LocalDateTime.now());
 
-        return documentRepository.save(doc);
+        // Deleting the last row that shared these bytes may have removed them since put(). No delete
+        // runs while we hold the lock, so store them again if they are gone; the new row keeps them.
+        return withContentLock(stored.key(), () -> {
+            if (documentStore.stat(stored.key()).isEmpty()) {
+                try (InputStream in = file.getInputStream()) {
+                    documentStore.put(in);
+                }
+            }
+            return documentRepository.save(doc);
+        });
     }
 
     public DoctorDocument getDocumentById(Long id) {
@@ -81,18 +79,77 @@ public class DoctorDocumentService {
                 .orElseThrow(() -> new EntityNotFoundException("Document not found: " + id));
     }
 
+    // Size, validators and a range reader for the download endpoint, without reading the file
+    public DocumentContent openDocument(Long id) throws IOException {
+        DoctorDocument doc = getDocumentById(id);
+        String hash = doc.getContentHash();
+        if (hash != null) {
+            DocumentStore.ContentInfo info = documentStore.stat(hash)
+                    .orElseThrow(() -> new EntityNotFoundException("Stored content missing for document: " + id));
+            return new DocumentContent("\"" + hash + "\"", info.size(), info.lastModified(),
+                    doc.getDocumentType(), doc.getDocumentName(), documentStore.localPath(hash),
+                    (offset, length, out) -> documentStore.copyRange(hash, offset, length, out));
+        }
+
+        // Uploaded before the DocumentStore: plain file at filePath, weak validator from size + mtime
+        Path path = doc.getFilePath() != null ? Paths.get(doc.getFilePath()) : null;
+        if (path == null || !Files.isReadable(path)) {
+            throw new EntityNotFoundException("File missing for document: " + id);
+        }
+        long size = Files.size(path);
+        Instant modified = Files.getLastModifiedTime(path).toInstant();
+        return new DocumentContent("W/\"" + size + "-" + modified.toEpochMilli() + "\"", size, modified,
+                doc.getDocumentType(), doc.getDocumentName(), Optional.of(path),
+                (offset, length, out) -> LocalDocumentStore.copyFileRange(path, offset, length, out));
+    }
+
     public List<DoctorDocument> getDocumentsByDoctorId(Long doctorId) {
         return documentRepository.findByDoctorId(doctorId);
     }
 
     public void deleteDocument(Long id) throws IOException {
         DoctorDocument doc = getDocumentById(id);
-        
-        // Delete the file from the local folder
-        Path filePath = Paths.get(doc.getFilePath());
-        Files.deleteIfExists(filePath);
+        String hash = doc.getContentHash();
+
+        if (hash == null) {
+            documentRepository.delete(doc);
+            if (doc.getFilePath() != null) {
+                Files.deleteIfExists(Paths.get(doc.getFilePath()));
+            }
+            return;
+        }
+        // The stored copy is shared by every upload of the same bytes; drop it with the last row
+        withContentLock(hash, () -> {
+            documentRepository.delete(doc);
+            if (documentRepository.countByContentHash(hash) == 0) {
+                documentStore.delete(hash);
+            }
+            return null;
+        });
+    }
 
-        // Delete the record from the database
-        documentRepository.delete(doc);
+    private interface ContentWork<T> {
+        T run() throws IOException;
+    }
+
+    // Runs the work in a transaction holding the content's lock row. The row is created in its own
+    // transaction first, so the lock never lands on a gap that this same request then inserts into.
+    private <T> T withContentLock(String hash, ContentWork<T> work) throws IOException {
+        if (!blobRepository.existsById(hash)) {
+            transactionTemplate.executeWithoutResult(status -> blobRepository.insertIfAbsent(hash));
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                blobRepository.lock(hash)
+                        .orElseThrow(() -> new IllegalStateException("No lock row for content " + hash));
+                try {
+                    return work.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
\ No newline at end of file
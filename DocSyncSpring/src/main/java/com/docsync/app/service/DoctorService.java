@@ -5,9 +5,11 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Doctor;
 import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dto.KeysetPage;
 
 @Service
 public class DoctorService {
@@ -15,9 +17,21 @@ public class DoctorService {
 	@Autowired
 	private DoctorRepository drepo;
 	
+	@Autowired
+	private KeysetPaginationService pager;
+	
+	@Autowired
+	private OrgChartGraphEngine orgChartGraphEngine;
+	
+	@Autowired
+	private AvailabilityService availabilityService;
+	
 	//add
 	public Doctor add(Doctor d) {
-		return drepo.save(d);
+		Doctor saved = drepo.save(d);
+		orgChartGraphEngine.invalidate();
+		availabilityService.onDoctorChanged(saved.getId());
+		return saved;
 	}
 	
 	//update by id
@@ -33,7 +47,10 @@ public class DoctorService {
         doc.setHireDate(details.getHireDate());
         doc.setStatus(details.getStatus());
         
-        return drepo.save(doc);
+        Doctor saved = drepo.save(doc);
+        orgChartGraphEngine.invalidate();
+        availabilityService.onDoctorChanged(id);
+        return saved;
 	}
 	
 	//delete by id
@@ -42,6 +59,8 @@ public class DoctorService {
             throw new RuntimeException("Doctor not found with this id: " + id);
         }
 	   drepo.deleteById(id);
+	   orgChartGraphEngine.invalidate();
+	   availabilityService.onDoctorChanged(id);
 	}
 	
 	//view all
@@ -49,6 +68,16 @@ public class DoctorService {
 		return drepo.findAll();
 	}
 	
+	//view one keyset page
+	public KeysetPage<Doctor> getDoctorPage(String cursor, Integer size){
+		return pager.page(drepo, cursor, size, Doctor::getId);
+	}
+	
+	//stream all as NDJSON
+	public StreamingResponseBody streamDoctors(String cursor){
+		return pager.ndjson(drepo, cursor);
+	}
+	
 	//find by email
 	public Optional<Doctor> findByEmail(String email){
 		return drepo.findByEmail(email);
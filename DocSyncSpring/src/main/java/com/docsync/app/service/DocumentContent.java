@@ -0,0 +1,17 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+// Everything DocumentDownloadWriter needs to answer a GET/HEAD for one stored document
+public record DocumentContent(String etag, long size, Instant lastModified, String contentType,
+                              String fileName, Optional<Path> localPath, RangeCopier copier) {
+
+    @FunctionalInterface
+    public interface RangeCopier {
+        void copy(long offset, long length, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,70 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed blob storage for uploaded documents. Keys are the lowercase hex
+ * SHA-256 of the bytes, so storing the same file twice keeps a single copy.
+ * Selected with documents.store=local|s3 (see DocumentStoreConfig).
+ */
+public interface DocumentStore {
+
+    Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    record StoredContent(String key, long size) {
+    }
+
+    record ContentInfo(long size, Instant lastModified) {
+    }
+
+    // Stores the stream and returns its key; identical content that is already stored is not written again
+    StoredContent put(InputStream content) throws IOException;
+
+    Optional<ContentInfo> stat(String key) throws IOException;
+
+    // Writes bytes [offset, offset + length) of the blob to out
+    void copyRange(String key, long offset, long length, OutputStream out) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // File backing the key on this machine, for sendfile; empty for remote stores
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * Copies the stream into target while hashing it, so the key is known
+     * before the content is moved or uploaded to its final location.
+     */
+    static StoredContent spool(InputStream content, Path target) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        long size;
+        try (DigestInputStream in = new DigestInputStream(content, digest)) {
+            size = Files.copy(in, target);
+        }
+        return new StoredContent(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    static String checkKey(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid document key: " + key);
+        }
+        return key;
+    }
+}
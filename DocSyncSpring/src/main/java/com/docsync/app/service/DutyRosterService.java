@@ -4,11 +4,16 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.DutyRoster;
 import com.docsync.app.dao.DutyRosterRepository;
+import com.docsync.app.dto.EntityChange;
+import com.docsync.app.dto.KeysetPage;
+import com.docsync.app.dto.RosterEntry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,20 +22,34 @@ import lombok.RequiredArgsConstructor;
 public class DutyRosterService {
 
     private final DutyRosterRepository repository;
+    private final KeysetPaginationService pager;
+    private final AvailabilityService availabilityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DutyRoster createRoster(DutyRoster roster) {
-        return repository.save(roster);
+        DutyRoster saved = repository.save(roster);
+        availabilityService.evictDoctor(doctorIdOf(saved));
+        publishUpsert(saved);
+        return saved;
     }
 
     @Transactional
     public DutyRoster updateRoster(Long id, DutyRoster rosterDetails) {
         return repository.findById(id).map(existingRoster -> {
+            Long previousDoctorId = doctorIdOf(existingRoster);
+            availabilityService.evictDoctor(previousDoctorId);
             existingRoster.setDoctor(rosterDetails.getDoctor());
             existingRoster.setDutyDate(rosterDetails.getDutyDate());
             existingRoster.setShift(rosterDetails.getShift());
             existingRoster.setDutyType(rosterDetails.getDutyType());
-            return repository.save(existingRoster);
+            availabilityService.evictDoctor(doctorIdOf(existingRoster));
+            DutyRoster saved = repository.save(existingRoster);
+            if (previousDoctorId != null && !previousDoctorId.equals(doctorIdOf(saved))) {
+                eventPublisher.publishEvent(EntityChange.delete(EntityChange.DUTY_ROSTER, id, previousDoctorId));
+            }
+            publishUpsert(saved);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Duty Roster not found with id " + id));
     }
 
@@ -42,6 +61,14 @@ public class DutyRosterService {
         return repository.findAll();
     }
 
+    public KeysetPage<DutyRoster> getRosterPage(String cursor, Integer size) {
+        return pager.page(repository, cursor, size, DutyRoster::getId);
+    }
+
+    public StreamingResponseBody streamRosters(String cursor) {
+        return pager.ndjson(repository, cursor);
+    }
+
     public List<DutyRoster> getRostersByDoctorId(Long doctorId) {
         return repository.findByDoctorId(doctorId);
     }
@@ -57,6 +84,20 @@ public class DutyRosterService {
 
     @Transactional
     public void deleteRoster(Long id) {
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(roster -> {
+            repository.delete(roster);
+            availabilityService.evictDoctor(doctorIdOf(roster));
+            eventPublisher.publishEvent(EntityChange.delete(EntityChange.DUTY_ROSTER, id, doctorIdOf(roster)));
+        });
+    }
+
+    // Pushed to the doctor's and admins' open streams once the transaction commits
+    private void publishUpsert(DutyRoster roster) {
+        eventPublisher.publishEvent(EntityChange.upsert(EntityChange.DUTY_ROSTER, roster.getId(), doctorIdOf(roster),
+                new RosterEntry(roster.getId(), roster.getDutyDate(), roster.getShift(), roster.getDutyType())));
+    }
+
+    private static Long doctorIdOf(DutyRoster roster) {
+        return roster.getDoctor() != null ? roster.getDoctor().getId() : null;
     }
 }
\ No newline at end of file
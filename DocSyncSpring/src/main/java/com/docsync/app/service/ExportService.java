@@ -0,0 +1,69 @@
+package com.docsync.app.service;
+
+import java.time.Month;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.docsync.app.dao.ExportRepository;
+import com.docsync.app.dao.ExportRepository.Dataset;
+import com.docsync.app.dao.ExportRepository.ExportQuery;
+import com.docsync.app.dto.ExportFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin exports of payroll, attendance and insurance claims as CSV or XLSX. Rows go from the JDBC
+ * cursor through a fixed-size buffer onto the response, so memory does not depend on the row count;
+ * the replaced path (getAllPayrolls / getAllRecords / getAllClaims) built the whole list as entities
+ * and then as JSON.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private final ExportRepository exportRepository;
+
+    public static Dataset parseDataset(String dataset) {
+        try {
+            return Dataset.valueOf(dataset.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export: " + dataset);
+        }
+    }
+
+    /** {@code month} is a month name ("March") or number ("3") and needs a year. */
+    public static ExportFilter filter(String month, Integer year, String status, Long departmentId) {
+        Month m = month == null || month.isBlank() ? null : PayrollRunService.parseMonth(month);
+        String s = status == null || status.isBlank() ? null : status.trim().toUpperCase(Locale.ROOT);
+        return new ExportFilter(m, year, s, departmentId);
+    }
+
+    /** The query is built (and the filter checked) now, so a bad request fails before the response starts. */
+    public StreamingResponseBody export(Dataset dataset, ExportFormat format, ExportFilter filter) {
+        ExportQuery query = exportRepository.query(dataset, filter);
+        return out -> {
+            long start = System.nanoTime();
+            ExportWriter writer = ExportWriter.of(format, out);
+            long rows = exportRepository.stream(query, writer);
+            writer.finish();
+            log.info("Exported {} {} rows as {} in {} ms", rows, dataset, format,
+                    (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    /** Download name such as payroll-2025-03.csv or claims.xlsx. */
+    public static String fileName(Dataset dataset, ExportFormat format, ExportFilter filter) {
+        StringBuilder name = new StringBuilder(dataset.name().toLowerCase(Locale.ROOT));
+        if (filter.year() != null) {
+            name.append('-').append(filter.year());
+            if (filter.month() != null) {
+                name.append(String.format("-%02d", filter.month().getValue()));
+            }
+        }
+        return name.append('.').append(format.extension()).toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+import com.docsync.app.dao.ExportRepository;
+
+/** One export file written row by row onto the response; finish() completes and flushes it. */
+interface ExportWriter extends ExportRepository.RowSink {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void finish() throws IOException;
+
+    static ExportWriter of(ExportFormat format, OutputStream out) {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(out);
+            case XLSX -> new XlsxExportWriter(out);
+        };
+    }
+
+    // Plain text of a non-numeric cell; BigDecimal without exponent, java.time as ISO-8601
+    static String text(Object value) {
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value);
+    }
+}
@@ -3,19 +3,43 @@ package com.docsync.app.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.docsync.app.bean.GrievanceResponse;
 import com.docsync.app.dao.GrievanceResponseRepository;
+import com.docsync.app.dao.GrievanceTicketRepository;
+import com.docsync.app.dto.EntityChange;
 
 @Service
 public class GrievanceResponseService {
    
 	@Autowired 
 	private GrievanceResponseRepository grepo;
+
+	@Autowired
+	private GrievanceTicketRepository ticketRepository;
+
+	@Autowired
+	private NotificationOutbox notificationOutbox;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 	
+	// The ticket's doctor is notified in the same transaction as the response is saved
+	@Transactional
 	public GrievanceResponse add(GrievanceResponse gr) {
-		return grepo.save(gr);
+		GrievanceResponse saved = grepo.save(gr);
+		if (gr.getTicket() != null && gr.getTicket().getId() != null) {
+			Long ticketId = gr.getTicket().getId();
+			Long doctorId = ticketRepository.findDoctorIdById(ticketId).orElse(null);
+			notificationOutbox.notifyDoctor(doctorId, NotificationOutbox.GRIEVANCE_RESPONDED,
+					"Your grievance ticket #" + ticketId + " has a new response.");
+			eventPublisher.publishEvent(EntityChange.upsert(EntityChange.GRIEVANCE_RESPONSE, saved.getId(), doctorId,
+					new EntityChange.GrievanceReply(ticketId, saved.getMessage(), saved.getRespondedAt())));
+		}
+		return saved;
 	}
 	
 	public GrievanceResponse update(Long id,GrievanceResponse details) {
@@ -7,9 +7,12 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.InsuranceClaim;
 import com.docsync.app.dao.InsuranceClaimRepository;
+import com.docsync.app.dto.InsuranceClaimView;
+import com.docsync.app.dto.KeysetPage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class InsuranceClaimService {
 
     private final InsuranceClaimRepository repository;
+    private final KeysetPaginationService pager;
 
     @Transactional
     public InsuranceClaim createClaim(InsuranceClaim claim) {
@@ -72,16 +76,24 @@ public class InsuranceClaimService {
         return repository.findByClaimReferenceNumber(referenceNumber);
     }
 
-    public List<InsuranceClaim> getAllClaims() {
-        return repository.findAll();
+    public List<InsuranceClaimView> getAllClaims() {
+        return repository.findAllViews();
     }
 
-    public List<InsuranceClaim> getClaimsByAppointment(Long appointmentId) {
-        return repository.findByAppointmentId(appointmentId);
+    public KeysetPage<InsuranceClaimView> getClaimPage(String cursor, Integer size) {
+        return pager.page(repository::findViewsAfter, cursor, size, InsuranceClaimView::id);
+    }
+
+    public StreamingResponseBody streamClaims(String cursor) {
+        return pager.ndjson(repository::streamViewsAfter, cursor);
+    }
+
+    public List<InsuranceClaimView> getClaimsByAppointment(Long appointmentId) {
+        return repository.findViewsByAppointmentId(appointmentId);
     }
     
-    public List<InsuranceClaim> getClaimsByStatus(String status) {
-        return repository.findByStatus(status);
+    public List<InsuranceClaimView> getClaimsByStatus(String status) {
+        return repository.findViewsByStatus(status);
     }
 
     @Transactional
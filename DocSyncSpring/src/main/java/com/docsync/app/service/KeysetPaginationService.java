@@ -0,0 +1,141 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.docsync.app.dao.KeysetPagingRepository;
+import com.docsync.app.dto.KeysetPage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Shared keyset (seek-on-id) paging and NDJSON streaming for every KeysetPagingRepository.
+ * Pages are bounded by MAX_PAGE_SIZE; streams run on a forward-only cursor and
+ * periodically clear the persistence context so memory stays flat regardless of table size.
+ */
+@Service
+public class KeysetPaginationService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String CURSOR_PREFIX = "k1:";
+    private static final int CLEAR_EVERY_ROWS = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper objectMapper;
+
+    public KeysetPaginationService(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> KeysetPage<T> page(KeysetPagingRepository<T> repository, String cursor, Integer size,
+                                  Function<T, Long> idOf) {
+        return page(repository::findByIdGreaterThanOrderByIdAsc, cursor, size, idOf);
+    }
+
+    // Same paging over any seek query (afterId, limit), e.g. a flat JPQL view that joins its associations
+    public <T> KeysetPage<T> page(BiFunction<Long, Limit, List<T>> seek, String cursor, Integer size,
+                                  Function<T, Long> idOf) {
+        int pageSize = clampSize(size);
+        Long afterId = decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists without a COUNT(*)
+        List<T> rows = seek.apply(afterId, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasMore ? encodeCursor(idOf.apply(items.get(items.size() - 1))) : null;
+        return new KeysetPage<>(List.copyOf(items), nextCursor, hasMore);
+    }
+
+    /**
+     * Writes one JSON document per line as rows come off the JDBC cursor.
+     * The cursor is validated eagerly so a bad token fails before the response is committed.
+     */
+    public <T> StreamingResponseBody ndjson(KeysetPagingRepository<T> repository, String cursor) {
+        return ndjson(repository::streamByIdGreaterThanOrderByIdAsc, cursor);
+    }
+
+    // Same streaming over any forward-only query taking the id to start after
+    public <T> StreamingResponseBody ndjson(Function<Long, Stream<T>> streamAfter, String cursor) {
+        Long afterId = decodeCursor(cursor);
+        return out -> readOnlyTx.executeWithoutResult(status -> {
+            try (Stream<T> rows = streamAfter.apply(afterId)) {
+                int[] written = {0};
+                rows.forEach(row -> {
+                    writeLine(out, row);
+                    if (++written[0] % CLEAR_EVERY_ROWS == 0) {
+                        entityManager.clear();
+                        flush(out);
+                    }
+                });
+            }
+            flush(out);
+        });
+    }
+
+    public String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) { // also covers NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private int clampSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private void writeLine(OutputStream out, Object row) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -5,9 +5,11 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.LeaveRequest;
 import com.docsync.app.dao.LeaveRequestRepository;
+import com.docsync.app.dto.KeysetPage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +18,9 @@ import lombok.RequiredArgsConstructor;
 public class LeaveRequestService {
 
     private final LeaveRequestRepository repository;
+    private final KeysetPaginationService pager;
+    private final AvailabilityService availabilityService;
+    private final NotificationOutbox notificationOutbox;
 
     @Transactional
     public LeaveRequest createLeaveRequest(LeaveRequest request) {
@@ -31,17 +36,21 @@ public class LeaveRequestService {
             }
         }
         
-        return repository.save(request);
+        LeaveRequest saved = repository.save(request);
+        availabilityService.evictDoctor(doctorIdOf(saved));
+        return saved;
     }
 
     @Transactional
     public LeaveRequest updateLeaveRequest(Long id, LeaveRequest requestDetails) {
         return repository.findById(id).map(existingRequest -> {
+            availabilityService.evictDoctor(doctorIdOf(existingRequest));
             existingRequest.setDoctor(requestDetails.getDoctor());
             existingRequest.setLeaveFrom(requestDetails.getLeaveFrom());
             existingRequest.setLeaveTo(requestDetails.getLeaveTo());
             existingRequest.setType(requestDetails.getType());
             existingRequest.setStatus(requestDetails.getStatus());
+            availabilityService.evictDoctor(doctorIdOf(existingRequest));
             return repository.save(existingRequest);
         }).orElseThrow(() -> new RuntimeException("Leave request not found with id " + id));
     }
@@ -51,6 +60,9 @@ public class LeaveRequestService {
     public LeaveRequest approveRequest(Long id) {
         return repository.findById(id).map(request -> {
             request.setStatus("APPROVED");
+            availabilityService.evictDoctor(doctorIdOf(request));
+            notificationOutbox.notifyDoctor(doctorIdOf(request), NotificationOutbox.LEAVE_APPROVED,
+                    "Your leave request " + periodOf(request) + " was approved.");
             return repository.save(request);
         }).orElseThrow(() -> new RuntimeException("Leave request not found with id " + id));
     }
@@ -60,6 +72,9 @@ public class LeaveRequestService {
     public LeaveRequest rejectRequest(Long id) {
         return repository.findById(id).map(request -> {
             request.setStatus("REJECTED");
+            availabilityService.evictDoctor(doctorIdOf(request));
+            notificationOutbox.notifyDoctor(doctorIdOf(request), NotificationOutbox.LEAVE_REJECTED,
+                    "Your leave request " + periodOf(request) + " was rejected.");
             return repository.save(request);
         }).orElseThrow(() -> new RuntimeException("Leave request not found with id " + id));
     }
@@ -72,6 +87,14 @@ public class LeaveRequestService {
         return repository.findAll();
     }
 
+    public KeysetPage<LeaveRequest> getLeaveRequestPage(String cursor, Integer size) {
+        return pager.page(repository, cursor, size, LeaveRequest::getId);
+    }
+
+    public StreamingResponseBody streamLeaveRequests(String cursor) {
+        return pager.ndjson(repository, cursor);
+    }
+
     public List<LeaveRequest> getLeaveRequestsByDoctor(Long doctorId) {
         return repository.findByDoctorId(doctorId);
     }
@@ -82,6 +105,17 @@ public class LeaveRequestService {
 
     @Transactional
     public void deleteLeaveRequest(Long id) {
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(request -> {
+            repository.delete(request);
+            availabilityService.evictDoctor(doctorIdOf(request));
+        });
+    }
+
+    private static Long doctorIdOf(LeaveRequest request) {
+        return request.getDoctor() != null ? request.getDoctor().getId() : null;
+    }
+
+    private static String periodOf(LeaveRequest request) {
+        return "from " + request.getLeaveFrom() + " to " + request.getLeaveTo();
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DocumentStore on the local filesystem: root/sha256/ab/abcdef... with uploads spooled
+ * through root/.tmp and renamed into place, so a half-written file is never visible.
+ * Reads go through FileChannel.transferTo, and localPath() lets the download path hand
+ * the file to Tomcat's sendfile.
+ */
+public class LocalDocumentStore implements DocumentStore {
+
+    private final Path blobRoot;
+    private final Path tmpDir;
+
+    public LocalDocumentStore(Path root) {
+        this.blobRoot = root.toAbsolutePath().normalize().resolve("sha256");
+        this.tmpDir = root.toAbsolutePath().normalize().resolve(".tmp");
+        try {
+            Files.createDirectories(blobRoot);
+            Files.createDirectories(tmpDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create the document store at " + root, e);
+        }
+    }
+
+    @Override
+    public StoredContent put(InputStream content) throws IOException {
+        Path tmp = tmpDir.resolve(UUID.randomUUID() + ".part");
+        try {
+            StoredContent stored = DocumentStore.spool(content, tmp);
+            Path target = pathOf(stored.key());
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same bytes were stored concurrently; either copy is fine
+                }
+            }
+            return stored;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<ContentInfo> stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(pathOf(key), BasicFileAttributes.class);
+            return Optional.of(new ContentInfo(attrs.size(), attrs.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void copyRange(String key, long offset, long length, OutputStream out) throws IOException {
+        copyFileRange(pathOf(key), offset, length, out);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(pathOf(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = pathOf(key);
+        return Files.isReadable(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // Also used for documents uploaded before the store existed, which live at an arbitrary path
+    public static void copyFileRange(Path file, long offset, long length, OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new IOException("File shrank while being read: " + file);
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+        out.flush();
+    }
+
+    private Path pathOf(String key) {
+        DocumentStore.checkKey(key);
+        return blobRoot.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
@@ -0,0 +1,215 @@
+package com.docsync.app.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docsync.app.bean.Notification;
+import com.docsync.app.bean.OutboxEvent;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.OutboxEventRepository;
+import com.docsync.app.dao.UserRepository;
+import com.docsync.app.dto.DoctorUserLink;
+import com.docsync.app.dto.NotificationDelta;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the outbox on a single background thread: each batch of pending events is resolved to
+ * recipient users, written as Notification rows with one JDBC batch and marked dispatched in the
+ * same transaction. After commit the unread counters are bumped and a NotificationDelta is
+ * published per row. A drain is requested whenever an event commits; the scheduled poll only
+ * picks up events left behind by a crash or written by another instance. A batch that fails is
+ * retried one event per transaction, so one bad event cannot hold back the others; an event that
+ * fails on its own maxAttempts times is parked.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserRepository userRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate batchTx;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final AtomicBoolean drainQueued = new AtomicBoolean();
+    private final ExecutorService drainer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "notification-dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public NotificationDispatcher(OutboxEventRepository outboxEventRepository, UserRepository userRepository,
+                                  BulkInsertRepository bulkInsertRepository, NotificationService notificationService,
+                                  ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                  @Value("${notification.outbox.batch-size:500}") int batchSize,
+                                  @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                  @Value("${notification.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.userRepository = userRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    // Coalesces: any number of requests while a drain is queued result in one drain
+    public void requestDrain() {
+        if (drainQueued.compareAndSet(false, true)) {
+            drainer.execute(this::drain);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:5s}")
+    public void poll() {
+        requestDrain();
+    }
+
+    @Scheduled(cron = "${notification.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeDispatched() {
+        batchTx.executeWithoutResult(status ->
+                outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minus(retention)));
+    }
+
+    private void drain() {
+        drainQueued.set(false);
+        try {
+            int events;
+            do {
+                events = drainBatch();
+            } while (events == batchSize);
+        } catch (RuntimeException e) {
+            // Events stay pending and are retried on the next poll
+            log.warn("Notification outbox dispatch failed", e);
+        }
+    }
+
+    private record Batch(int events, List<NotificationDelta> delivered) {
+    }
+
+    private int drainBatch() {
+        List<Long> ids = new ArrayList<>();
+        Batch batch;
+        try {
+            batch = batchTx.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.lockPending(maxAttempts, batchSize);
+                events.forEach(event -> ids.add(event.getId()));
+                return dispatch(events);
+            });
+        } catch (RuntimeException e) {
+            if (ids.isEmpty()) {
+                throw e;
+            }
+            log.warn("Notification batch of {} events failed, retrying one by one: {}", ids.size(), e.getMessage());
+            ids.forEach(this::dispatchOne);
+            return ids.size();
+        }
+        deliver(batch);
+        return batch.events();
+    }
+
+    private void dispatchOne(Long id) {
+        Batch batch;
+        try {
+            batch = batchTx.execute(status -> dispatch(outboxEventRepository.lockPendingById(id)));
+        } catch (RuntimeException e) {
+            int attempts = batchTx.execute(status -> {
+                outboxEventRepository.recordFailure(id);
+                return outboxEventRepository.findById(id).map(OutboxEvent::getFailedAttempts).orElse(0);
+            });
+            if (attempts >= maxAttempts) {
+                log.error("Notification outbox event {} parked after {} failed attempts", id, attempts, e);
+            } else {
+                log.warn("Notification outbox event {} failed (attempt {} of {}): {}", id, attempts, maxAttempts, e.getMessage());
+            }
+            return;
+        }
+        deliver(batch);
+    }
+
+    // After commit: the rows exist whatever happens here, a failure only costs the live update
+    private void deliver(Batch batch) {
+        for (NotificationDelta delta : batch.delivered()) {
+            try {
+                notificationService.onDelivered(delta.userId());
+                eventPublisher.publishEvent(delta);
+            } catch (RuntimeException e) {
+                log.warn("Push of notification {} failed: {}", delta.id(), e.getMessage());
+            }
+        }
+    }
+
+    private Batch dispatch(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return new Batch(0, List.of());
+        }
+        Map<Long, List<Long>> usersByDoctor = usersByDoctor(events);
+
+        List<Notification> notifications = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            for (Long userId : usersByDoctor.getOrDefault(event.getRecipientDoctorId(), List.of())) {
+                Notification n = new Notification();
+                n.setUser(userRepository.getReferenceById(userId));
+                n.setMessage(event.getMessage());
+                n.setIsRead(false);
+                n.setCreatedAt(event.getCreatedAt());
+                notifications.add(n);
+                types.add(event.getEventType());
+            }
+        }
+        if (!notifications.isEmpty()) {
+            bulkInsertRepository.insertNotifications(notifications);
+        }
+        outboxEventRepository.markDispatched(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+
+        List<NotificationDelta> deltas = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification n = notifications.get(i);
+            deltas.add(new NotificationDelta(n.getId(), n.getUser().getId(), types.get(i), n.getMessage(), n.getCreatedAt()));
+        }
+        return new Batch(events.size(), deltas);
+    }
+
+    private Map<Long, List<Long>> usersByDoctor(List<OutboxEvent> events) {
+        List<Long> doctorIds = events.stream()
+                .map(OutboxEvent::getRecipientDoctorId)
+                .filter(id -> id != null)
+                .distinct()
+                .toList();
+        Map<Long, List<Long>> users = new HashMap<>();
+        if (!doctorIds.isEmpty()) {
+            for (DoctorUserLink link : userRepository.findLinksByDoctorIds(doctorIds)) {
+                users.computeIfAbsent(link.doctorId(), k -> new ArrayList<>()).add(link.userId());
+            }
+        }
+        return users;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainer.shutdown();
+    }
+}
@@ -0,0 +1,60 @@
+package com.docsync.app.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.docsync.app.bean.OutboxEvent;
+import com.docsync.app.dao.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records notification-worthy domain events in the caller's transaction (MANDATORY), so an
+ * event is never sent for a change that rolled back and never lost for one that committed.
+ * Delivery happens later in NotificationDispatcher, which is nudged once the transaction commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    public static final String LEAVE_APPROVED = "LEAVE_APPROVED";
+    public static final String LEAVE_REJECTED = "LEAVE_REJECTED";
+    public static final String GRIEVANCE_RESPONDED = "GRIEVANCE_RESPONDED";
+    public static final String APPOINTMENT_BOOKED = "APPOINTMENT_BOOKED";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationDispatcher dispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void notifyDoctor(Long doctorId, String eventType, String message) {
+        if (doctorId == null) {
+            return;
+        }
+        OutboxEvent event = newEvent(eventType, message);
+        event.setRecipientDoctorId(doctorId);
+        record(event);
+    }
+
+    private static OutboxEvent newEvent(String eventType, String message) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(eventType);
+        event.setMessage(message);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    private void record(OutboxEvent event) {
+        outboxEventRepository.save(event);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.requestDrain();
+            }
+        });
+    }
+}
@@ -1,42 +1,157 @@
 package com.docsync.app.service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Notification;
 import com.docsync.app.dao.NotificationRepository;
+import com.docsync.app.dao.UserRepository;
+import com.docsync.app.dto.KeysetPage;
+import com.docsync.app.dto.NotificationView;
+import com.docsync.app.dto.TokenClaims;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.EntityNotFoundException;
 
 @Service
 
 public class NotificationService {
 
+	private static final int MAX_INBOX_PAGE = 100;
+
 	@Autowired
 	private NotificationRepository norepo;
-	
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private KeysetPaginationService pager;
+
+	// Per-user unread counts, loaded from the table on first use and then kept up to date in memory.
+	// Entries are reloaded after the ttl, which also bounds any drift from concurrent writers.
+	// Loads run on a virtual thread, outside the map's bin lock.
+	private AsyncCache<Long, AtomicLong> unreadCounts = newUnreadCache(Duration.ofMinutes(10));
+
+	@Value("${notification.unread-cache.ttl:10m}")
+	void setUnreadCacheTtl(Duration ttl) {
+		this.unreadCounts = newUnreadCache(ttl);
+	}
+
+	private static AsyncCache<Long, AtomicLong> newUnreadCache(Duration ttl) {
+		return Caffeine.newBuilder()
+				.maximumSize(100_000)
+				.expireAfterWrite(ttl)
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.buildAsync();
+	}
+
 	public Notification add(Notification no) {
-		return norepo.save(no);
+		Notification saved = norepo.save(no);
+		evictUnread(saved);
+		return saved;
 	}
-	
+
 	public Notification update(Long id,Notification details) {
 		Notification commit=norepo.getReferenceById(id);
-		
+		evictUnread(commit);
+
 		commit.setUser(details.getUser());
 		commit.setMessage(details.getMessage());
 		commit.setIsRead(details.getIsRead());
 		commit.setCreatedAt(details.getCreatedAt());
-		return norepo.save(commit);
+		Notification saved = norepo.save(commit);
+		evictUnread(saved);
+		return saved;
 	}
-	
+
 	public void deleteById(Long id) {
-		if(!norepo.existsById(id)) {
-			throw new RuntimeException("Notification not found");
-		}
-		norepo.deleteById(id);
+		Notification existing = norepo.findById(id)
+				.orElseThrow(() -> new RuntimeException("Notification not found"));
+		norepo.delete(existing);
+		evictUnread(existing);
 	}
-	
+
 	public List<Notification> getAllNotifications(){
 		return norepo.findAll();
 	}
+
+	public KeysetPage<Notification> getNotificationPage(String cursor, Integer size){
+		return pager.page(norepo, cursor, size, Notification::getId);
+	}
+
+	public StreamingResponseBody streamNotifications(String cursor){
+		return pager.ndjson(norepo, cursor);
+	}
+
+	// --- Signed-in user's inbox ---
+
+	public Long resolveUserId(Authentication authentication) {
+		if (authentication.getPrincipal() instanceof TokenClaims claims && claims.userId() != null) {
+			return claims.userId();
+		}
+		return userRepository.findIdByUsername(authentication.getName())
+				.orElseThrow(() -> new EntityNotFoundException("No user " + authentication.getName()));
+	}
+
+	// Newest first; the cursor is the id of the last notification on the previous page
+	public KeysetPage<NotificationView> getInbox(Long userId, String cursor, Integer size) {
+		int limit = size != null ? size : 20;
+		if (limit < 1 || limit > MAX_INBOX_PAGE) {
+			throw new IllegalArgumentException("size must be between 1 and " + MAX_INBOX_PAGE);
+		}
+		long beforeId;
+		try {
+			beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : Long.parseLong(cursor);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+		List<NotificationView> rows = norepo.findInbox(userId, beforeId, Limit.of(limit + 1));
+		boolean hasMore = rows.size() > limit;
+		List<NotificationView> items = hasMore ? rows.subList(0, limit) : rows;
+		String next = hasMore ? String.valueOf(items.get(items.size() - 1).id()) : null;
+		return new KeysetPage<>(List.copyOf(items), next, hasMore);
+	}
+
+	public long getUnreadCount(Long userId) {
+		return unreadCounts.get(userId, id -> new AtomicLong(norepo.countByUserIdAndIsReadFalse(id))).join().get();
+	}
+
+	public void markRead(Long userId, Long notificationId) {
+		if (norepo.markRead(notificationId, userId) > 0) {
+			AtomicLong count = unreadCounts.synchronous().getIfPresent(userId);
+			if (count != null) {
+				count.updateAndGet(c -> Math.max(0, c - 1));
+			}
+		}
+	}
+
+	public void markAllRead(Long userId) {
+		norepo.markAllRead(userId);
+		unreadCounts.synchronous().invalidate(userId);
+	}
+
+	// Called by NotificationDispatcher once the new rows have committed
+	void onDelivered(Long userId) {
+		AtomicLong count = unreadCounts.synchronous().getIfPresent(userId);
+		if (count != null) {
+			count.incrementAndGet();
+		}
+	}
+
+	private void evictUnread(Notification notification) {
+		if (notification.getUser() != null && notification.getUser().getId() != null) {
+			unreadCounts.synchronous().invalidate(notification.getUser().getId());
+		}
+	}
 }
@@ -0,0 +1,128 @@
+package com.docsync.app.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.docsync.app.dao.DepartmentRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.OrgChartRepository;
+import com.docsync.app.dao.PromotionRepository;
+import com.docsync.app.dto.LatestPromotionRow;
+import com.docsync.app.dto.OrgChartEdgeRow;
+import com.docsync.app.dto.OrgChartEmployeeRow;
+import com.docsync.app.dto.OrgChartGraph;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds the org chart from four set-based queries (departments, doctors+department,
+ * reporting lines, latest promotion per doctor) regardless of hospital size,
+ * and keeps the result cached until a write calls invalidate().
+ */
+@Service
+@RequiredArgsConstructor
+public class OrgChartGraphEngine {
+
+    static final String DEFAULT_TITLE = "General Doctor";
+
+    private final DepartmentRepository departmentRepository;
+    private final DoctorRepository doctorRepository;
+    private final OrgChartRepository orgChartRepository;
+    private final PromotionRepository promotionRepository;
+
+    // Bumped on every invalidation; a build only publishes if no write happened while it ran
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Snapshot> cache = new AtomicReference<>();
+
+    private record Snapshot(long generation, OrgChartGraph graph) {
+    }
+
+    @Transactional(readOnly = true)
+    public OrgChartGraph getGraph() {
+        long current = generation.get();
+        Snapshot snapshot = cache.get();
+        if (snapshot != null && snapshot.generation() == current) {
+            return snapshot.graph();
+        }
+        OrgChartGraph graph = build();
+        if (generation.get() == current) {
+            cache.set(new Snapshot(current, graph));
+        }
+        return graph;
+    }
+
+    // Drop the cached graph now and, if called inside a transaction, again after it commits
+    public void invalidate() {
+        bump();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        }
+    }
+
+    private void bump() {
+        generation.incrementAndGet();
+        cache.set(null);
+    }
+
+    private OrgChartGraph build() {
+        Map<Long, LatestPromotionRow> latestByDoctor = new HashMap<>();
+        for (LatestPromotionRow row : promotionRepository.findLatestPromotionPerDoctor()) {
+            // Two promotions on the same date: the later insert wins
+            latestByDoctor.merge(row.doctorId(), row,
+                    (a, b) -> a.promotionId() >= b.promotionId() ? a : b);
+        }
+
+        List<OrgChartGraph.Employee> employees = new ArrayList<>();
+        for (OrgChartEmployeeRow row : doctorRepository.findOrgChartRows()) {
+            LatestPromotionRow promo = latestByDoctor.get(row.id());
+            employees.add(new OrgChartGraph.Employee(
+                    row.id(), row.firstName(), row.lastName(),
+                    row.departmentId(), row.departmentName(),
+                    promo != null ? promo.newTitle() : DEFAULT_TITLE,
+                    promo != null ? promo.promotionDate() : null));
+        }
+
+        List<OrgChartGraph.Edge> edges = new ArrayList<>();
+        Map<Long, List<Long>> adjacency = new LinkedHashMap<>();
+        List<Long> roots = new ArrayList<>();
+        for (OrgChartEdgeRow row : orgChartRepository.findEdgeRows()) {
+            edges.add(new OrgChartGraph.Edge(row.id(), ref(row.doctorId()), ref(row.managerId())));
+            if (row.doctorId() == null) {
+                continue;
+            }
+            if (row.managerId() == null) {
+                roots.add(row.doctorId());
+            } else {
+                adjacency.computeIfAbsent(row.managerId(), k -> new ArrayList<>()).add(row.doctorId());
+            }
+        }
+        adjacency.replaceAll((k, v) -> List.copyOf(v));
+
+        return new OrgChartGraph(
+                List.copyOf(departmentRepository.findAll()),
+                List.copyOf(employees),
+                List.copyOf(edges),
+                Collections.unmodifiableMap(adjacency),
+                List.copyOf(roots));
+    }
+
+    private static OrgChartGraph.NodeRef ref(Long id) {
+        return id != null ? new OrgChartGraph.NodeRef(id) : null;
+    }
+}
@@ -1,21 +1,14 @@
 package com.docsync.app.service;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.docsync.app.bean.Doctor;
 import com.docsync.app.bean.OrgChart;
-import com.docsync.app.bean.Promotion;
-import com.docsync.app.dao.DepartmentRepository;
 import com.docsync.app.dao.DoctorRepository;
 import com.docsync.app.dao.OrgChartRepository;
-import com.docsync.app.dao.PromotionRepository;
+import com.docsync.app.dto.OrgChartGraph;
 
 @Service
 public class OrgChartService {
@@ -23,57 +16,19 @@ public class OrgChartService {
     @Autowired
     private OrgChartRepository orgChartRepository;
     @Autowired
-    private DepartmentRepository departmentRepository;
-    @Autowired
     private DoctorRepository doctorRepository; // Assumes Doctor entity exists
     @Autowired
-    private PromotionRepository promotionRepository;
-
-    public Map<String, Object> getRawGraphData() {
-        Map<String, Object> response = new HashMap<>();
-
-        // 1. Departments (These will become Group Nodes in ReactFlow)
-        response.put("departments", departmentRepository.findAll());
-
-        // 2. Relationships (These will become Edges)
-        response.put("relationships", orgChartRepository.findAll());
-
-        // 3. Employees (These will become Child Nodes)
-        // We iterate doctors to inject their "Current Title" from the Promotion table
-        List<Doctor> allDoctors = doctorRepository.findAll();
-        List<Map<String, Object>> enrichedEmployees = new ArrayList<>();
-
-        for (Doctor doc : allDoctors) {
-            Map<String, Object> employeeData = new HashMap<>();
-            employeeData.put("id", doc.getId());
-            employeeData.put("firstName", doc.getFirstName());
-            employeeData.put("lastName", doc.getLastName());
-            
-            // Handle Department Association
-            if (doc.getDepartment() != null) {
-                employeeData.put("departmentId", doc.getDepartment().getId());
-                employeeData.put("departmentName", doc.getDepartment().getName());
-            }
-
-            // Fetch latest promotion to get current Job Title
-            Optional<Promotion> latestPromo = promotionRepository.findTopByDoctorIdOrderByPromotionDateDesc(doc.getId());
-            if (latestPromo.isPresent()) {
-                employeeData.put("title", latestPromo.get().getNewTitle());
-                employeeData.put("lastPromoted", latestPromo.get().getPromotionDate());
-            } else {
-                employeeData.put("title", "General Doctor"); // Fallback title
-            }
-
-            enrichedEmployees.add(employeeData);
-        }
-        
-        response.put("employees", enrichedEmployees);
+    private OrgChartGraphEngine graphEngine;
 
-        return response;
+    // Departments, enriched employees and reporting lines, built set-based and cached by the engine
+    public OrgChartGraph getRawGraphData() {
+        return graphEngine.getGraph();
     }
 
     public OrgChart createRelationship(OrgChart orgChart) {
-        return orgChartRepository.save(orgChart);
+        OrgChart saved = orgChartRepository.save(orgChart);
+        graphEngine.invalidate();
+        return saved;
     }
     public void assignManager(Long doctorId, Long managerId) {
         // 1. Find or Create the relationship entry
@@ -96,11 +51,13 @@ public class OrgChartService {
         }
         
         orgChartRepository.save(relationship);
+        graphEngine.invalidate();
     }
 
     public void removeManager(Long doctorId) {
         Optional<OrgChart> existingRelationship = orgChartRepository.findByDoctorId(doctorId);
         existingRelationship.ifPresent(orgChart -> orgChartRepository.delete(orgChart));
+        graphEngine.invalidate();
     }
     
 }
\ No newline at end of file
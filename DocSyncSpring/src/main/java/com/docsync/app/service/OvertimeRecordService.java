@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.docsync.app.bean.OvertimeRecord;
 import com.docsync.app.dao.OvertimeRecordRepository;
@@ -14,26 +15,37 @@ public class OvertimeRecordService {
 
 	@Autowired
 	private OvertimeRecordRepository orepo;
+
+	@Autowired
+	private AttendanceRollupService rollupService;
 	
+	@Transactional
 	public OvertimeRecord add(OvertimeRecord over) {
-		return orepo.save(over);
+		OvertimeRecord saved=orepo.save(over);
+		rollupService.apply(AttendanceRollupService.Contribution.NONE, rollupService.of(saved));
+		return saved;
 	}
 	
+	@Transactional
 	public OvertimeRecord update(Long id,OvertimeRecord details) {
 		OvertimeRecord commit=orepo.getReferenceById(id);
+		AttendanceRollupService.Contribution before=rollupService.of(commit);
 		
 		commit.setDoctor(details.getDoctor());
 		commit.setDate(details.getDate());
 		commit.setHours(details.getHours());
 		
-		return orepo.save(commit);
+		OvertimeRecord saved=orepo.save(commit);
+		rollupService.apply(before, rollupService.of(saved));
+		return saved;
 	}
 	
+	@Transactional
 	public void deleteById(Long id) {
-		if(!orepo.existsById(id)) {
-			throw new RuntimeException("Overtime record not found");
-		}
-	    orepo.deleteById(id);
+		OvertimeRecord existing=orepo.findById(id)
+				.orElseThrow(() -> new RuntimeException("Overtime record not found"));
+	    orepo.delete(existing);
+	    rollupService.apply(rollupService.of(existing), AttendanceRollupService.Contribution.NONE);
 	}
 	
 	public List<OvertimeRecord> getAllOvertimeRecords(){
@@ -0,0 +1,61 @@
+package com.docsync.app.service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.docsync.app.bean.PatientRecord;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.PatientRepository;
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.dto.BulkImportReport.RowError;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PatientRecordService {
+
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+    private final BulkImportService bulkImportService;
+    private final BulkInsertRepository bulkInsertRepository;
+
+    // Streams the JSON array in chunks; doctor and patient ids are checked with one IN query each per chunk
+    public BulkImportReport importRecords(InputStream body) {
+        return bulkImportService.importJsonArray(body, PatientRecord.class, this::writeChunk);
+    }
+
+    private int writeChunk(List<PatientRecord> rows, int firstRow, List<RowError> rowErrors) {
+        Set<Long> doctorIds = new HashSet<>();
+        Set<Long> patientIds = new HashSet<>();
+        for (PatientRecord r : rows) {
+            if (r.getDoctor() != null && r.getDoctor().getId() != null) doctorIds.add(r.getDoctor().getId());
+            if (r.getPatient() != null && r.getPatient().getId() != null) patientIds.add(r.getPatient().getId());
+        }
+        Set<Long> knownDoctors = doctorIds.isEmpty() ? Set.of() : new HashSet<>(doctorRepository.findExistingIds(doctorIds));
+        Set<Long> knownPatients = patientIds.isEmpty() ? Set.of() : new HashSet<>(patientRepository.findExistingIds(patientIds));
+
+        List<PatientRecord> valid = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            PatientRecord r = rows.get(i);
+            Long doctorId = r.getDoctor() != null ? r.getDoctor().getId() : null;
+            Long patientId = r.getPatient() != null ? r.getPatient().getId() : null;
+            if (patientId == null) {
+                rowErrors.add(new RowError(firstRow + i, "Patient is required."));
+            } else if (!knownPatients.contains(patientId)) {
+                rowErrors.add(new RowError(firstRow + i, "Patient not found with ID: " + patientId));
+            } else if (doctorId != null && !knownDoctors.contains(doctorId)) {
+                rowErrors.add(new RowError(firstRow + i, "Doctor not found with ID: " + doctorId));
+            } else {
+                valid.add(r);
+            }
+        }
+        return valid.isEmpty() ? 0 : bulkInsertRepository.insertPatientRecords(valid);
+    }
+}
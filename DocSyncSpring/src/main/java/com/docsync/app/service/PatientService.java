@@ -1,24 +1,40 @@
 package com.docsync.app.service;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Patient;
+import com.docsync.app.dao.BulkInsertRepository;
 import com.docsync.app.dao.PatientRepository;
+import com.docsync.app.dto.BulkImportReport;
+import com.docsync.app.dto.BulkImportReport.RowError;
+import com.docsync.app.dto.KeysetPage;
 
 @Service
 public class PatientService {
 
     private final PatientRepository patientRepository;
+    private final KeysetPaginationService pager;
+    private final BulkImportService bulkImportService;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final SearchIndexService searchIndexService;
 
     @Autowired
-    public PatientService(PatientRepository patientRepository) {
+    public PatientService(PatientRepository patientRepository, KeysetPaginationService pager,
+                          BulkImportService bulkImportService, BulkInsertRepository bulkInsertRepository,
+                          SearchIndexService searchIndexService) {
         this.patientRepository = patientRepository;
+        this.pager = pager;
+        this.bulkImportService = bulkImportService;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.searchIndexService = searchIndexService;
     }
 
     // --- Create (Single) ---
@@ -31,13 +47,26 @@ public class PatientService {
     }
 
     // --- Create (Bulk) ---
-    @Transactional // Ensures all records are saved or rolled back together on error
-    public List<Patient> createPatientsBulk(List<Patient> patients) {
-        // Optional: Set CreatedAt manually for bulk items if auditing isn't set up
-        patients.forEach(p -> {
-            if (p.getCreatedAt() == null) p.setCreatedAt(LocalDateTime.now());
+    // Streams the JSON array and inserts it in chunks, each committed on its own (see BulkImportService)
+    // JDBC inserts skip the JPA listener, so new rows are handed to the search index afterwards
+    public BulkImportReport createPatientsBulk(InputStream body) {
+        long maxIdBefore = patientRepository.findMaxId();
+        BulkImportReport report = bulkImportService.importJsonArray(body, Patient.class, (rows, firstRow, rowErrors) -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Patient> valid = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Patient p = rows.get(i);
+                if (p.getFirstName() == null || p.getFirstName().isBlank()) {
+                    rowErrors.add(new RowError(firstRow + i, "First name is required."));
+                    continue;
+                }
+                if (p.getCreatedAt() == null) p.setCreatedAt(now);
+                valid.add(p);
+            }
+            return valid.isEmpty() ? 0 : bulkInsertRepository.insertPatients(valid);
         });
-        return patientRepository.saveAll(patients);
+        searchIndexService.patientsInsertedAfter(maxIdBefore);
+        return report;
     }
 
     // --- Read ---
@@ -45,6 +74,14 @@ public class PatientService {
         return patientRepository.findAll();
     }
 
+    public KeysetPage<Patient> getPatientPage(String cursor, Integer size) {
+        return pager.page(patientRepository, cursor, size, Patient::getId);
+    }
+
+    public StreamingResponseBody streamPatients(String cursor) {
+        return pager.ndjson(patientRepository, cursor);
+    }
+
     public Optional<Patient> getPatientById(Long id) {
         return patientRepository.findById(id);
     }
@@ -0,0 +1,56 @@
+package com.docsync.app.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Monthly pay for one doctor, from inputs a payroll run has already loaded in bulk.
+ * <ul>
+ *   <li>monthly pay = base salary * (1 + hike% / 100)</li>
+ *   <li>gross = monthly pay + overtime hours * (monthly pay / standard hours) * overtime multiplier</li>
+ *   <li>deductions = unpaid leave days * monthly pay / days in month, where unpaid days are the approved
+ *       leave days of the month not covered by approved paid-leave days</li>
+ * </ul>
+ */
+public class PayrollCalculator {
+
+    public record Inputs(BigDecimal baseSalary, BigDecimal hikePercent, long overtimeHours,
+                         int leaveDays, long paidLeaveDays, int daysInMonth) {
+    }
+
+    public record Result(BigDecimal grossSalary, BigDecimal deductions, BigDecimal netSalary) {
+    }
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final BigDecimal standardMonthlyHours;
+    private final BigDecimal overtimeMultiplier;
+
+    public PayrollCalculator(int standardMonthlyHours, BigDecimal overtimeMultiplier) {
+        if (standardMonthlyHours <= 0) {
+            throw new IllegalArgumentException("standardMonthlyHours must be positive");
+        }
+        this.standardMonthlyHours = BigDecimal.valueOf(standardMonthlyHours);
+        this.overtimeMultiplier = overtimeMultiplier;
+    }
+
+    public Result compute(Inputs in) {
+        BigDecimal base = in.baseSalary() != null ? in.baseSalary() : BigDecimal.ZERO;
+        BigDecimal hike = in.hikePercent() != null ? in.hikePercent() : BigDecimal.ZERO;
+        BigDecimal monthlyPay = base.multiply(BigDecimal.ONE.add(hike.divide(HUNDRED)));
+
+        BigDecimal overtime = monthlyPay
+                .multiply(BigDecimal.valueOf(in.overtimeHours()))
+                .multiply(overtimeMultiplier)
+                .divide(standardMonthlyHours, 2, RoundingMode.HALF_UP);
+        BigDecimal gross = monthlyPay.add(overtime).setScale(2, RoundingMode.HALF_UP);
+
+        long unpaidDays = Math.max(0, in.leaveDays() - in.paidLeaveDays());
+        BigDecimal deductions = monthlyPay
+                .multiply(BigDecimal.valueOf(unpaidDays))
+                .divide(BigDecimal.valueOf(in.daysInMonth()), 2, RoundingMode.HALF_UP)
+                .min(gross);
+
+        return new Result(gross, deductions, gross.subtract(deductions));
+    }
+}
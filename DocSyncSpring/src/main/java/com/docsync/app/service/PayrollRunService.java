@@ -0,0 +1,316 @@
+package com.docsync.app.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.Payroll;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.LeaveRequestRepository;
+import com.docsync.app.dao.OvertimeRecordRepository;
+import com.docsync.app.dao.PaidLeaveRepository;
+import com.docsync.app.dao.PayrollRepository;
+import com.docsync.app.dao.SalaryRecordRepository;
+import com.docsync.app.dto.DoctorTotalRow;
+import com.docsync.app.dto.LeaveSpanRow;
+import com.docsync.app.dto.PayrollRunStatus;
+import com.docsync.app.dto.PayrollSalaryRow;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes a whole month's payroll in one background job instead of one HTTP call per doctor.
+ * Salary, overtime and leave inputs are each loaded with a single grouped query, doctors are
+ * split into chunks that are computed and bulk-inserted in parallel (one transaction per chunk),
+ * and doctors that already have a payroll row for the month are skipped, so a run can simply
+ * be repeated after a partial failure. Job state lives in memory on the node that ran it.
+ */
+@Slf4j
+@Service
+public class PayrollRunService {
+
+    private static final Duration JOB_RETENTION = Duration.ofHours(24);
+
+    private final SalaryRecordRepository salaryRecordRepository;
+    private final OvertimeRecordRepository overtimeRecordRepository;
+    private final PaidLeaveRepository paidLeaveRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final PayrollRepository payrollRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final TransactionTemplate chunkTx;
+    private final PayrollCalculator calculator;
+    private final int chunkSize;
+
+    // One job at a time coordinates; its chunks fan out to the worker pool
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(daemon("payroll-run"));
+    private final ExecutorService workers;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Job> activeByPeriod = new ConcurrentHashMap<>();
+
+    public PayrollRunService(SalaryRecordRepository salaryRecordRepository,
+                             OvertimeRecordRepository overtimeRecordRepository,
+                             PaidLeaveRepository paidLeaveRepository,
+                             LeaveRequestRepository leaveRequestRepository,
+                             PayrollRepository payrollRepository,
+                             BulkInsertRepository bulkInsertRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${payroll.run.chunk-size:500}") int chunkSize,
+                             @Value("${payroll.run.parallelism:4}") int parallelism,
+                             @Value("${payroll.standard-monthly-hours:160}") int standardMonthlyHours,
+                             @Value("${payroll.overtime-multiplier:1.5}") BigDecimal overtimeMultiplier) {
+        this.salaryRecordRepository = salaryRecordRepository;
+        this.overtimeRecordRepository = overtimeRecordRepository;
+        this.paidLeaveRepository = paidLeaveRepository;
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.payrollRepository = payrollRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.calculator = new PayrollCalculator(standardMonthlyHours, overtimeMultiplier);
+        this.workers = Executors.newFixedThreadPool(parallelism, daemon("payroll-chunk"));
+    }
+
+    /**
+     * Starts a run for the month, or returns the run already in progress for it.
+     * {@code month} is a month name ("March") or number ("3").
+     */
+    public PayrollRunStatus start(String month, Integer year) {
+        if (year == null || year < 1900 || year > 9999) {
+            throw new IllegalArgumentException("A valid year is required");
+        }
+        Month m = parseMonth(month);
+        String monthName = m.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+
+        pruneFinishedJobs();
+        Job job = new Job(UUID.randomUUID().toString(), m, monthName, year);
+        Job running = activeByPeriod.putIfAbsent(job.periodKey(), job);
+        if (running != null) {
+            return running.snapshot();
+        }
+        jobs.put(job.id, job);
+        coordinator.execute(() -> run(job));
+        return job.snapshot();
+    }
+
+    public Optional<PayrollRunStatus> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::snapshot);
+    }
+
+    public List<PayrollRunStatus> getRecentRuns() {
+        return jobs.values().stream()
+                .map(Job::snapshot)
+                .sorted(Comparator.comparing(PayrollRunStatus::startedAt,
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).reversed())
+                .toList();
+    }
+
+    private void run(Job job) {
+        job.state = PayrollRunStatus.State.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        try {
+            YearMonth period = YearMonth.of(job.year, job.month);
+            LocalDate from = period.atDay(1);
+            LocalDate to = period.atEndOfMonth();
+
+            Map<Long, PayrollSalaryRow> salaries = new HashMap<>();
+            for (PayrollSalaryRow row : salaryRecordRepository.findSalaryInEffectPerDoctor(to)) {
+                // Two records effective on the same date: the later insert wins
+                salaries.merge(row.doctorId(), row, (a, b) -> a.salaryRecordId() >= b.salaryRecordId() ? a : b);
+            }
+            Set<Long> alreadyPaid = new HashSet<>(payrollRepository.findDoctorIdsWithPayroll(job.monthName, job.year));
+            Map<Long, Long> overtimeHours = totals(overtimeRecordRepository.sumHoursPerDoctor(from, to));
+            Map<Long, Long> paidLeaveDays = totals(paidLeaveRepository.countApprovedDaysPerDoctor(from, to));
+            Map<Long, BitSet> leaveDays = leaveDays(
+                    leaveRequestRepository.findSpansOverlapping("APPROVED", from, to), from, to);
+
+            List<Long> pending = salaries.keySet().stream()
+                    .filter(id -> !alreadyPaid.contains(id))
+                    .sorted()
+                    .toList();
+            job.total = salaries.size();
+            job.skipped.set(salaries.size() - pending.size());
+            job.processed.set(job.skipped.get());
+
+            RunInputs inputs = new RunInputs(salaries, overtimeHours, paidLeaveDays, leaveDays, period.lengthOfMonth());
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int start = 0; start < pending.size(); start += chunkSize) {
+                List<Long> chunk = pending.subList(start, Math.min(start + chunkSize, pending.size()));
+                chunks.add(CompletableFuture.runAsync(() -> writeChunk(job, chunk, inputs), workers));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+            if (job.failedChunks.get() > 0) {
+                job.error = job.failedChunks.get() + " chunk(s) failed; run the month again to fill the gaps";
+                job.state = PayrollRunStatus.State.FAILED;
+            } else {
+                job.state = PayrollRunStatus.State.COMPLETED;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Payroll run {} for {} {} failed", job.id, job.monthName, job.year, e);
+            job.error = e.getMessage();
+            job.state = PayrollRunStatus.State.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            activeByPeriod.remove(job.periodKey(), job);
+        }
+    }
+
+    private record RunInputs(Map<Long, PayrollSalaryRow> salaries, Map<Long, Long> overtimeHours,
+                             Map<Long, Long> paidLeaveDays, Map<Long, BitSet> leaveDays, int daysInMonth) {
+    }
+
+    private void writeChunk(Job job, List<Long> doctorIds, RunInputs inputs) {
+        LocalDateTime processedAt = LocalDateTime.now();
+        List<Payroll> rows = new ArrayList<>(doctorIds.size());
+        for (Long doctorId : doctorIds) {
+            PayrollSalaryRow salary = inputs.salaries().get(doctorId);
+            BitSet leave = inputs.leaveDays().get(doctorId);
+            PayrollCalculator.Result pay = calculator.compute(new PayrollCalculator.Inputs(
+                    salary.baseSalary(),
+                    salary.hikePercent(),
+                    inputs.overtimeHours().getOrDefault(doctorId, 0L),
+                    leave != null ? leave.cardinality() : 0,
+                    inputs.paidLeaveDays().getOrDefault(doctorId, 0L),
+                    inputs.daysInMonth()));
+
+            Doctor doctor = new Doctor();
+            doctor.setId(doctorId);
+            Payroll payroll = new Payroll();
+            payroll.setDoctor(doctor);
+            payroll.setMonth(job.monthName);
+            payroll.setYear(job.year);
+            payroll.setGrossSalary(pay.grossSalary());
+            payroll.setDeductions(pay.deductions());
+            payroll.setNetSalary(pay.netSalary());
+            payroll.setProcessedAt(processedAt);
+            rows.add(payroll);
+        }
+        try {
+            int written = chunkTx.execute(status -> bulkInsertRepository.insertPayrolls(rows));
+            job.inserted.addAndGet(written);
+        } catch (RuntimeException e) {
+            log.warn("Payroll run {}: chunk of {} doctors failed", job.id, doctorIds.size(), e);
+            job.failedChunks.incrementAndGet();
+        } finally {
+            job.processed.addAndGet(doctorIds.size());
+        }
+    }
+
+    private static Map<Long, Long> totals(List<DoctorTotalRow> rows) {
+        Map<Long, Long> totals = new HashMap<>(rows.size() * 2);
+        for (DoctorTotalRow row : rows) {
+            totals.put(row.doctorId(), row.total() != null ? row.total() : 0L);
+        }
+        return totals;
+    }
+
+    // Day-of-month bitmap per doctor, so overlapping leave requests are not counted twice
+    private static Map<Long, BitSet> leaveDays(List<LeaveSpanRow> spans, LocalDate from, LocalDate to) {
+        Map<Long, BitSet> days = new HashMap<>();
+        for (LeaveSpanRow span : spans) {
+            LocalDate start = span.leaveFrom().isBefore(from) ? from : span.leaveFrom();
+            LocalDate end = span.leaveTo().isAfter(to) ? to : span.leaveTo();
+            if (end.isBefore(start)) {
+                continue;
+            }
+            days.computeIfAbsent(span.doctorId(), id -> new BitSet(31))
+                    .set(start.getDayOfMonth(), end.getDayOfMonth() + 1);
+        }
+        return days;
+    }
+
+    static Month parseMonth(String month) {
+        if (month == null || month.isBlank()) {
+            throw new IllegalArgumentException("Month is required");
+        }
+        String value = month.trim();
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Month.of(Integer.parseInt(value))
+                    : Month.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unknown month: " + month);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(j -> j.finishedAt != null && j.finishedAt.isBefore(cutoff));
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private static final class Job {
+        final String id;
+        final Month month;
+        final String monthName;
+        final int year;
+        volatile PayrollRunStatus.State state = PayrollRunStatus.State.QUEUED;
+        volatile int total;
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger inserted = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger failedChunks = new AtomicInteger();
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        Job(String id, Month month, String monthName, int year) {
+            this.id = id;
+            this.month = month;
+            this.monthName = monthName;
+            this.year = year;
+        }
+
+        String periodKey() {
+            return year + "-" + month.getValue();
+        }
+
+        PayrollRunStatus snapshot() {
+            return new PayrollRunStatus(id, monthName, year, state, total, processed.get(), inserted.get(),
+                    skipped.get(), failedChunks.get(), startedAt, finishedAt, error);
+        }
+    }
+}
@@ -6,11 +6,13 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.docsync.app.bean.Doctor;
 import com.docsync.app.bean.Payroll;
 import com.docsync.app.dao.DoctorRepository;
 import com.docsync.app.dao.PayrollRepository;
+import com.docsync.app.dto.KeysetPage;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
@@ -21,6 +23,7 @@ public class PayrollService {
 
     private final PayrollRepository payrollRepository;
     private final DoctorRepository doctorRepository;
+    private final KeysetPaginationService pager;
 
     // --- Create (Admin) ---
     @Transactional
@@ -65,6 +68,14 @@ public class PayrollService {
         return payrollRepository.findAll();
     }
 
+    public KeysetPage<Payroll> getPayrollPage(String cursor, Integer size) {
+        return pager.page(payrollRepository, cursor, size, Payroll::getId);
+    }
+
+    public StreamingResponseBody streamPayrolls(String cursor) {
+        return pager.ndjson(payrollRepository, cursor);
+    }
+
     public List<Payroll> getPayrollsByDoctorId(Long doctorId) {
         return payrollRepository.findByDoctorId(doctorId);
     }
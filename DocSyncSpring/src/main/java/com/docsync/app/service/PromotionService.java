@@ -15,11 +15,17 @@ public class PromotionService {
     @Autowired
     private PromotionRepository promotionRepository;
 
+    @Autowired
+    private OrgChartGraphEngine orgChartGraphEngine;
+
     public Promotion promoteDoctor(Promotion promotion) {
         if (promotion.getPromotionDate() == null) {
             promotion.setPromotionDate(LocalDate.now());
         }
-        return promotionRepository.save(promotion);
+        Promotion saved = promotionRepository.save(promotion);
+        // Current job titles on the org chart come from the latest promotion
+        orgChartGraphEngine.invalidate();
+        return saved;
     }
 
     public List<Promotion> getPromotionsByDoctor(Long doctorId) {
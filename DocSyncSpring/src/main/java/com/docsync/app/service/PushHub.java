@@ -0,0 +1,218 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.docsync.app.dto.EntityChange;
+import com.docsync.app.dto.NotificationDelta;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-Sent Events fan-out. Each connection is an async-servlet SseEmitter, so an idle client
+ * holds no request thread. Events for a connection go through its own bounded mailbox, drained
+ * in order on a virtual thread; a client that falls {@code push.max-queued-events} behind is
+ * disconnected (EventSource reconnects and the page refetches) instead of slowing the publisher.
+ * <p>
+ * Routing: notifications go to the recipient's connections; EntityChange deltas go to the
+ * affected doctor's connections and to every admin connection.
+ */
+@Service
+public class PushHub {
+
+    public static final String NOTIFICATION = "notification";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> byDoctor = new ConcurrentHashMap<>();
+    private final Set<Subscriber> admins = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration connectionTimeout;
+    private final int maxQueuedEvents;
+
+    private final MeterRegistry registry;
+    private final Counter dropped;
+    private final Counter heartbeats;
+
+    public PushHub(MeterRegistry registry,
+                   @Value("${push.connection-timeout:30m}") Duration connectionTimeout,
+                   @Value("${push.max-queued-events:256}") int maxQueuedEvents) {
+        this.registry = registry;
+        this.connectionTimeout = connectionTimeout;
+        this.maxQueuedEvents = maxQueuedEvents;
+        Gauge.builder("docsync.push.connections", subscribers, Set::size)
+                .description("Open Server-Sent Events connections")
+                .register(registry);
+        Gauge.builder("docsync.push.users", byUser, Map::size)
+                .description("Users with at least one open push connection")
+                .register(registry);
+        this.dropped = Counter.builder("docsync.push.dropped")
+                .description("Connections closed because the client could not keep up or had gone away")
+                .register(registry);
+        this.heartbeats = Counter.builder("docsync.push.heartbeats").register(registry);
+    }
+
+    /** Opens a stream for the signed-in user; doctorId is null for non-doctor accounts. */
+    public SseEmitter subscribe(Long userId, Long doctorId, boolean admin, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(connectionTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, doctorId, emitter);
+
+        subscribers.add(subscriber);
+        addTo(byUser, userId, subscriber);
+        if (doctorId != null) {
+            addTo(byDoctor, doctorId, subscriber);
+        }
+        if (admin) {
+            admins.add(subscriber);
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // First frame: lets the client set its badge without a separate request
+        subscriber.offer(SseEmitter.event().name("unread").data(Map.of("count", unreadCount)));
+        return emitter;
+    }
+
+    @EventListener
+    public void onNotification(NotificationDelta delta) {
+        publish(byUser.get(delta.userId()), null, NOTIFICATION, delta);
+    }
+
+    // Only after the writing transaction commits; changes made outside a transaction go out at once
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChange change) {
+        publish(change.doctorId() != null ? byDoctor.get(change.doctorId()) : null, admins, change.entity(), change);
+    }
+
+    @Scheduled(fixedDelayString = "${push.heartbeat-interval:25s}")
+    public void heartbeat() {
+        // Keeps proxies from closing idle streams and surfaces dead connections
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("hb"));
+        }
+        heartbeats.increment();
+    }
+
+    private void publish(Set<Subscriber> targets, Set<Subscriber> alsoTo, String name, Object data) {
+        Counter sent = Counter.builder("docsync.push.events").tag("type", name).register(registry);
+        if (targets != null) {
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(SseEmitter.event().name(name).data(data));
+                sent.increment();
+            }
+        }
+        if (alsoTo != null) {
+            for (Subscriber subscriber : alsoTo) {
+                if (targets == null || !targets.contains(subscriber)) {
+                    subscriber.offer(SseEmitter.event().name(name).data(data));
+                    sent.increment();
+                }
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        removeFrom(byUser, subscriber.userId, subscriber);
+        if (subscriber.doctorId != null) {
+            removeFrom(byDoctor, subscriber.doctorId, subscriber);
+        }
+        admins.remove(subscriber);
+    }
+
+    // Add and remove both run inside compute so a set emptied by a disconnect is never reused
+    private static void addTo(Map<Long, Set<Subscriber>> index, Long key, Subscriber subscriber) {
+        index.compute(key, (k, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private static void removeFrom(Map<Long, Set<Subscriber>> index, Long key, Subscriber subscriber) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdown();
+    }
+
+    private final class Subscriber {
+        final Long userId;
+        final Long doctorId;
+        final SseEmitter emitter;
+        final Queue<SseEventBuilder> mailbox = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(Long userId, Long doctorId, SseEmitter emitter) {
+            this.userId = userId;
+            this.doctorId = doctorId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEventBuilder event) {
+            if (queued.incrementAndGet() > maxQueuedEvents) {
+                dropped.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            mailbox.add(event);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEventBuilder event;
+                while ((event = mailbox.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; the emitter's error/completion callback also fires
+                        dropped.increment();
+                        remove(this);
+                        mailbox.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+                // An event offered between the last poll and the reset would otherwise be stranded
+            } while (!mailbox.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
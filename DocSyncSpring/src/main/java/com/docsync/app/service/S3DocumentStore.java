@@ -0,0 +1,103 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * DocumentStore on any S3-compatible object store (AWS, MinIO, Ceph...). Uploads are
+ * spooled to a local temp file first to compute the key, then skipped if the object
+ * already exists. Range reads map to ranged GETs.
+ */
+public class S3DocumentStore implements DocumentStore, AutoCloseable {
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+    private final Path spoolDir;
+
+    public S3DocumentStore(S3Client s3, String bucket, String prefix, Path spoolDir) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.prefix = prefix == null || prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+        this.spoolDir = spoolDir;
+        try {
+            Files.createDirectories(spoolDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create the upload spool directory at " + spoolDir, e);
+        }
+    }
+
+    @Override
+    public StoredContent put(InputStream content) throws IOException {
+        Path tmp = spoolDir.resolve(UUID.randomUUID() + ".part");
+        try {
+            StoredContent stored = DocumentStore.spool(content, tmp);
+            if (head(stored.key()).isEmpty()) {
+                s3.putObject(b -> b.bucket(bucket).key(objectKey(stored.key())).contentLength(stored.size()),
+                        RequestBody.fromFile(tmp));
+            }
+            return stored;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<ContentInfo> stat(String key) {
+        return head(key).map(h -> new ContentInfo(h.contentLength(), h.lastModified()));
+    }
+
+    @Override
+    public void copyRange(String key, long offset, long length, OutputStream out) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = s3.getObject(request)) {
+            in.transferTo(out);
+        }
+        out.flush();
+    }
+
+    @Override
+    public void delete(String key) {
+        s3.deleteObject(b -> b.bucket(bucket).key(objectKey(key)));
+    }
+
+    @Override
+    public void close() {
+        s3.close();
+    }
+
+    private Optional<HeadObjectResponse> head(String key) {
+        try {
+            return Optional.of(s3.headObject(b -> b.bucket(bucket).key(objectKey(key))));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    private String objectKey(String key) {
+        return (prefix != null ? prefix : "") + DocumentStore.checkKey(key);
+    }
+}
@@ -18,6 +18,7 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final DoctorRepository doctorRepository;
+    private final AvailabilityService availabilityService;
 
     public Schedule createSchedule(Schedule schedule) {
         // Ensure the doctor exists if provided
@@ -26,7 +27,9 @@ public class ScheduleService {
                     .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
             schedule.setDoctor(doctor);
         }
-        return scheduleRepository.save(schedule);
+        Schedule saved = scheduleRepository.save(schedule);
+        availabilityService.evictDoctor(doctorIdOf(saved));
+        return saved;
     }
 
     public List<Schedule> getAllSchedules() {
@@ -44,6 +47,7 @@ public class ScheduleService {
 
     public Schedule updateSchedule(Long id, Schedule scheduleDetails) {
         Schedule existingSchedule = getScheduleById(id);
+        Long previousDoctorId = doctorIdOf(existingSchedule);
 
         // Update basic fields
         existingSchedule.setAvailableFrom(scheduleDetails.getAvailableFrom());
@@ -57,13 +61,20 @@ public class ScheduleService {
             existingSchedule.setDoctor(doctor);
         }
 
-        return scheduleRepository.save(existingSchedule);
+        Schedule saved = scheduleRepository.save(existingSchedule);
+        availabilityService.evictDoctor(previousDoctorId);
+        availabilityService.evictDoctor(doctorIdOf(saved));
+        return saved;
     }
 
     public void deleteSchedule(Long id) {
-        if (!scheduleRepository.existsById(id)) {
-            throw new EntityNotFoundException("Schedule not found with ID: " + id);
-        }
-        scheduleRepository.deleteById(id);
+        Schedule existing = getScheduleById(id);
+        scheduleRepository.delete(existing);
+        availabilityService.evictDoctor(doctorIdOf(existing));
+    }
+
+    // null when the schedule has no doctor; evictDoctor(null) drops every index
+    private static Long doctorIdOf(Schedule schedule) {
+        return schedule.getDoctor() != null ? schedule.getDoctor().getId() : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,449 @@
+package com.docsync.app.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.docsync.app.bean.Patient;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.PatientRepository;
+import com.docsync.app.dto.DoctorSearchRow;
+import com.docsync.app.dto.DoctorSummary;
+import com.docsync.app.dto.KeysetPage;
+import com.docsync.app.dto.PatientSummary;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded Lucene index over doctors (name, specialization, department) and patients
+ * (name, email, phone), replacing LIKE '%keyword%' scans. Every query term must match some
+ * field, exactly, as a prefix or within one or two typos. Hits are built from stored fields,
+ * so a search never touches the database.
+ * <p>
+ * SearchIndexListener queues entity changes after commit; they are applied in order on a single
+ * indexing thread and become searchable within {@code search.refresh-interval}. With
+ * {@code search.index-dir} unset the index lives in memory and is rebuilt at startup.
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+    private static final String TYPE_DOCTOR = "doctor";
+    private static final String TYPE_PATIENT = "patient";
+
+    private static final String F_KEY = "key";
+    private static final String F_TYPE = "type";
+    private static final String F_ID = "id";
+    private static final String F_NAME = "name";
+    private static final String F_SPECIALIZATION = "specialization";
+    private static final String F_DEPARTMENT = "department";
+    private static final String F_EMAIL = "email";
+    private static final String F_EMAIL_EXACT = "email_exact";
+    private static final String F_PHONE = "phone";
+    private static final String F_PHONE_DIGITS = "phone_digits";
+
+    // Stored-only display fields
+    private static final String S_FIRST_NAME = "s_first_name";
+    private static final String S_LAST_NAME = "s_last_name";
+    private static final String S_SPECIALIZATION = "s_specialization";
+    private static final String S_DEPARTMENT_ID = "s_department_id";
+    private static final String S_DEPARTMENT_NAME = "s_department_name";
+    private static final String S_EMAIL = "s_email";
+    private static final String S_PHONE = "s_phone";
+
+    private record WeightedField(String name, float boost) {
+    }
+
+    private static final List<WeightedField> DOCTOR_FIELDS = List.of(
+            new WeightedField(F_NAME, 3f), new WeightedField(F_SPECIALIZATION, 2f), new WeightedField(F_DEPARTMENT, 1f));
+    private static final List<WeightedField> PATIENT_FIELDS = List.of(
+            new WeightedField(F_NAME, 3f), new WeightedField(F_EMAIL, 2f), new WeightedField(F_PHONE, 1f));
+
+    private static final int MAX_WINDOW = 1000;
+    private static final int REBUILD_BATCH = 1000;
+
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+    private final Directory directory;
+    private final Analyzer analyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "search-indexer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SearchIndexService(DoctorRepository doctorRepository, PatientRepository patientRepository,
+                              @Value("${search.index-dir:}") String indexDir) throws IOException {
+        this.doctorRepository = doctorRepository;
+        this.patientRepository = patientRepository;
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // --- Change feed (called after commit by SearchIndexListener) ---
+
+    public void doctorChanged(Long id) {
+        submit(() -> doctorRepository.findSearchRow(id).ifPresentOrElse(this::writeDoctor,
+                () -> delete(TYPE_DOCTOR, id)));
+    }
+
+    public void doctorRemoved(Long id) {
+        submit(() -> delete(TYPE_DOCTOR, id));
+    }
+
+    // A renamed department changes the indexed text of all its doctors
+    public void departmentChanged(Long departmentId) {
+        submit(() -> doctorRepository.findSearchRowsByDepartment(departmentId).forEach(this::writeDoctor));
+    }
+
+    public void patientChanged(Long id) {
+        submit(() -> patientRepository.findById(id).ifPresentOrElse(this::writePatient,
+                () -> delete(TYPE_PATIENT, id)));
+    }
+
+    public void patientRemoved(Long id) {
+        submit(() -> delete(TYPE_PATIENT, id));
+    }
+
+    // JDBC bulk inserts bypass the entity listener; index everything above the pre-import max id
+    public void patientsInsertedAfter(long afterId) {
+        submit(() -> indexPatientsAfter(afterId));
+    }
+
+    // --- Search ---
+
+    public KeysetPage<DoctorSummary> searchDoctors(String text, String cursor, int size) {
+        return search(TYPE_DOCTOR, DOCTOR_FIELDS, text, cursor, size, null, doc -> DoctorSummary.of(
+                storedLong(doc, F_ID), doc.get(S_FIRST_NAME), doc.get(S_LAST_NAME), doc.get(S_SPECIALIZATION),
+                storedLong(doc, S_DEPARTMENT_ID), doc.get(S_DEPARTMENT_NAME)));
+    }
+
+    public KeysetPage<PatientSummary> searchPatients(String text, String cursor, int size) {
+        return search(TYPE_PATIENT, PATIENT_FIELDS, text, cursor, size, patientExtras(text), doc -> PatientSummary.of(
+                storedLong(doc, F_ID), doc.get(S_FIRST_NAME), doc.get(S_LAST_NAME), doc.get(S_EMAIL), doc.get(S_PHONE)));
+    }
+
+    private <T> KeysetPage<T> search(String type, List<WeightedField> fields, String text, String cursor, int size,
+                                     Query alternative, Function<Document, T> mapper) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("size must be between 1 and 100");
+        }
+        int offset = parseCursor(cursor);
+        if (offset + size > MAX_WINDOW) {
+            throw new IllegalArgumentException("Search results are limited to the first " + MAX_WINDOW + " hits");
+        }
+        Query match = termsQuery(fields, text);
+        if (alternative != null) {
+            match = match == null ? alternative : new BooleanQuery.Builder()
+                    .add(match, Occur.SHOULD)
+                    .add(alternative, Occur.SHOULD)
+                    .build();
+        }
+        if (match == null) {
+            return new KeysetPage<>(List.of(), null, false);
+        }
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(F_TYPE, type)), Occur.FILTER)
+                .add(match, Occur.MUST)
+                .build();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs top = searcher.search(query, offset + size + 1);
+            StoredFields stored = searcher.storedFields();
+            List<T> items = new ArrayList<>(size);
+            ScoreDoc[] hits = top.scoreDocs;
+            for (int i = offset; i < Math.min(hits.length, offset + size); i++) {
+                items.add(mapper.apply(stored.document(hits[i].doc)));
+            }
+            boolean hasMore = hits.length > offset + size;
+            return new KeysetPage<>(items, hasMore ? String.valueOf(offset + size) : null, hasMore);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    // Every analyzed term must hit one of the fields exactly (best), as a prefix, or fuzzily (typos)
+    private Query termsQuery(List<WeightedField> fields, String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            for (WeightedField field : fields) {
+                Term t = new Term(field.name(), term);
+                any.add(new BoostQuery(new TermQuery(t), field.boost() * 4), Occur.SHOULD);
+                any.add(new BoostQuery(new PrefixQuery(t), field.boost() * 2), Occur.SHOULD);
+                if (term.length() >= 4) {
+                    int edits = term.length() >= 8 ? 2 : 1;
+                    any.add(new BoostQuery(new FuzzyQuery(t, edits, 1), field.boost()), Occur.SHOULD);
+                }
+            }
+            all.add(any.build(), Occur.MUST);
+        }
+        return all.build();
+    }
+
+    // Whole-value prefixes that the tokenizer would split: "555-01..." phones and "jane.d@..." emails
+    private static Query patientExtras(String text) {
+        if (text == null) {
+            return null;
+        }
+        String trimmed = text.trim().toLowerCase(Locale.ROOT);
+        String digits = trimmed.replaceAll("[^0-9]", "");
+        if (digits.length() >= 3 && digits.length() * 2 >= trimmed.replaceAll("\\s", "").length()) {
+            return new PrefixQuery(new Term(F_PHONE_DIGITS, digits));
+        }
+        if (trimmed.contains("@")) {
+            return new PrefixQuery(new Term(F_EMAIL_EXACT, trimmed));
+        }
+        return null;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(F_NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < 8) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static int parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    // --- Index maintenance ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (writer.getDocStats().numDocs == 0) {
+            rebuild();
+        }
+    }
+
+    /** Re-reads every doctor and patient in id order and replaces the index contents. */
+    public void rebuild() {
+        submit(() -> {
+            writer.deleteAll();
+            Long after = 0L;
+            List<DoctorSearchRow> doctors;
+            do {
+                doctors = doctorRepository.findSearchRowsAfter(after, Limit.of(REBUILD_BATCH));
+                for (DoctorSearchRow row : doctors) {
+                    writeDoctor(row);
+                    after = row.id();
+                }
+            } while (doctors.size() == REBUILD_BATCH);
+            indexPatientsAfter(0L);
+            writer.commit();
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    private void indexPatientsAfter(long afterId) {
+        Long after = afterId;
+        List<Patient> patients;
+        do {
+            patients = patientRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(REBUILD_BATCH));
+            for (Patient patient : patients) {
+                writePatient(patient);
+                after = patient.getId();
+            }
+        } while (patients.size() == REBUILD_BATCH);
+    }
+
+    @Scheduled(fixedDelayString = "${search.refresh-interval:1s}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    @Scheduled(fixedDelayString = "${search.commit-interval:30s}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    private void writeDoctor(DoctorSearchRow row) {
+        Document doc = baseDocument(TYPE_DOCTOR, row.id());
+        doc.add(new TextField(F_NAME, join(row.firstName(), row.lastName()), Field.Store.NO));
+        addText(doc, F_SPECIALIZATION, row.specialization());
+        addText(doc, F_DEPARTMENT, row.departmentName());
+        addStored(doc, S_FIRST_NAME, row.firstName());
+        addStored(doc, S_LAST_NAME, row.lastName());
+        addStored(doc, S_SPECIALIZATION, row.specialization());
+        addStored(doc, S_DEPARTMENT_NAME, row.departmentName());
+        if (row.departmentId() != null) {
+            doc.add(new StoredField(S_DEPARTMENT_ID, row.departmentId()));
+        }
+        update(TYPE_DOCTOR, row.id(), doc);
+    }
+
+    private void writePatient(Patient p) {
+        Document doc = baseDocument(TYPE_PATIENT, p.getId());
+        doc.add(new TextField(F_NAME, join(p.getFirstName(), p.getLastName()), Field.Store.NO));
+        addText(doc, F_EMAIL, p.getEmail());
+        addText(doc, F_PHONE, p.getPhone());
+        if (p.getEmail() != null) {
+            doc.add(new StringField(F_EMAIL_EXACT, p.getEmail().toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+        if (p.getPhone() != null) {
+            doc.add(new StringField(F_PHONE_DIGITS, p.getPhone().replaceAll("[^0-9]", ""), Field.Store.NO));
+        }
+        addStored(doc, S_FIRST_NAME, p.getFirstName());
+        addStored(doc, S_LAST_NAME, p.getLastName());
+        addStored(doc, S_EMAIL, p.getEmail());
+        addStored(doc, S_PHONE, p.getPhone());
+        update(TYPE_PATIENT, p.getId(), doc);
+    }
+
+    private static Document baseDocument(String type, Long id) {
+        Document doc = new Document();
+        doc.add(new StringField(F_KEY, type + ":" + id, Field.Store.NO));
+        doc.add(new StringField(F_TYPE, type, Field.Store.NO));
+        doc.add(new StoredField(F_ID, id));
+        return doc;
+    }
+
+    private void update(String type, Long id, Document doc) {
+        try {
+            writer.updateDocument(new Term(F_KEY, type + ":" + id), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(String type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(F_KEY, type + ":" + id));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static void addStored(Document doc, String field, String value) {
+        if (value != null) {
+            doc.add(new StoredField(field, value));
+        }
+    }
+
+    private static String join(String first, String last) {
+        return ((first != null ? first : "") + " " + (last != null ? last : "")).trim();
+    }
+
+    private static Long storedLong(Document doc, String field) {
+        var value = doc.getField(field);
+        return value != null ? value.numericValue().longValue() : null;
+    }
+
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+
+    private void submit(IndexTask task) {
+        indexer.execute(() -> {
+            try {
+                task.run();
+            } catch (IOException | RuntimeException e) {
+                // Leave the index as is; an admin rebuild (POST /api/search/reindex) restores it
+                log.warn("Search index update failed", e);
+            }
+        });
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        indexer.shutdown();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.docsync.app.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.docsync.app.bean.RevokedToken;
+import com.docsync.app.dao.RevokedTokenRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Revocation list for stateless tokens. Lookups hit only the in-memory copy; the table
+ * exists so that every node learns about a logout on its next refresh
+ * (auth.token.revocation-refresh) and so that the list survives restarts.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${auth.mode:session}")
+    private String authMode;
+
+    // token id -> token expiry; entries are useless once the token would have expired anyway
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revoked.put(tokenId, expiresAt);
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.revocation-refresh:30s}",
+               initialDelayString = "${auth.token.revocation-refresh:30s}")
+    public void refresh() {
+        if (!"stateless".equals(authMode)) {
+            return;
+        }
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            revoked.put(token.getTokenId(), token.getExpiresAt());
+        }
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+}
@@ -0,0 +1,19 @@
+-- Indexes for the derived finders in the dao package; IndexAdvisor logs any finder still scanning.
+-- Already declared on the entities (and created by Hibernate): appointments(doctor_id, appointment_time)
+-- and duty_rosters(doctor_id, duty_date). The payroll (doctor_id, month, year) unique key is added by V4.
+
+-- AttendanceRepository.findByDoctorIdAndDate
+CREATE INDEX idx_attendance_doctor_date ON attendance_records (doctor_id, date);
+
+-- LeaveRequestRepository.findByStatus, findSpansOverlapping (status + leave_from range)
+CREATE INDEX idx_leave_requests_status_from ON leave_requests (status, leave_from);
+
+-- LeaveRequestRepository.findByDoctorIdAndStatus
+CREATE INDEX idx_leave_requests_doctor_status ON leave_requests (doctor_id, status);
+
+-- InsuranceClaimRepository.findByStatus, findViewsByStatus (InnoDB appends the id for ORDER BY c.id)
+CREATE INDEX idx_insurance_claims_status ON insurance_claims (status);
+
+-- DoctorRepository.findByStatus, EquipmentRepository.findByStatus
+CREATE INDEX idx_doctors_status ON doctors (status);
+CREATE INDEX idx_equipment_status ON equipment (status);
@@ -0,0 +1,42 @@
+-- One attendance row per doctor and day, so check-in can be a single INSERT that the key rejects on repeat.
+
+-- Double check-ins from before the key: the first row of each doctor/day survives, but the clock-out
+-- (and often the status) landed on a later duplicate, so fold those into the survivor before deleting.
+-- Correlated updates over a grouped derived table rather than UPDATE ... JOIN: MySQL materializes the
+-- grouped table (no error 1093), and the same statement runs on H2 for the test profile.
+UPDATE attendance_records
+SET check_out = (
+        SELECT d.last_check_out FROM (
+            SELECT MIN(id) AS keep_id, MAX(check_out) AS last_check_out
+            FROM attendance_records GROUP BY doctor_id, date HAVING COUNT(*) > 1
+        ) d WHERE d.keep_id = attendance_records.id),
+    check_out_key = (
+        SELECT d.check_out_key FROM (
+            SELECT MIN(id) AS keep_id, MAX(check_out_key) AS check_out_key
+            FROM attendance_records GROUP BY doctor_id, date HAVING COUNT(*) > 1
+        ) d WHERE d.keep_id = attendance_records.id),
+    status = COALESCE(status, (
+        SELECT d.status FROM (
+            SELECT MIN(id) AS keep_id, MAX(status) AS status
+            FROM attendance_records GROUP BY doctor_id, date HAVING COUNT(*) > 1
+        ) d WHERE d.keep_id = attendance_records.id))
+WHERE id IN (
+    SELECT keep_id FROM (
+        SELECT MIN(id) AS keep_id FROM attendance_records GROUP BY doctor_id, date HAVING COUNT(*) > 1
+    ) survivors
+);
+
+DELETE FROM attendance_records WHERE id IN (
+    SELECT id FROM (
+        SELECT a.id FROM attendance_records a
+        JOIN attendance_records b ON a.doctor_id = b.doctor_id AND a.date = b.date AND a.id > b.id
+    ) duplicates
+);
+
+ALTER TABLE attendance_records ADD CONSTRAINT uk_attendance_doctor_date UNIQUE (doctor_id, date);
+
+-- The unique key serves AttendanceRepository.findByDoctorIdAndDate from now on
+ALTER TABLE attendance_records DROP INDEX idx_attendance_doctor_date;
+
+-- The removed duplicates were counted in the rollups; an empty table is rebuilt from the records at startup
+DELETE FROM attendance_rollups;
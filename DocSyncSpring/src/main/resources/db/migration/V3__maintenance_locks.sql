@@ -0,0 +1,3 @@
+-- Lock row for AttendanceRollupService: deltas take it shared, rebuild() takes it exclusive,
+-- so no attendance/overtime write can commit between the rebuild's snapshot and its delete.
+INSERT INTO maintenance_locks (name) VALUES ('attendance_rollups');
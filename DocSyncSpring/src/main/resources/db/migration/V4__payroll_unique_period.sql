@@ -0,0 +1,13 @@
+-- One payroll row per doctor and month, so PayrollRunService's ON DUPLICATE KEY UPDATE insert can re-run a
+-- month safely and PayrollRepository.findByDoctorIdAndMonthAndYear can never see two rows.
+
+-- Duplicates from concurrent createPayroll calls before the key: keep the first row of each doctor/period,
+-- the same row a re-run of the month keeps (ON DUPLICATE KEY UPDATE id = id).
+DELETE FROM payroll WHERE id IN (
+    SELECT id FROM (
+        SELECT a.id FROM payroll a
+        JOIN payroll b ON a.doctor_id = b.doctor_id AND a.month = b.month AND a.year = b.year AND a.id > b.id
+    ) duplicates
+);
+
+ALTER TABLE payroll ADD CONSTRAINT uk_payroll_doctor_period UNIQUE (doctor_id, month, year);
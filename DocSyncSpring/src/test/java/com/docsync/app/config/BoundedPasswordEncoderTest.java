@@ -0,0 +1,108 @@
+package com.docsync.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    // Hashing that holds its pool thread until the test releases it
+    private final PasswordEncoder slow = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void runsOnThePoolAndReturnsTheDelegateResult() {
+        release.countDown();
+        try (BoundedPasswordEncoder encoder = encoder(Duration.ofSeconds(5))) {
+            assertEquals("hash:secret", encoder.encode("secret"));
+            assertTrue(encoder.matches("secret", "hash:secret"));
+        }
+    }
+
+    @Test
+    void jobNotDoneWithinMaxWaitIsRejected() throws Exception {
+        try (BoundedPasswordEncoder encoder = encoder(Duration.ofMillis(100))) {
+            long begin = System.nanoTime();
+            assertThrows(RejectedExecutionException.class, () -> encoder.encode("secret"));
+
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            assertTrue(Duration.ofNanos(System.nanoTime() - begin).compareTo(Duration.ofSeconds(2)) < 0);
+            assertEquals(1.0, registry.get("docsync.auth.hashing.rejected").counter().count());
+        }
+    }
+
+    @Test
+    void fullQueueIsRejectedWithoutWaiting() throws Exception {
+        try (BoundedPasswordEncoder encoder = encoder(Duration.ofSeconds(30))) {
+            // One job occupies the single pool thread, the next one fills the one-slot queue
+            Future<String> running = callers.submit(() -> encoder.encode("first"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> queued = callers.submit(() -> encoder.encode("second"));
+            awaitQueued(1);
+
+            long begin = System.nanoTime();
+            assertThrows(RejectedExecutionException.class, () -> encoder.encode("third"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - begin).compareTo(Duration.ofSeconds(5)) < 0);
+            assertEquals(1.0, registry.get("docsync.auth.hashing.rejected").counter().count());
+
+            // Saturation is transient: the admitted jobs still complete once hashing frees up
+            release.countDown();
+            assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash:second", queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private BoundedPasswordEncoder encoder(Duration maxWait) {
+        return new BoundedPasswordEncoder(slow, 1, 1, maxWait, registry);
+    }
+
+    private void awaitQueued(int jobs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("docsync.auth.hashing.queued").gauge().value() < jobs) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("job was never queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
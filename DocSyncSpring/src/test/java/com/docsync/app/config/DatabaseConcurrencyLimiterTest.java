@@ -0,0 +1,99 @@
+package com.docsync.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class DatabaseConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // A single permit, so a request holding it turns the next one away
+    private final DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(
+            mock(DataSource.class), registry, 1, 4, Duration.ofMillis(50));
+
+    @Test
+    void synchronousRequestReleasesItsPermitOnReturn() throws Exception {
+        assertEquals(HttpServletResponse.SC_OK, run(request(), (req, res) -> { }).getStatus());
+        assertEquals(0.0, inFlight());
+        assertEquals(HttpServletResponse.SC_OK, run(request(), (req, res) -> { }).getStatus());
+    }
+
+    @Test
+    void asyncRequestHoldsItsPermitUntilItCompletes() throws Exception {
+        MockHttpServletRequest streaming = request();
+        AsyncContext[] async = new AsyncContext[1];
+
+        // Like a StreamingResponseBody: the handler returns, the body is written later on another thread
+        run(streaming, (req, res) -> async[0] = req.startAsync());
+        assertEquals(1.0, inFlight());
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, run(request(), (req, res) -> { }).getStatus());
+
+        async[0].complete();
+        assertEquals(0.0, inFlight());
+        assertEquals(HttpServletResponse.SC_OK, run(request(), (req, res) -> { }).getStatus());
+    }
+
+    @Test
+    void pushStreamReturnsItsPermitOnceTheHandshakeReturns() throws Exception {
+        SseController push = new SseController();
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(push).addFilters(limiter).build();
+
+        MvcResult open = mvc.perform(get("/api/push/stream")).andReturn();
+        assertTrue(open.getRequest().isAsyncStarted());
+
+        // The connection is still open, yet other requests get through
+        assertEquals(0.0, inFlight());
+        assertEquals(HttpServletResponse.SC_OK, run(request(), (req, res) -> { }).getStatus());
+
+        push.emitter.complete();
+        open.getAsyncResult();
+        assertEquals(0.0, inFlight());
+    }
+
+    @RestController
+    static class SseController {
+
+        private final SseEmitter emitter = new SseEmitter(0L);
+
+        @GetMapping("/api/push/stream")
+        SseEmitter stream() {
+            return emitter;
+        }
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        limiter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/appointments/stream");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private double inFlight() {
+        return registry.get("docsync.db.limiter.in_flight").gauge().value();
+    }
+}
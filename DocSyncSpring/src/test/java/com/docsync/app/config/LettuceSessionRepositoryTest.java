@@ -0,0 +1,58 @@
+package com.docsync.app.config;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+
+import redis.embedded.RedisServer;
+
+// Runs the session store contract against an embedded Redis server
+class LettuceSessionRepositoryTest extends SessionRepositoryContractTest {
+
+    private static RedisServer server;
+    private static int port;
+
+    private LettuceSessionRepository repository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = new LettuceSessionRepository("redis://localhost:" + port, "test:session:",
+                TOUCH_INTERVAL, Duration.ofMinutes(30), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Override
+    protected LazyTouchSessionRepository repository() {
+        return repository;
+    }
+
+    @Override
+    protected String store() {
+        return "redis";
+    }
+}
@@ -0,0 +1,31 @@
+package com.docsync.app.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+class OffHeapSessionRepositoryTest extends SessionRepositoryContractTest {
+
+    private OffHeapSessionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OffHeapSessionRepository(16 * 1024 * 1024, TOUCH_INTERVAL, Duration.ofMinutes(30), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Override
+    protected LazyTouchSessionRepository repository() {
+        return repository;
+    }
+
+    @Override
+    protected String store() {
+        return "offheap";
+    }
+}
@@ -0,0 +1,74 @@
+package com.docsync.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Behaviour shared by the off-heap and Redis session stores; subclasses supply the repository
+abstract class SessionRepositoryContractTest {
+
+    protected static final Duration TOUCH_INTERVAL = Duration.ofSeconds(60);
+
+    protected final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    protected abstract LazyTouchSessionRepository repository();
+
+    @Test
+    void savedSessionRoundTripsWithAttributes() {
+        LazyTouchSessionRepository.TrackedSession session = repository().createSession();
+        session.setAttribute("role", "DOCTOR");
+        repository().save(session);
+
+        LazyTouchSessionRepository.TrackedSession found = repository().findById(session.getId());
+        assertNotNull(found);
+        assertEquals("DOCTOR", found.getAttribute("role"));
+    }
+
+    @Test
+    void lastAccessOnlyIsWrittenOncePerTouchInterval() {
+        LazyTouchSessionRepository.TrackedSession session = repository().createSession();
+        repository().save(session);
+        Instant firstAccess = session.getLastAccessedTime();
+
+        LazyTouchSessionRepository.TrackedSession next = repository().findById(session.getId());
+        next.setLastAccessedTime(firstAccess.plusSeconds(5));
+        repository().save(next);
+        assertEquals(firstAccess, repository().findById(session.getId()).getLastAccessedTime());
+
+        next.setLastAccessedTime(firstAccess.plus(TOUCH_INTERVAL));
+        repository().save(next);
+        assertEquals(firstAccess.plus(TOUCH_INTERVAL), repository().findById(session.getId()).getLastAccessedTime());
+        assertEquals(1.0, registry.counter("docsync.session.saves", "store", store(), "kind", "skipped").count());
+    }
+
+    @Test
+    void changedIdRemovesTheOldKey() {
+        LazyTouchSessionRepository.TrackedSession session = repository().createSession();
+        repository().save(session);
+        String oldId = session.getId();
+
+        session.changeSessionId();
+        repository().save(session);
+
+        assertNull(repository().findById(oldId));
+        assertNotNull(repository().findById(session.getId()));
+    }
+
+    @Test
+    void expiredSessionIsNotReturned() {
+        LazyTouchSessionRepository.TrackedSession session = repository().createSession();
+        session.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(31)));
+        repository().save(session);
+
+        assertNull(repository().findById(session.getId()));
+    }
+
+    protected abstract String store();
+}
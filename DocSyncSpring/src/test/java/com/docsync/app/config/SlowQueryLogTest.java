@@ -0,0 +1,52 @@
+package com.docsync.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SlowQueryLogTest {
+
+    private final SlowQueryLog log = new SlowQueryLog(new SimpleMeterRegistry(), Duration.ofMillis(100), 0, 2, 3);
+
+    @Test
+    void fingerprintCollapsesLiteralsAndInLists() {
+        assertEquals("select d1_0.id from doctor d1_0 where d1_0.name=? and d1_0.id in (?) limit ?",
+                SlowQueryLog.fingerprint("select d1_0.id from doctor d1_0\n  where d1_0.name='O''Neil' and d1_0.id in (1, 2, 3) limit 20"));
+        assertEquals("select * from patient where id in (?)",
+                SlowQueryLog.fingerprint("select * from patient where id in (?,?,?)"));
+    }
+
+    @Test
+    void keepsOnlyTheSlowestFingerprints() {
+        log.record("select * from a where id=1", 0, ms(150), 1);
+        log.record("select * from b", 0, ms(300), 10);
+        log.record("select * from c", 0, ms(200), 5);
+        log.record("select * from a where id=2", 0, ms(120), 1);
+        log.record("select * from d", 0, ms(50), 1);
+
+        List<SlowQueryLog.Fingerprint> top = log.top();
+        assertEquals(List.of("select * from b", "select * from c"), top.stream().map(SlowQueryLog.Fingerprint::fingerprint).toList());
+        assertEquals(3, log.recent().size());
+        assertEquals("select * from a where id=2", log.recent().get(0).sql());
+    }
+
+    @Test
+    void repeatedFingerprintAccumulates() {
+        log.record("select * from a where id=1", 2, ms(150), 1);
+        log.record("select * from a where id=2", 2, ms(250), 0);
+
+        SlowQueryLog.Fingerprint entry = log.top().get(0);
+        assertEquals(2, entry.count());
+        assertEquals(250.0, entry.maxMillis());
+        assertEquals("select * from a where id=2", entry.slowest().sql());
+    }
+
+    private static long ms(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+}
@@ -0,0 +1,83 @@
+package com.docsync.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.docsync.app.dao.RevokedTokenRepository;
+import com.docsync.app.dto.TokenClaims;
+import com.docsync.app.service.AuthTokenService;
+import com.docsync.app.service.TokenRevocationService;
+
+import jakarta.servlet.http.Cookie;
+
+class TokenAuthenticationFilterTest {
+
+    private final AuthTokenService tokens = new AuthTokenService(
+            new TokenRevocationService(mock(RevokedTokenRepository.class)), "stateless",
+            "k1:" + Base64.getEncoder().encodeToString("s".repeat(32).getBytes(StandardCharsets.US_ASCII)),
+            Duration.ofHours(1));
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokens);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bearerTokenAuthenticatesWithItsRole() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.issue("a@docsync.test", "ADMIN", 1L, null).value());
+
+        Authentication auth = run(request);
+
+        assertNotNull(auth);
+        assertEquals("a@docsync.test", ((TokenClaims) auth.getPrincipal()).username());
+        assertEquals("ROLE_ADMIN", auth.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void cookieTokenAuthenticates() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(TokenAuthenticationFilter.COOKIE_NAME,
+                tokens.issue("d@docsync.test", "DOCTOR", 2L, 5L).value()));
+
+        assertNotNull(run(request));
+    }
+
+    @Test
+    void invalidOrRevokedTokenLeavesRequestAnonymous() throws Exception {
+        MockHttpServletRequest garbage = new MockHttpServletRequest();
+        garbage.addHeader(HttpHeaders.AUTHORIZATION, "Bearer not.a.token");
+        assertNull(run(garbage));
+
+        AuthTokenService.IssuedToken issued = tokens.issue("d@docsync.test", "DOCTOR", 2L, 5L);
+        tokens.revoke(issued.claims());
+        MockHttpServletRequest revoked = new MockHttpServletRequest();
+        revoked.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + issued.value());
+        assertNull(run(revoked));
+    }
+
+    // The filter chain still runs either way; only the security context differs
+    private Authentication run(MockHttpServletRequest request) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
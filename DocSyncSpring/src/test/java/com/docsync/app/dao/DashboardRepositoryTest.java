@@ -0,0 +1,58 @@
+package com.docsync.app.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docsync.app.bean.Doctor;
+
+// The dashboard statement is plain SQL, so run it against the test database to keep it portable
+@SpringBootTest
+@ActiveProfiles("test")
+class DashboardRepositoryTest {
+
+    @Autowired
+    private DashboardRepository dashboardRepository;
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Test
+    void loadsEveryMetricInOneStatement() {
+        // Hire dates far from any other test's data, so the month buckets are this test's alone
+        doctorRepository.save(doctor(LocalDate.of(1987, 3, 5)));
+        doctorRepository.save(doctor(LocalDate.of(1987, 3, 28)));
+        doctorRepository.save(doctor(LocalDate.of(1987, 11, 1)));
+
+        List<DashboardRepository.MetricRow> rows = dashboardRepository.loadMetrics();
+
+        Map<String, Long> hires = rows.stream()
+                .filter(r -> DashboardRepository.HIRES_PER_MONTH.equals(r.metric()))
+                .collect(Collectors.toMap(DashboardRepository.MetricRow::key, DashboardRepository.MetricRow::value));
+        assertEquals(2L, hires.get("1987-03"));
+        assertEquals(1L, hires.get("1987-11"));
+
+        assertTrue(rows.stream().anyMatch(r -> DashboardRepository.DEPARTMENTS.equals(r.metric())));
+        assertTrue(rows.stream().anyMatch(r -> DashboardRepository.DOCTORS_BY_STATUS.equals(r.metric())
+                && "ACTIVE".equals(r.key()) && r.value() >= 3));
+    }
+
+    private static Doctor doctor(LocalDate hireDate) {
+        Doctor d = new Doctor();
+        d.setFirstName("Dash");
+        d.setLastName("Board");
+        d.setEmail("dash-" + UUID.randomUUID() + "@docsync.test");
+        d.setStatus("ACTIVE");
+        d.setHireDate(hireDate);
+        return d;
+    }
+}
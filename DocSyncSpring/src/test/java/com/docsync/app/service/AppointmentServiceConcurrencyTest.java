@@ -0,0 +1,114 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docsync.app.bean.Appointment;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.dao.DoctorRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AppointmentServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS = 256;
+
+    @Autowired
+    private AppointmentService appointmentService;
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository.deleteAll();
+        Doctor d = new Doctor();
+        d.setFirstName("Slot");
+        d.setLastName("Test");
+        d.setEmail("slot-" + UUID.randomUUID() + "@docsync.test");
+        d.setStatus("ACTIVE");
+        doctor = doctorRepository.save(d);
+    }
+
+    @Test
+    void concurrentBookingsOfOverlappingSlotsNeverDoubleBook() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            // Start times spread over 10:00-10:25 so every request overlaps every other one
+            LocalDateTime time = base.plusMinutes(i % 26);
+            Callable<Boolean> attempt = () -> {
+                start.await();
+                try {
+                    appointmentService.createAppointment(newAppointment(time, 30));
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            };
+            results.add(pool.submit(attempt));
+        }
+
+        start.countDown();
+        int booked = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(60, TimeUnit.SECONDS)) {
+                booked++;
+            }
+        }
+        pool.shutdown();
+
+        assertEquals(1, booked);
+        assertEquals(1, appointmentRepository.findByDoctorId(doctor.getId()).size());
+    }
+
+    @Test
+    void appointmentStartingBeforeWindowStillConflicts() {
+        LocalDateTime nineFifty = LocalDateTime.now().plusDays(2).withHour(9).withMinute(50).withSecond(0).withNano(0);
+        appointmentService.createAppointment(newAppointment(nineFifty, 30));
+
+        // 10:00 starts inside the 09:50-10:20 booking even though 09:50 is outside [10:00, 10:30]
+        assertThrows(IllegalStateException.class,
+                () -> appointmentService.createAppointment(newAppointment(nineFifty.plusMinutes(10), 30)));
+
+        // Back-to-back is fine
+        appointmentService.createAppointment(newAppointment(nineFifty.plusMinutes(30), 15));
+        assertEquals(2, appointmentRepository.findByDoctorId(doctor.getId()).size());
+    }
+
+    private Appointment newAppointment(LocalDateTime time, int minutes) {
+        Doctor ref = new Doctor();
+        ref.setId(doctor.getId());
+        Appointment appointment = new Appointment();
+        appointment.setDoctor(ref);
+        appointment.setAppointmentTime(time);
+        appointment.setDurationMinutes(minutes);
+        appointment.setStatus("SCHEDULED");
+        return appointment;
+    }
+}
@@ -0,0 +1,158 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.bean.AttendanceRollup;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.MaintenanceLock;
+import com.docsync.app.bean.OvertimeRecord;
+import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.dao.AttendanceRollupRepository;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.MaintenanceLockRepository;
+import com.docsync.app.dao.OvertimeRecordRepository;
+import com.docsync.app.service.AttendanceRollupService.Contribution;
+
+class AttendanceRollupServiceTest {
+
+    // A Wednesday: week starts Monday the 3rd, month on the 1st
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 5);
+    private static final LocalDate WEEK = LocalDate.of(2025, 3, 3);
+    private static final LocalDate MONTH = LocalDate.of(2025, 3, 1);
+
+    private final AttendanceRollupRepository rollups = mock(AttendanceRollupRepository.class);
+    private final MaintenanceLockRepository locks = mock(MaintenanceLockRepository.class);
+    private final AttendanceRollupService service = new AttendanceRollupService(rollups,
+            mock(AttendanceRepository.class), mock(OvertimeRecordRepository.class),
+            mock(BulkInsertRepository.class), locks);
+
+    @BeforeEach
+    void setUp() {
+        when(locks.lockShared(MaintenanceLock.ATTENDANCE_ROLLUPS))
+                .thenReturn(Optional.of(new MaintenanceLock(MaintenanceLock.ATTENDANCE_ROLLUPS)));
+    }
+
+    @Test
+    void presentDayCountsWorkedMinutesAndLateness() {
+        assertEquals(new Contribution(7L, DAY, 480, 0, 1, 0, 0), service.of(record("PRESENT", "09:00", "17:00")));
+        assertEquals(new Contribution(7L, DAY, 450, 0, 1, 1, 0), service.of(record("PRESENT", "09:30", "17:00")));
+        // 09:15 itself is still on time
+        assertEquals(0, service.of(record("PRESENT", "09:15", null)).lateArrivals());
+    }
+
+    @Test
+    void checkOutAfterMidnightWrapsAround() {
+        assertEquals(600, service.of(record("PRESENT", "20:00", "06:00")).workedMinutes());
+    }
+
+    @Test
+    void openCheckInIsPresentWithoutMinutes() {
+        assertEquals(new Contribution(7L, DAY, 0, 0, 1, 0, 0), service.of(record("PRESENT", "08:00", null)));
+    }
+
+    @Test
+    void absentDayCountsOnlyTheAbsence() {
+        assertEquals(new Contribution(7L, DAY, 0, 0, 0, 0, 1), service.of(record("absent", "10:00", "12:00")));
+    }
+
+    @Test
+    void incompleteRecordsContributeNothing() {
+        AttendanceRecord noDoctor = record("PRESENT", "09:00", "17:00");
+        noDoctor.setDoctor(null);
+        OvertimeRecord noHours = new OvertimeRecord();
+        noHours.setDoctor(doctor());
+        noHours.setDate(DAY);
+
+        assertEquals(Contribution.NONE, service.of(noDoctor));
+        assertEquals(Contribution.NONE, service.of(noHours));
+    }
+
+    @Test
+    void updateOnSameDayAppliesOneNetDeltaToEachPeriod() {
+        Contribution checkedIn = service.of(record("PRESENT", "09:30", null));
+        Contribution checkedOut = service.of(record("PRESENT", "09:30", "17:30"));
+
+        service.apply(checkedIn, checkedOut);
+
+        for (String[] period : periods()) {
+            verify(rollups).addDelta(7L, period[0], LocalDate.parse(period[1]), 480, 0, 0, 0, 0);
+        }
+    }
+
+    @Test
+    void movingARecordRetractsTheOldDayAndAddsTheNew() {
+        Contribution before = service.of(record("PRESENT", "09:00", "17:00"));
+        Contribution after = new Contribution(8L, DAY.plusDays(7), 480, 0, 1, 0, 0);
+
+        service.apply(before, after);
+
+        verify(rollups).addDelta(7L, AttendanceRollup.DAY, DAY, -480, 0, -1, 0, 0);
+        verify(rollups).addDelta(7L, AttendanceRollup.MONTH, MONTH, -480, 0, -1, 0, 0);
+        verify(rollups).addDelta(8L, AttendanceRollup.DAY, DAY.plusDays(7), 480, 0, 1, 0, 0);
+        verify(rollups).addDelta(8L, AttendanceRollup.WEEK, WEEK.plusDays(7), 480, 0, 1, 0, 0);
+    }
+
+    @Test
+    void deleteRetractsAndNoChangeWritesNothing() {
+        OvertimeRecord overtime = new OvertimeRecord();
+        overtime.setDoctor(doctor());
+        overtime.setDate(DAY);
+        overtime.setHours(3);
+
+        service.apply(service.of(overtime), service.of(overtime));
+        verify(rollups, never()).addDelta(anyLong(), anyString(), eq(DAY), anyLong(), anyLong(), anyInt(), anyInt(), anyInt());
+
+        service.apply(service.of(overtime), Contribution.NONE);
+        verify(rollups).addDelta(7L, AttendanceRollup.WEEK, WEEK, 0, -3, 0, 0, 0);
+    }
+
+    @Test
+    void missingLockRowFailsInsteadOfWritingUnguarded() {
+        when(locks.lockShared(MaintenanceLock.ATTENDANCE_ROLLUPS)).thenReturn(Optional.empty());
+        Contribution checkedIn = service.of(record("PRESENT", "09:30", null));
+
+        assertThrows(IllegalStateException.class, () -> service.apply(Contribution.NONE, checkedIn));
+        verify(rollups, never()).addDelta(anyLong(), anyString(), eq(DAY), anyLong(), anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    private static String[][] periods() {
+        return new String[][] {
+            {AttendanceRollup.DAY, DAY.toString()},
+            {AttendanceRollup.WEEK, WEEK.toString()},
+            {AttendanceRollup.MONTH, MONTH.toString()},
+        };
+    }
+
+    private static AttendanceRecord record(String status, String checkIn, String checkOut) {
+        AttendanceRecord record = new AttendanceRecord();
+        record.setDoctor(doctor());
+        record.setDate(DAY);
+        record.setStatus(status);
+        record.setCheckIn(checkIn != null ? LocalTime.parse(checkIn) : null);
+        record.setCheckOut(checkOut != null ? LocalTime.parse(checkOut) : null);
+        return record;
+    }
+
+    private static Doctor doctor() {
+        Doctor doctor = new Doctor();
+        doctor.setId(7L);
+        return doctor;
+    }
+}
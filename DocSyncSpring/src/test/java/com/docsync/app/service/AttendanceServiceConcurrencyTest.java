@@ -0,0 +1,123 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.docsync.app.bean.AttendanceRecord;
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.dao.AttendanceRepository;
+import com.docsync.app.dao.DoctorRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private AttendanceService attendanceService;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        Doctor d = new Doctor();
+        d.setFirstName("Clock");
+        d.setLastName("Test");
+        d.setEmail("clock-" + UUID.randomUUID() + "@docsync.test");
+        d.setStatus("ACTIVE");
+        doctor = doctorRepository.save(d);
+    }
+
+    @Test
+    void concurrentCheckInsCreateOneRow() throws Exception {
+        List<Long> created = race(i -> "tap-" + i);
+
+        assertEquals(1, created.size());
+        assertEquals(1, attendanceRepository.findByDoctorId(doctor.getId()).size());
+    }
+
+    @Test
+    void retriesWithTheSameKeyGetTheOriginalRecord() throws Exception {
+        List<Long> created = race(i -> "same-key");
+
+        // Every tap is answered with the one row
+        assertEquals(THREADS, created.size());
+        assertEquals(Set.of(created.get(0)), created.stream().collect(Collectors.toSet()));
+        assertEquals(1, attendanceRepository.findByDoctorId(doctor.getId()).size());
+
+        assertThrows(IllegalStateException.class, () -> attendanceService.checkIn(checkIn(), "other-key"));
+    }
+
+    @Test
+    void checkOutReplayKeepsTheFirstTime() {
+        attendanceService.checkIn(checkIn(), null);
+        AttendanceRecord first = attendanceService.checkOut(doctor.getId(), "out-1");
+        AttendanceRecord replay = attendanceService.checkOut(doctor.getId(), "out-1");
+
+        assertEquals(first.getCheckOut(), replay.getCheckOut());
+    }
+
+    private interface KeyForAttempt {
+        String key(int attempt);
+    }
+
+    // Ids returned by the check-ins that succeeded
+    private List<Long> race(KeyForAttempt keys) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String key = keys.key(i);
+            Callable<Long> attempt = () -> {
+                start.await();
+                try {
+                    return attendanceService.checkIn(checkIn(), key).getId();
+                } catch (IllegalStateException e) {
+                    return null;
+                }
+            };
+            results.add(pool.submit(attempt));
+        }
+        start.countDown();
+        List<Long> ids = new ArrayList<>();
+        for (Future<Long> result : results) {
+            Long id = result.get(60, TimeUnit.SECONDS);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        pool.shutdown();
+        return ids;
+    }
+
+    private AttendanceRecord checkIn() {
+        Doctor ref = new Doctor();
+        ref.setId(doctor.getId());
+        AttendanceRecord record = new AttendanceRecord();
+        record.setDoctor(ref);
+        return record;
+    }
+}
@@ -0,0 +1,93 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.docsync.app.bean.User;
+import com.docsync.app.config.BoundedPasswordEncoder;
+import com.docsync.app.config.PasswordEncodingConfig;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Login through the same provider wiring Spring Security builds: a hash in an outdated format is rewritten
+class AuthServiceTest {
+
+    private final UserRepository users = mock(UserRepository.class);
+    private final PasswordEncoder encoder = new PasswordEncodingConfig().passwordEncoder(
+            "bcrypt", 10, 19456, 2, 1, 8, Duration.ofSeconds(10), new SimpleMeterRegistry());
+    private final AuthService authService = new AuthService(users, mock(DoctorRepository.class), encoder,
+            mock(OrgChartGraphEngine.class), mock(AvailabilityService.class));
+    private DaoAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(authService, "userCacheTtl", Duration.ofMinutes(1));
+        authService.initUserCache();
+        provider = new DaoAuthenticationProvider(authService);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService(authService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((BoundedPasswordEncoder) encoder).close();
+    }
+
+    @Test
+    void legacyHashIsRewrittenOnSuccessfulLogin() {
+        // Un-prefixed, lower-cost BCrypt as stored before PasswordEncodingConfig existed
+        User user = user(new BCryptPasswordEncoder(4).encode("secret"));
+        when(users.findByUsername("asha@docsync.test")).thenReturn(Optional.of(user));
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("asha@docsync.test", "secret"));
+
+        verify(users).save(user);
+        assertTrue(user.getPassword().startsWith("{bcrypt}$2a$10$"), user.getPassword());
+        assertTrue(encoder.matches("secret", user.getPassword()));
+
+        // The cached credentials were evicted, so the next login re-reads the new hash and leaves it alone
+        provider.authenticate(new UsernamePasswordAuthenticationToken("asha@docsync.test", "secret"));
+        verify(users, times(1)).save(any());
+        verify(users, times(3)).findByUsername("asha@docsync.test");
+    }
+
+    @Test
+    void currentHashIsLeftAlone() {
+        String current = encoder.encode("secret");
+        User user = user(current);
+        when(users.findByUsername("asha@docsync.test")).thenReturn(Optional.of(user));
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("asha@docsync.test", "secret"));
+
+        verify(users, never()).save(any());
+        assertEquals(current, user.getPassword());
+    }
+
+    private static User user(String passwordHash) {
+        User user = new User();
+        user.setUsername("asha@docsync.test");
+        user.setPassword(passwordHash);
+        user.setRole("DOCTOR");
+        return user;
+    }
+}
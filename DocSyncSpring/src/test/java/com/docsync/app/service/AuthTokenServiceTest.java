@@ -0,0 +1,123 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.docsync.app.dao.RevokedTokenRepository;
+import com.docsync.app.dto.TokenClaims;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+class AuthTokenServiceTest {
+
+    private static final String K1 = "k1:" + secret('a');
+    private static final String K2 = "k2:" + secret('b');
+
+    private final TokenRevocationService revocations = new TokenRevocationService(mock(RevokedTokenRepository.class));
+
+    @Test
+    void verifiesItsOwnToken() {
+        AuthTokenService tokens = service(K1, Duration.ofHours(1));
+        TokenClaims claims = tokens.verify(tokens.issue("dr@docsync.test", "DOCTOR", 4L, 9L).value());
+
+        assertEquals("dr@docsync.test", claims.username());
+        assertEquals("DOCTOR", claims.role());
+        assertEquals(4L, claims.userId());
+        assertEquals(9L, claims.doctorId());
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        // Signed with k1 like one of ours, but expired past the validator's 60s clock skew
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(2));
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("docsync")
+                .subject("dr@docsync.test")
+                .id("expired")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(Duration.ofHours(1)))
+                .claim("role", "DOCTOR")
+                .claim("uid", 4L)
+                .build();
+        OctetSequenceKey k1 = new OctetSequenceKey.Builder(Base64.getDecoder().decode(K1.substring(3)))
+                .keyID("k1").build();
+        String token = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(k1)))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).keyId("k1").build(), claims))
+                .getTokenValue();
+
+        BadCredentialsException e = assertThrows(BadCredentialsException.class,
+                () -> service(K1, Duration.ofHours(1)).verify(token));
+        assertTrue(e.getCause().getMessage().toLowerCase(Locale.ROOT).contains("expired"), e.getCause().getMessage());
+    }
+
+    @Test
+    void oldKeyVerifiesDuringRotationAndIsRejectedOnceRetired() {
+        String signedWithK1 = service(K1, Duration.ofHours(1)).issue("a@docsync.test", "ADMIN", 1L, null).value();
+
+        assertEquals("a@docsync.test", service(K2 + "," + K1, Duration.ofHours(1)).verify(signedWithK1).username());
+        assertThrows(BadCredentialsException.class, () -> service(K2, Duration.ofHours(1)).verify(signedWithK1));
+    }
+
+    @Test
+    void rejectsTamperedSignatureAndPayload() {
+        AuthTokenService tokens = service(K1, Duration.ofHours(1));
+        String token = tokens.issue("dr@docsync.test", "DOCTOR", 4L, null).value();
+        String[] parts = token.split("\\.");
+
+        String badSignature = parts[0] + "." + parts[1] + "." + flipFirst(parts[2]);
+        String adminPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                        .replace("\"DOCTOR\"", "\"ADMIN\"").getBytes(StandardCharsets.UTF_8));
+        String escalated = parts[0] + "." + adminPayload + "." + parts[2];
+
+        assertThrows(BadCredentialsException.class, () -> tokens.verify(badSignature));
+        assertThrows(BadCredentialsException.class, () -> tokens.verify(escalated));
+    }
+
+    @Test
+    void rejectsRevokedTokenId() {
+        AuthTokenService tokens = service(K1, Duration.ofHours(1));
+        AuthTokenService.IssuedToken issued = tokens.issue("dr@docsync.test", "DOCTOR", 4L, null);
+        tokens.revoke(issued.claims());
+
+        assertThrows(BadCredentialsException.class, () -> tokens.verify(issued.value()));
+    }
+
+    @Test
+    void rejectsUnknownKid() {
+        // Same secret as k1 under a kid the verifier has never been configured with
+        String token = service("k9:" + secret('a'), Duration.ofHours(1)).issue("x@docsync.test", "ADMIN", 1L, null).value();
+
+        assertThrows(BadCredentialsException.class, () -> service(K1, Duration.ofHours(1)).verify(token));
+    }
+
+    private AuthTokenService service(String keys, Duration ttl) {
+        return new AuthTokenService(revocations, "stateless", keys, ttl);
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String flipFirst(String part) {
+        char c = part.charAt(0);
+        return (c == 'A' ? 'B' : 'A') + part.substring(1);
+    }
+}
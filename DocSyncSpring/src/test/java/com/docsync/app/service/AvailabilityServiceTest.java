@@ -0,0 +1,212 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.DutyRoster;
+import com.docsync.app.bean.LeaveRequest;
+import com.docsync.app.bean.Schedule;
+import com.docsync.app.dao.AppointmentRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.DutyRosterRepository;
+import com.docsync.app.dao.LeaveRequestRepository;
+import com.docsync.app.dao.ScheduleRepository;
+import com.docsync.app.dto.AvailableSlot;
+import com.docsync.app.dto.BookedInterval;
+
+class AvailabilityServiceTest {
+
+    private static final long DOCTOR_ID = 7L;
+    // Inside the index horizon whatever day the test runs
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    private final DoctorRepository doctors = mock(DoctorRepository.class);
+    private final ScheduleRepository schedules = mock(ScheduleRepository.class);
+    private final DutyRosterRepository rosters = mock(DutyRosterRepository.class);
+    private final LeaveRequestRepository leaves = mock(LeaveRequestRepository.class);
+    private final AppointmentRepository appointments = mock(AppointmentRepository.class);
+    private final AvailabilityService service =
+            new AvailabilityService(doctors, schedules, rosters, leaves, appointments);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "defaultDurationMinutes", 30);
+        ReflectionTestUtils.setField(service, "slotStepMinutes", 15);
+        ReflectionTestUtils.setField(service, "horizonDays", 90);
+        ReflectionTestUtils.setField(service, "openDutyTypes", new String[] {"OPD"});
+        ReflectionTestUtils.setField(service, "morningShift", "08:00-14:00");
+        ReflectionTestUtils.setField(service, "eveningShift", "14:00-20:00");
+        ReflectionTestUtils.setField(service, "nightShift", "20:00-08:00");
+        when(doctors.findById(DOCTOR_ID)).thenReturn(Optional.of(doctor(DOCTOR_ID, "Asha")));
+    }
+
+    // ---------------------------------------------------------------- interval arithmetic
+
+    @Test
+    void mergeJoinsOverlappingAndTouchingRangesAndDropsEmptyOnes() {
+        List<int[]> merged = AvailabilityService.merge(ranges(600, 700, 480, 540, 540, 600, 900, 900, 650, 720));
+
+        assertEquals(1, merged.size());
+        assertArrayEquals(new int[] {480, 720}, merged.get(0));
+    }
+
+    @Test
+    void subtractCutsBlockedRangesOutOfOpenOnes() {
+        int[] free = AvailabilityService.subtract(ranges(480, 720, 780, 1020), ranges(540, 600, 700, 800, 1020, 1100));
+
+        assertArrayEquals(new int[] {480, 540, 600, 700, 800, 1020}, free);
+        assertArrayEquals(new int[0], AvailabilityService.subtract(ranges(480, 720), ranges(400, 800)));
+        assertArrayEquals(new int[] {480, 720}, AvailabilityService.subtract(ranges(480, 720), List.of()));
+    }
+
+    @Test
+    void nightShiftSpillsPastMidnightIntoTheNextDay() {
+        int[] night = AvailabilityService.range(LocalTime.of(20, 0), LocalTime.of(8, 0));
+        assertArrayEquals(new int[] {1200, 1920}, night);
+
+        Map<LocalDate, List<int[]>> byDate = Map.of(DAY, List.of(night));
+        List<int[]> sameDay = AvailabilityService.rangesOn(byDate, DAY);
+        List<int[]> nextDay = AvailabilityService.rangesOn(byDate, DAY.plusDays(1));
+
+        assertEquals(1, sameDay.size());
+        assertArrayEquals(new int[] {1200, 1440}, sameDay.get(0));
+        assertEquals(1, nextDay.size());
+        assertArrayEquals(new int[] {0, 480}, nextDay.get(0));
+    }
+
+    // ---------------------------------------------------------------- windows
+
+    @Test
+    void nightOpdShiftOffersSlotsUntilItEndsNextMorning() {
+        when(rosters.findByDoctorIdAndDutyDateBetween(eq(DOCTOR_ID), any(), any()))
+                .thenReturn(List.of(roster(DAY, "Night", "OPD")));
+
+        List<AvailableSlot> slots = service.nextFreeSlotsForDoctor(DOCTOR_ID,
+                DAY.plusDays(1).atTime(7, 0), DAY.plusDays(1).atTime(12, 0), 10, 30);
+
+        assertEquals(List.of(at(1, 7, 0), at(1, 7, 15), at(1, 7, 30)), starts(slots));
+    }
+
+    @Test
+    void otherDutiesBlockTheirShiftInsideTheWeeklySchedule() {
+        when(schedules.findByDoctorId(DOCTOR_ID)).thenReturn(List.of(schedule(DAY, "09:00", "17:00")));
+        when(rosters.findByDoctorIdAndDutyDateBetween(eq(DOCTOR_ID), any(), any()))
+                .thenReturn(List.of(roster(DAY, "morning", "Ward")));
+
+        List<AvailableSlot> slots = service.nextFreeSlotsForDoctor(DOCTOR_ID,
+                DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), 2, 60);
+
+        assertEquals(List.of(at(0, 14, 0), at(0, 14, 15)), starts(slots));
+    }
+
+    @Test
+    void approvedLeaveClosesTheWholeDay() {
+        when(schedules.findByDoctorId(DOCTOR_ID)).thenReturn(List.of(schedule(DAY, "09:00", "17:00")));
+        LeaveRequest leave = new LeaveRequest();
+        leave.setLeaveFrom(DAY.minusDays(1));
+        leave.setLeaveTo(DAY);
+        when(leaves.findByDoctorIdAndStatus(DOCTOR_ID, "APPROVED")).thenReturn(List.of(leave));
+
+        List<AvailableSlot> slots = service.nextFreeSlotsForDoctor(DOCTOR_ID,
+                DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), 5, 30);
+
+        assertTrue(slots.isEmpty());
+    }
+
+    @Test
+    void bookingsAreSkippedAndLegacyRowsLastTheDefaultDuration() {
+        when(schedules.findByDoctorId(DOCTOR_ID)).thenReturn(List.of(schedule(DAY, "09:00", "12:00")));
+        when(appointments.findBookedIntervals(eq(DOCTOR_ID), any())).thenReturn(List.of(
+                new BookedInterval(1L, DAY.atTime(9, 0), DAY.atTime(10, 0)),
+                new BookedInterval(2L, DAY.atTime(10, 15), null)));
+
+        List<AvailableSlot> slots = service.nextFreeSlotsForDoctor(DOCTOR_ID,
+                DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), 2, 15);
+
+        assertEquals(List.of(at(0, 10, 0), at(0, 10, 45)), starts(slots));
+    }
+
+    // ---------------------------------------------------------------- cache
+
+    @Test
+    void doctorChangeDuringLoadKeepsTheStaleListOutOfTheCache() {
+        Doctor renamed = doctor(8L, "Ravi");
+        when(doctors.findById(8L)).thenReturn(Optional.of(renamed));
+        when(doctors.findBySpecializationIgnoreCase(anyString()))
+                .thenAnswer(invocation -> {
+                    // The doctor moves to another specialization while this read is in flight
+                    service.onDoctorChanged(8L);
+                    return List.of(renamed);
+                })
+                .thenReturn(List.of());
+
+        service.nextFreeSlotsForSpecialization("Cardiology", LocalDateTime.now(), null, 5, 30);
+        service.nextFreeSlotsForSpecialization("Cardiology", LocalDateTime.now(), null, 5, 30);
+        service.nextFreeSlotsForSpecialization("Cardiology", LocalDateTime.now(), null, 5, 30);
+
+        // First load was discarded, second one was cached
+        verify(doctors, times(2)).findBySpecializationIgnoreCase("Cardiology");
+    }
+
+    // ---------------------------------------------------------------- fixtures
+
+    private static List<int[]> ranges(int... bounds) {
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            ranges.add(new int[] {bounds[i], bounds[i + 1]});
+        }
+        return ranges;
+    }
+
+    private static List<LocalDateTime> starts(List<AvailableSlot> slots) {
+        return slots.stream().map(AvailableSlot::start).toList();
+    }
+
+    private static LocalDateTime at(int plusDays, int hour, int minute) {
+        return DAY.plusDays(plusDays).atTime(hour, minute);
+    }
+
+    private static Doctor doctor(Long id, String firstName) {
+        Doctor doctor = new Doctor();
+        doctor.setId(id);
+        doctor.setFirstName(firstName);
+        return doctor;
+    }
+
+    private static Schedule schedule(LocalDate day, String from, String to) {
+        Schedule schedule = new Schedule();
+        schedule.setDayOfWeek(day.getDayOfWeek().name());
+        schedule.setAvailableFrom(LocalTime.parse(from));
+        schedule.setAvailableTo(LocalTime.parse(to));
+        return schedule;
+    }
+
+    private static DutyRoster roster(LocalDate day, String shift, String dutyType) {
+        DutyRoster roster = new DutyRoster();
+        roster.setDutyDate(day);
+        roster.setShift(shift);
+        roster.setDutyType(dutyType);
+        return roster;
+    }
+}
@@ -0,0 +1,161 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.DoctorDocument;
+import com.docsync.app.dao.DoctorDocumentRepository;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.DocumentBlobRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DoctorDocumentServiceConcurrencyTest {
+
+    @Autowired
+    private DoctorDocumentRepository documentRepository;
+    @Autowired
+    private DoctorRepository doctorRepository;
+    @Autowired
+    private DocumentBlobRepository blobRepository;
+    @Autowired
+    private DocumentStore documentStore;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private PausingStore store;
+    private DoctorDocumentService documentService;
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        store = new PausingStore(documentStore);
+        documentService = new DoctorDocumentService(documentRepository, doctorRepository, store, blobRepository,
+                transactionTemplate);
+
+        Doctor d = new Doctor();
+        d.setFirstName("Document");
+        d.setLastName("Test");
+        d.setEmail("document-" + UUID.randomUUID() + "@docsync.test");
+        d.setStatus("ACTIVE");
+        doctor = doctorRepository.save(d);
+    }
+
+    @Test
+    void uploadOfTheSameBytesDuringADeleteKeepsItsContent() throws Exception {
+        byte[] bytes = ("licence " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        DoctorDocument first = documentService.uploadDocument(doctor.getId(), file(bytes));
+        String hash = first.getContentHash();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        DoctorDocument second;
+        try {
+            store.pauseDeletes = true;
+            Future<?> delete = pool.submit(() -> {
+                documentService.deleteDocument(first.getId());
+                return null;
+            });
+            // The delete has removed the last row and is about to drop the stored copy
+            assertTrue(store.deleteEntered.await(10, TimeUnit.SECONDS));
+
+            // put() finds the copy still there and writes nothing
+            Future<DoctorDocument> upload = pool.submit(() -> documentService.uploadDocument(doctor.getId(), file(bytes)));
+            assertTrue(store.putReturned.await(10, TimeUnit.SECONDS));
+
+            store.releaseDelete.countDown();
+            delete.get(10, TimeUnit.SECONDS);
+            second = upload.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(hash, second.getContentHash());
+        assertEquals(1, documentRepository.countByContentHash(hash));
+        assertTrue(documentStore.stat(hash).isPresent());
+    }
+
+    @Test
+    void deletingTheLastRowDropsTheStoredCopy() throws Exception {
+        byte[] bytes = ("licence " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        DoctorDocument first = documentService.uploadDocument(doctor.getId(), file(bytes));
+        DoctorDocument second = documentService.uploadDocument(doctor.getId(), file(bytes));
+        String hash = first.getContentHash();
+
+        documentService.deleteDocument(first.getId());
+        assertTrue(documentStore.stat(hash).isPresent());
+
+        documentService.deleteDocument(second.getId());
+        assertTrue(documentStore.stat(hash).isEmpty());
+    }
+
+    private static MockMultipartFile file(byte[] bytes) {
+        return new MockMultipartFile("file", "licence.pdf", "application/pdf", bytes);
+    }
+
+    // Delegates to the real store; once armed, holds delete() until released
+    private static final class PausingStore implements DocumentStore {
+
+        private final DocumentStore delegate;
+        private final CountDownLatch deleteEntered = new CountDownLatch(1);
+        private final CountDownLatch releaseDelete = new CountDownLatch(1);
+        private final CountDownLatch putReturned = new CountDownLatch(1);
+        private volatile boolean pauseDeletes;
+
+        private PausingStore(DocumentStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public StoredContent put(InputStream content) throws IOException {
+            StoredContent stored = delegate.put(content);
+            if (pauseDeletes) {
+                putReturned.countDown();
+            }
+            return stored;
+        }
+
+        @Override
+        public Optional<ContentInfo> stat(String key) throws IOException {
+            return delegate.stat(key);
+        }
+
+        @Override
+        public void copyRange(String key, long offset, long length, OutputStream out) throws IOException {
+            delegate.copyRange(key, offset, length, out);
+        }
+
+        @Override
+        public void delete(String key) throws IOException {
+            if (pauseDeletes) {
+                deleteEntered.countDown();
+                try {
+                    releaseDelete.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            delegate.delete(key);
+        }
+    }
+}
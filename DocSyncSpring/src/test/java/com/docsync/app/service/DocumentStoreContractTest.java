@@ -0,0 +1,60 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// Behaviour every DocumentStore backend must share; subclasses supply the store
+abstract class DocumentStoreContractTest {
+
+    protected abstract DocumentStore store();
+
+    @Test
+    void identicalContentIsStoredOnceUnderItsSha256() throws Exception {
+        byte[] bytes = randomBytes(200_000);
+        DocumentStore.StoredContent first = store().put(new ByteArrayInputStream(bytes));
+        DocumentStore.StoredContent second = store().put(new ByteArrayInputStream(bytes.clone()));
+
+        assertEquals(first.key(), second.key());
+        assertEquals(bytes.length, first.size());
+        assertTrue(DocumentStore.KEY_PATTERN.matcher(first.key()).matches());
+        assertEquals(bytes.length, store().stat(first.key()).orElseThrow().size());
+    }
+
+    @Test
+    void copyRangeReturnsExactlyTheRequestedBytes() throws Exception {
+        byte[] bytes = randomBytes(100_000);
+        String key = store().put(new ByteArrayInputStream(bytes)).key();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store().copyRange(key, 1_000, 50_000, out);
+        assertArrayEquals(Arrays.copyOfRange(bytes, 1_000, 51_000), out.toByteArray());
+
+        out.reset();
+        store().copyRange(key, 0, bytes.length, out);
+        assertArrayEquals(bytes, out.toByteArray());
+    }
+
+    @Test
+    void deletedContentIsGoneAndBadKeysAreRejected() throws Exception {
+        String key = store().put(new ByteArrayInputStream(randomBytes(1_000))).key();
+        store().delete(key);
+
+        assertTrue(store().stat(key).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> store().stat("../../etc/passwd"));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,61 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+
+class ExportWriterTest {
+
+    @Test
+    void csvQuotesSpecialCharactersAndDefusesFormulas() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of(ExportFormat.CSV, out);
+        writer.columns(List.of("id", "reason", "amount", "date"));
+        writer.row(new Object[] {1L, "Late, \"urgent\"", new BigDecimal("1E+3"), LocalDate.of(2025, 3, 1)});
+        writer.row(new Object[] {2L, "=HYPERLINK(\"x\")", null, null});
+        writer.finish();
+
+        assertEquals("\uFEFFid,reason,amount,date\r\n"
+                + "1,\"Late, \"\"urgent\"\"\",1000,2025-03-01\r\n"
+                + "2,\"'=HYPERLINK(\"\"x\"\")\",,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void xlsxIsAZippedWorkbookWithEscapedInlineStrings() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of(ExportFormat.XLSX, out);
+        writer.columns(List.of("id", "note"));
+        writer.row(new Object[] {7, "a < b & c\u0001"});
+        writer.finish();
+
+        Map<String, String> parts = unzip(out.toByteArray());
+        assertEquals(5, parts.size());
+        assertTrue(parts.get("xl/workbook.xml").contains("<sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/>"));
+        assertTrue(parts.get("[Content_Types].xml").contains("/xl/worksheets/sheet1.xml"));
+        assertTrue(parts.get("xl/worksheets/sheet1.xml").contains(
+                "<row><c><v>7</v></c><c t=\"inlineStr\"><is><t xml:space=\"preserve\">a &lt; b &amp; c</t></is></c></row>"));
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,24 @@
+package com.docsync.app.service;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalDocumentStoreTest extends DocumentStoreContractTest {
+
+    @TempDir
+    Path root;
+
+    private LocalDocumentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalDocumentStore(root);
+    }
+
+    @Override
+    protected DocumentStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,145 @@
+package com.docsync.app.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.docsync.app.bean.Notification;
+import com.docsync.app.bean.OutboxEvent;
+import com.docsync.app.bean.User;
+import com.docsync.app.dao.BulkInsertRepository;
+import com.docsync.app.dao.OutboxEventRepository;
+import com.docsync.app.dao.UserRepository;
+import com.docsync.app.dto.DoctorUserLink;
+import com.docsync.app.dto.NotificationDelta;
+
+// Failure isolation of the drain loop; NotificationOutboxTest covers the happy path end to end
+class NotificationDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OutboxEventRepository outbox = mock(OutboxEventRepository.class);
+    private final UserRepository users = mock(UserRepository.class);
+    private final BulkInsertRepository bulkInsert = mock(BulkInsertRepository.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private NotificationDispatcher dispatcher;
+
+    private final OutboxEvent good = event(1L, 10L, "Leave approved");
+    private final OutboxEvent poison = event(2L, 20L, "poison");
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        dispatcher = new NotificationDispatcher(outbox, users, bulkInsert, notificationService, publisher,
+                transactionManager, 500, MAX_ATTEMPTS, Duration.ofDays(7));
+
+        when(users.findLinksByDoctorIds(any())).thenAnswer(invocation -> {
+            Collection<Long> doctorIds = invocation.getArgument(0);
+            return doctorIds.stream().map(id -> new DoctorUserLink(id, id + 100)).toList();
+        });
+        when(users.getReferenceById(anyLong())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+        // Any batch containing the poison event fails, as a constraint violation on its row would
+        when(bulkInsert.insertNotifications(any())).thenAnswer(invocation -> {
+            List<Notification> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(n -> "poison".equals(n.getMessage()))) {
+                throw new IllegalStateException("insert failed");
+            }
+            long id = 1000;
+            for (Notification n : rows) {
+                n.setId(id++);
+            }
+            return rows.size();
+        });
+        when(outbox.lockPending(MAX_ATTEMPTS, 500)).thenReturn(List.of(good, poison));
+        when(outbox.lockPendingById(1L)).thenReturn(List.of(good));
+        when(outbox.lockPendingById(2L)).thenReturn(List.of(poison));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void failedBatchIsRetriedOneEventAtATime() {
+        when(outbox.findById(2L)).thenReturn(Optional.of(attempts(poison, 1)));
+
+        dispatcher.requestDrain();
+
+        // The good event is delivered and bumps its user's unread count; the poison one only records a failure
+        verify(publisher, timeout(5000)).publishEvent(argThat((Object e) -> e instanceof NotificationDelta d && d.userId() == 110L));
+        verify(notificationService).onDelivered(110L);
+        verify(outbox).markDispatched(eq(List.of(1L)), any());
+        verify(outbox, timeout(5000)).recordFailure(2L);
+        verify(outbox, never()).recordFailure(1L);
+        verify(notificationService, never()).onDelivered(120L);
+    }
+
+    @Test
+    void parkedEventsAreNoLongerPickedUp() {
+        when(outbox.findById(2L)).thenReturn(Optional.of(attempts(poison, MAX_ATTEMPTS)));
+
+        dispatcher.requestDrain();
+
+        verify(outbox, timeout(5000)).recordFailure(2L);
+        // lockPending filters on failed_attempts < maxAttempts, which is what keeps a parked event out
+        verify(outbox).lockPending(MAX_ATTEMPTS, 500);
+    }
+
+    @Test
+    void pushFailureAfterCommitDoesNotStopTheDrain() {
+        OutboxEvent second = event(3L, 30L, "Grievance answered");
+        when(outbox.lockPending(MAX_ATTEMPTS, 500)).thenReturn(List.of(good, second));
+        doThrow(new IllegalStateException("listener failed"))
+                .when(publisher).publishEvent(argThat((Object e) -> e instanceof NotificationDelta d && d.userId() == 110L));
+
+        dispatcher.requestDrain();
+
+        verify(notificationService, timeout(5000)).onDelivered(130L);
+        verify(outbox).markDispatched(eq(List.of(1L, 3L)), any());
+    }
+
+    private static OutboxEvent event(Long id, Long doctorId, String message) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setEventType(NotificationOutbox.LEAVE_APPROVED);
+        event.setRecipientDoctorId(doctorId);
+        event.setMessage(message);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    private static OutboxEvent attempts(OutboxEvent event, int failedAttempts) {
+        OutboxEvent copy = event(event.getId(), event.getRecipientDoctorId(), event.getMessage());
+        copy.setFailedAttempts(failedAttempts);
+        return copy;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
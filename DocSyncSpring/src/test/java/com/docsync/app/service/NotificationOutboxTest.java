@@ -0,0 +1,101 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.docsync.app.bean.Doctor;
+import com.docsync.app.bean.User;
+import com.docsync.app.dao.DoctorRepository;
+import com.docsync.app.dao.UserRepository;
+import com.docsync.app.dto.NotificationView;
+
+// Outbox row -> dispatcher -> notification row + in-memory unread counter, on the real beans
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationOutboxTest {
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private DoctorRepository doctorRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Doctor doctor;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Doctor d = new Doctor();
+        d.setFirstName("Outbox");
+        d.setLastName("Test");
+        d.setEmail("outbox-" + UUID.randomUUID() + "@docsync.test");
+        d.setStatus("ACTIVE");
+        doctor = doctorRepository.save(d);
+
+        User u = new User();
+        u.setUsername(d.getEmail());
+        u.setRole("DOCTOR");
+        u.setDoctor(doctor);
+        user = userRepository.save(u);
+    }
+
+    @Test
+    void committedEventReachesTheInboxAndBumpsTheCachedUnreadCount() throws Exception {
+        // Loads the counter into the cache, so the later value can only come from onDelivered
+        assertEquals(0, notificationService.getUnreadCount(user.getId()));
+
+        inTransaction(() -> notificationOutbox.notifyDoctor(doctor.getId(), NotificationOutbox.APPOINTMENT_BOOKED,
+                "New appointment booked for 3 Mar 2025, 10:00."));
+
+        awaitUnread(1);
+        List<NotificationView> inbox = notificationService.getInbox(user.getId(), null, 10).items();
+        assertEquals(1, inbox.size());
+        assertEquals("New appointment booked for 3 Mar 2025, 10:00.", inbox.get(0).message());
+    }
+
+    @Test
+    void rolledBackEventIsNeverDelivered() throws Exception {
+        assertEquals(0, notificationService.getUnreadCount(user.getId()));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            notificationOutbox.notifyDoctor(doctor.getId(), NotificationOutbox.LEAVE_APPROVED, "rolled back");
+            status.setRollbackOnly();
+        });
+        inTransaction(() -> notificationOutbox.notifyDoctor(doctor.getId(), NotificationOutbox.LEAVE_REJECTED,
+                "committed"));
+
+        awaitUnread(1);
+        List<NotificationView> inbox = notificationService.getInbox(user.getId(), null, 10).items();
+        assertEquals(List.of("committed"), inbox.stream().map(NotificationView::message).toList());
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+
+    private void awaitUnread(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (notificationService.getUnreadCount(user.getId()) < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("notification was not delivered");
+            }
+            Thread.sleep(20);
+        }
+        assertEquals(expected, notificationService.getUnreadCount(user.getId()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class PayrollCalculatorTest {
+
+    private final PayrollCalculator calculator = new PayrollCalculator(160, new BigDecimal("1.5"));
+
+    @Test
+    void appliesHikeAndPaysOvertimeAtMultiplier() {
+        PayrollCalculator.Result pay = calculator.compute(new PayrollCalculator.Inputs(
+                new BigDecimal("80000"), new BigDecimal("10"), 8, 0, 0, 30));
+
+        // 88000 monthly, 550/hour, 8h * 550 * 1.5 = 6600
+        assertEquals(new BigDecimal("94600.00"), pay.grossSalary());
+        assertEquals(new BigDecimal("0.00"), pay.deductions());
+        assertEquals(new BigDecimal("94600.00"), pay.netSalary());
+    }
+
+    @Test
+    void deductsOnlyLeaveDaysNotCoveredByPaidLeave() {
+        PayrollCalculator.Result pay = calculator.compute(new PayrollCalculator.Inputs(
+                new BigDecimal("60000"), null, 0, 5, 2, 30));
+
+        // 3 unpaid days of 2000
+        assertEquals(new BigDecimal("6000.00"), pay.deductions());
+        assertEquals(new BigDecimal("54000.00"), pay.netSalary());
+    }
+
+    @Test
+    void deductionsNeverExceedGross() {
+        PayrollCalculator.Result pay = calculator.compute(new PayrollCalculator.Inputs(
+                new BigDecimal("30000"), BigDecimal.ZERO, 0, 31, 0, 30));
+
+        assertEquals(pay.grossSalary(), pay.deductions());
+        assertEquals(new BigDecimal("0.00"), pay.netSalary());
+    }
+}
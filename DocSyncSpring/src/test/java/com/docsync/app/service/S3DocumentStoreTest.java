@@ -0,0 +1,68 @@
+package com.docsync.app.service;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+// Runs the DocumentStore contract against a throwaway MinIO; skipped when Docker is not available
+class S3DocumentStoreTest extends DocumentStoreContractTest {
+
+    private static final String BUCKET = "docsync-test";
+
+    private static GenericContainer<?> minio;
+    private static S3DocumentStore store;
+
+    @TempDir
+    static Path spool;
+
+    @BeforeAll
+    @SuppressWarnings("resource")
+    static void startMinio() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required for the S3 stand-in");
+        minio = new GenericContainer<>("minio/minio:RELEASE.2024-12-18T13-15-44Z")
+                .withEnv("MINIO_ROOT_USER", "docsync")
+                .withEnv("MINIO_ROOT_PASSWORD", "docsync-secret")
+                .withCommand("server", "/data")
+                .withExposedPorts(9000)
+                .waitingFor(Wait.forHttp("/minio/health/ready").forPort(9000));
+        minio.start();
+
+        S3Client s3 = S3Client.builder()
+                .endpointOverride(URI.create("http://" + minio.getHost() + ":" + minio.getMappedPort(9000)))
+                .forcePathStyle(true)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("docsync", "docsync-secret")))
+                .build();
+        s3.createBucket(b -> b.bucket(BUCKET));
+        store = new S3DocumentStore(s3, BUCKET, "documents/", spool);
+    }
+
+    @AfterAll
+    static void stopMinio() {
+        if (store != null) {
+            store.close();
+        }
+        if (minio != null) {
+            minio.stop();
+        }
+    }
+
+    @Override
+    protected DocumentStore store() {
+        return store;
+    }
+}